@@ -0,0 +1,23 @@
+-- Plans for the most common search shapes. Each should use one of the
+-- idx_vehicles_listed_* partial indexes and stop after LIMIT rows.
+\set on_error_stop on
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, vin, make, model, model_year, price, mileage, body_type, created_at FROM vehicles
+WHERE status = 'AVAILABLE' AND deleted_at IS NULL
+ORDER BY created_at DESC, id DESC LIMIT 21;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, vin, make, model, model_year, price, mileage, body_type, created_at FROM vehicles
+WHERE status = 'AVAILABLE' AND deleted_at IS NULL AND make = 'Toyota' AND model = 'Toyota 3'
+ORDER BY price ASC, id ASC LIMIT 21;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, vin, make, model, model_year, price, mileage, body_type, created_at FROM vehicles
+WHERE status = 'AVAILABLE' AND deleted_at IS NULL AND body_type = 'SUV' AND price <= 200000000
+ORDER BY price ASC, id ASC LIMIT 21;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, vin, make, model, model_year, price, mileage, body_type, created_at FROM vehicles
+WHERE status = 'AVAILABLE' AND deleted_at IS NULL AND model_year >= 2018 AND mileage <= 50000
+ORDER BY mileage ASC, id ASC LIMIT 21;
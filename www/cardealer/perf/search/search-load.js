@@ -0,0 +1,59 @@
+// Mixed inventory search load with a p99 budget. Seed first with seed_vehicles.sql.
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e RATE=300 search-load.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const RATE = parseInt(__ENV.RATE || '300', 10);
+const P99_MS = parseInt(__ENV.P99_MS || '50', 10);
+
+const makes = ['Toyota', 'Honda', 'Suzuki', 'Daihatsu', 'Mitsubishi', 'Nissan', 'Hyundai', 'Wuling', 'Mazda', 'BMW'];
+const bodies = ['SUV', 'SEDAN', 'MPV', 'HATCHBACK', 'PICKUP'];
+const sorts = ['NEWEST', 'PRICE_ASC', 'PRICE_DESC', 'YEAR_DESC', 'MILEAGE_ASC'];
+
+export const options = {
+  scenarios: {
+    search: {
+      executor: 'constant-arrival-rate',
+      rate: RATE,
+      timeUnit: '1s',
+      duration: '2m',
+      preAllocatedVUs: 100,
+      maxVUs: 500,
+    },
+  },
+  thresholds: {
+    http_req_duration: [`p(99)<${P99_MS}`],
+    http_req_failed: ['rate<0.01'],
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+const pick = (values) => values[Math.floor(Math.random() * values.length)];
+
+function query() {
+  const params = [`sort=${pick(sorts)}`, 'size=20'];
+  const make = pick(makes);
+
+  if (Math.random() < 0.6) params.push(`make=${make}`);
+  if (Math.random() < 0.3) params.push(`model=${encodeURIComponent(`${make} ${Math.floor(Math.random() * 12)}`)}`);
+  if (Math.random() < 0.4) params.push(`bodyType=${pick(bodies)}`);
+  if (Math.random() < 0.4) params.push(`yearMin=${2010 + Math.floor(Math.random() * 10)}`);
+  if (Math.random() < 0.4) params.push(`priceMax=${100000000 + Math.floor(Math.random() * 1000) * 1000000}`);
+  if (Math.random() < 0.2) params.push(`mileageMax=${Math.floor(Math.random() * 200) * 1000}`);
+  return params.join('&');
+}
+
+export default function () {
+  const first = http.get(`${BASE_URL}/vehicles/search?${query()}`, { tags: { name: 'search' } });
+  check(first, { 'search 200': (r) => r.status === 200 });
+
+  const cursor = first.status === 200 ? first.json('resource.nextCursor') : null;
+
+  if (cursor) {
+    const url = `${first.request.url}&cursor=${encodeURIComponent(cursor)}`;
+    const next = http.get(url, { tags: { name: 'search-next-page' } });
+    check(next, { 'next page 200': (r) => r.status === 200 });
+  }
+}
@@ -0,0 +1,32 @@
+-- Seeds one million vehicles for search benchmarks. Run against a scratch
+-- database that has the Flyway migrations applied:
+--   psql "$DATABASE_URL" -v rows=1000000 -f seed_vehicles.sql
+\set rows :rows
+\if :{?rows}
+\else
+  \set rows 1000000
+\endif
+
+WITH makes(idx, make) AS (
+    VALUES (0, 'Toyota'), (1, 'Honda'), (2, 'Suzuki'), (3, 'Daihatsu'), (4, 'Mitsubishi'),
+           (5, 'Nissan'), (6, 'Hyundai'), (7, 'Wuling'), (8, 'Mazda'), (9, 'BMW')
+), bodies(idx, body_type) AS (
+    VALUES (0, 'SUV'), (1, 'SEDAN'), (2, 'MPV'), (3, 'HATCHBACK'), (4, 'PICKUP')
+)
+INSERT INTO vehicles (id, vin, make, model, model_year, price, mileage, body_type, status, created_at, updated_at)
+SELECT gen_random_uuid(),
+       lpad(to_hex(g), 17, '0'),
+       m.make,
+       m.make || ' ' || (g % 12),
+       2005 + (g % 21),
+       (50000000 + (hashint4(g)::bigint & 1023) * 1500000)::numeric(12, 2),
+       (hashint4(g + 7) & 262143),
+       b.body_type,
+       CASE WHEN g % 10 = 0 THEN 'SOLD' WHEN g % 25 = 0 THEN 'RESERVED' ELSE 'AVAILABLE' END,
+       now() - make_interval(secs => g),
+       now()
+FROM generate_series(1, :rows) AS g
+JOIN makes m ON m.idx = g % 10
+JOIN bodies b ON b.idx = (g / 10) % 5;
+
+ANALYZE vehicles;
@@ -0,0 +1,24 @@
+#!/usr/bin/env bash
+# Latency of the text search queries against an ILIKE scan, on a database
+# seeded with ../seed_vehicles.sql (one million rows by default):
+#
+#   DATABASE_URL=postgres://... CLIENTS=8 DURATION=30 ./compare.sh
+set -euo pipefail
+
+cd "$(dirname "$0")"
+
+: "${DATABASE_URL:?}"
+CLIENTS="${CLIENTS:-8}"
+DURATION="${DURATION:-30}"
+
+psql "$DATABASE_URL" -qc 'VACUUM ANALYZE vehicles'
+
+printf '%-10s %10s %12s %12s\n' query tps avg_ms stddev_ms
+for script in ilike fulltext typo suggest; do
+  pgbench -n -f "$script.sql" -c "$CLIENTS" -j "$CLIENTS" -T "$DURATION" "$DATABASE_URL" \
+    | awk -v name="$script" '
+        /^latency average/ { avg = $4 }
+        /^latency stddev/ { dev = $4 }
+        /^tps/ { tps = $3 }
+        END { printf "%-10s %10.1f %12s %12s\n", name, tps, avg, dev }'
+done
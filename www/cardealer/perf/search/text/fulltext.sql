@@ -0,0 +1,9 @@
+-- Same query through VehicleTextSearchService's SQL, terms spelled correctly.
+\set n random(0, 11)
+SELECT id, vin, make, model, model_year, price, mileage, body_type, created_at,
+       ts_rank_cd(search_vector, to_tsquery('simple', 'toyota:* & ' || :n || ':*'))
+         + word_similarity('toyota ' || :n, search_text) AS rank
+FROM vehicles
+WHERE status = 'AVAILABLE' AND deleted_at IS NULL
+  AND (search_vector @@ to_tsquery('simple', 'toyota:* & ' || :n || ':*') OR ('toyota ' || :n) <% search_text)
+ORDER BY rank DESC, id LIMIT 21;
@@ -0,0 +1,6 @@
+-- Baseline: what a text box over make/model looks like without text indexes.
+\set n random(0, 11)
+SELECT id, vin, make, model, model_year, price, mileage, body_type, created_at FROM vehicles
+WHERE status = 'AVAILABLE' AND deleted_at IS NULL
+  AND (make || ' ' || model || ' ' || model_year || ' ' || body_type) ILIKE '%toyota ' || :n || '%'
+ORDER BY created_at DESC, id DESC LIMIT 21;
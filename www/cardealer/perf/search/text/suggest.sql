@@ -0,0 +1,5 @@
+-- Uncached suggestion query for a two-letter prefix.
+SELECT make, model, COUNT(*) AS listings FROM vehicles
+WHERE status = 'AVAILABLE' AND deleted_at IS NULL
+  AND (search_vector @@ to_tsquery('simple', 'to:*') OR 'to' <% search_text)
+GROUP BY make, model ORDER BY listings DESC, make, model LIMIT 20;
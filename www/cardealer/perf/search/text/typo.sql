@@ -0,0 +1,9 @@
+-- Misspelt make: the tsquery finds nothing and the trigram index has to.
+\set n random(0, 11)
+SELECT id, vin, make, model, model_year, price, mileage, body_type, created_at,
+       ts_rank_cd(search_vector, to_tsquery('simple', 'toyta:* & ' || :n || ':*'))
+         + word_similarity('toyta ' || :n, search_text) AS rank
+FROM vehicles
+WHERE status = 'AVAILABLE' AND deleted_at IS NULL
+  AND (search_vector @@ to_tsquery('simple', 'toyta:* & ' || :n || ':*') OR ('toyta ' || :n) <% search_text)
+ORDER BY rank DESC, id LIMIT 21;
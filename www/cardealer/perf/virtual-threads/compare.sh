@@ -0,0 +1,34 @@
+#!/usr/bin/env bash
+# Runs users-load.js against two instances of the app, one started with the
+# default profile and one with the virtual-threads profile, and prints
+# throughput and latency percentiles side by side.
+#
+#   PLATFORM_URL=http://localhost:8080 VIRTUAL_URL=http://localhost:8081 \
+#     TOKEN=<admin access token> VUS=800 ./compare.sh
+set -euo pipefail
+
+cd "$(dirname "$0")"
+
+: "${PLATFORM_URL:?}"
+: "${VIRTUAL_URL:?}"
+: "${TOKEN:?}"
+VUS="${VUS:-800}"
+OUT="${OUT:-target}"
+
+mkdir -p "$OUT"
+
+for mode in platform virtual; do
+  url_var="$(echo "$mode" | tr '[:lower:]' '[:upper:]')_URL"
+  k6 run --quiet -e BASE_URL="${!url_var}" -e TOKEN="$TOKEN" -e VUS="$VUS" \
+    --summary-export="$OUT/$mode.json" users-load.js
+done
+
+printf '%-10s %12s %10s %10s %10s\n' mode req/s p50_ms p99_ms failed
+for mode in platform virtual; do
+  jq -r --arg mode "$mode" '[$mode,
+      (.metrics.http_reqs.rate | floor),
+      (.metrics.http_req_duration["p(50)"] | . * 10 | round / 10),
+      (.metrics.http_req_duration["p(99)"] | . * 10 | round / 10),
+      (.metrics.http_req_failed.value)] | @tsv' "$OUT/$mode.json" \
+    | awk '{ printf "%-10s %12s %10s %10s %10s\n", $1, $2, $3, $4, $5 }'
+done
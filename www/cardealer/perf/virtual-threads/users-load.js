@@ -0,0 +1,42 @@
+// k6 load profile for comparing platform-thread and virtual-thread request handling.
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e TOKEN=<admin access token> \
+//     -e VUS=800 --summary-export=summary.json users-load.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const TOKEN = __ENV.TOKEN;
+const VUS = parseInt(__ENV.VUS || '800', 10);
+
+export const options = {
+  scenarios: {
+    users: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      stages: [
+        { duration: '30s', target: VUS },
+        { duration: '2m', target: VUS },
+        { duration: '15s', target: 0 },
+      ],
+      gracefulRampDown: '10s',
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+const params = { headers: { Authorization: `Bearer ${TOKEN}` } };
+
+export default function () {
+  const page = http.get(`${BASE_URL}/users?page=0&size=20&includeTotal=false`, params);
+  check(page, { 'list 200': (r) => r.status === 200 });
+
+  const body = page.status === 200 ? page.json() : null;
+  const users = body && body.resource && body.resource.data ? body.resource.data : [];
+
+  if (users.length > 0) {
+    const id = users[Math.floor(Math.random() * users.length)].id;
+    const one = http.get(`${BASE_URL}/users/${id}`, params);
+    check(one, { 'get 200': (r) => r.status === 200 });
+  }
+}
@@ -0,0 +1,140 @@
+package com.faisal.cardealer.benchmarks;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.GrantedAuthority;
+
+import com.faisal.cardealer.features.users.dto.UserDto;
+import com.faisal.cardealer.features.users.services.UserService;
+import com.faisal.cardealer.handlers.JwtAuthHandler;
+import com.faisal.cardealer.handlers.PrincipalEpochStore;
+import com.faisal.cardealer.handlers.UUIDv7Handler;
+import com.faisal.cardealer.models.Role;
+import com.faisal.cardealer.models.User;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Per-request security path: token issuing, verification with and without
+ * the claims cache, principal checks and the user mapping done on every
+ * authenticated response. Run through the {@code benchmark} profile, which
+ * enables {@code -prof gc} and writes {@code target/jmh-result.json}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthHotPathBenchmark {
+  private JwtAuthHandler jwtAuthHandler;
+  private UserService userService;
+  private User user;
+  private String accessToken;
+  private String refreshToken;
+  private Claims accessClaims;
+
+  @Setup
+  public void setUp() throws NoSuchAlgorithmException {
+    KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+    generator.initialize(2048);
+    KeyPair keyPair = generator.generateKeyPair();
+
+    jwtAuthHandler = new JwtAuthHandler(
+        (RSAPrivateKey) keyPair.getPrivate(),
+        (RSAPublicKey) keyPair.getPublic(),
+        900_000,
+        604_800_000,
+        new PrincipalEpochStore(null, 1_000, Duration.ofMinutes(5)));
+    userService = new UserService(null, null, null, null, 1_000);
+
+    user = new User();
+    user.setId(UUIDv7Handler.generate());
+    user.setUsername("benchmark");
+    user.setEmail("benchmark@example.com");
+    user.setFullname("Benchmark User");
+    user.setPhoneNumber("+620000000000");
+    user.setPassword("{noop}secret");
+    user.setIsActive(true);
+    user.setCreatedAt(LocalDateTime.now());
+    user.setUpdatedAt(LocalDateTime.now());
+    user.setRoles(Set.of(role(1L, "USER"), role(2L, "ADMIN")));
+
+    accessToken = jwtAuthHandler.generateToken(user);
+    refreshToken = jwtAuthHandler.generateRefreshToken(user, "benchmark", 0L);
+    accessClaims = jwtAuthHandler.decodeToken(accessToken);
+  }
+
+  @Benchmark
+  public String generateToken() {
+    return jwtAuthHandler.generateToken(user);
+  }
+
+  @Benchmark
+  public String generateRefreshToken() {
+    return jwtAuthHandler.generateRefreshToken(user, "benchmark", 0L);
+  }
+
+  @Benchmark
+  public Claims decodeToken() {
+    return jwtAuthHandler.decodeToken(accessToken);
+  }
+
+  @Benchmark
+  public Claims decodeTokenUncached() {
+    jwtAuthHandler.getClaimsCache().invalidateAll();
+    return jwtAuthHandler.decodeToken(accessToken);
+  }
+
+  @Benchmark
+  public boolean isTokenValid() {
+    return jwtAuthHandler.isTokenValid(refreshToken, user);
+  }
+
+  @Benchmark
+  public boolean isAccessTokenValid() {
+    return jwtAuthHandler.isAccessTokenValid(accessClaims);
+  }
+
+  @Benchmark
+  public UUID uuidV7Generate() {
+    return UUIDv7Handler.generate();
+  }
+
+  @Benchmark
+  public Collection<? extends GrantedAuthority> getAuthorities() {
+    return user.getAuthorities();
+  }
+
+  @Benchmark
+  public UserDto convertToUserDto() {
+    return userService.convertToUserDto(user);
+  }
+
+  private static Role role(Long id, String name) {
+    Role role = new Role();
+    role.setId(id);
+    role.setName(name);
+    return role;
+  }
+}
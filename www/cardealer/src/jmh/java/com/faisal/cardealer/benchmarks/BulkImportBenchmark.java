@@ -0,0 +1,133 @@
+package com.faisal.cardealer.benchmarks;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.faisal.cardealer.handlers.UUIDv7Handler;
+
+/**
+ * Rows per second for the two halves of the bulk import pipeline, one chunk
+ * per invocation: writing rows one statement and one commit at a time versus
+ * one JDBC batch in one transaction, and bcrypt hashing on the calling thread
+ * versus a bounded fork-join pool. Defaults to an in-memory H2 database; point
+ * it at PostgreSQL for numbers that include the network round trip:
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec \
+ *   -Djmh.args="BulkImportBenchmark -jvmArgs -Dbench.jdbc.url=jdbc:postgresql://localhost:5432/bench"
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class BulkImportBenchmark {
+  private static final int CHUNK = 500;
+  private static final int HASH_CHUNK = 32;
+
+  private Connection connection;
+  private PreparedStatement insert;
+  private BCryptPasswordEncoder passwordEncoder;
+  private ForkJoinPool workers;
+  private long sequence;
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    connection = DriverManager.getConnection(
+        System.getProperty("bench.jdbc.url", "jdbc:h2:mem:bulk_import;DB_CLOSE_DELAY=-1"),
+        System.getProperty("bench.jdbc.user", "sa"),
+        System.getProperty("bench.jdbc.password", ""));
+
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("DROP TABLE IF EXISTS bench_vehicles");
+      statement.execute("CREATE TABLE bench_vehicles (id uuid PRIMARY KEY, vin VARCHAR(17) UNIQUE NOT NULL,"
+          + " make VARCHAR(50) NOT NULL, model VARCHAR(80) NOT NULL, mileage INTEGER NOT NULL)");
+    }
+
+    insert = connection.prepareStatement(
+        "INSERT INTO bench_vehicles (id, vin, make, model, mileage) VALUES (?, ?, ?, ?, ?)");
+    passwordEncoder = new BCryptPasswordEncoder(Integer.getInteger("bench.bcrypt.strength", 10));
+    workers = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    workers.shutdownNow();
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("DROP TABLE IF EXISTS bench_vehicles");
+    }
+    connection.close();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(CHUNK)
+  public int insertRowByRow() throws SQLException {
+    connection.setAutoCommit(true);
+    int inserted = 0;
+    for (int i = 0; i < CHUNK; i++) {
+      bind(sequence++);
+      inserted += insert.executeUpdate();
+    }
+    return inserted;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(CHUNK)
+  public int insertBatched() throws SQLException {
+    connection.setAutoCommit(false);
+    for (int i = 0; i < CHUNK; i++) {
+      bind(sequence++);
+      insert.addBatch();
+    }
+    int inserted = insert.executeBatch().length;
+    connection.commit();
+    return inserted;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(HASH_CHUNK)
+  public List<String> hashSequential() {
+    return IntStream.range(0, HASH_CHUNK).mapToObj(i -> passwordEncoder.encode("Password" + i)).toList();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(HASH_CHUNK)
+  public List<String> hashOnPool() {
+    return workers.submit(() -> IntStream.range(0, HASH_CHUNK).parallel()
+        .mapToObj(i -> passwordEncoder.encode("Password" + i))
+        .toList())
+        .join();
+  }
+
+  private void bind(long n) throws SQLException {
+    insert.setObject(1, UUIDv7Handler.generate());
+    insert.setString(2, String.format("VIN%014d", n));
+    insert.setString(3, "Toyota");
+    insert.setString(4, "Camry");
+    insert.setInt(5, (int) (n % 200_000));
+  }
+}
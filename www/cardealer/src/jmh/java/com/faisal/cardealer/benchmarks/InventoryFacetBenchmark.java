@@ -0,0 +1,118 @@
+package com.faisal.cardealer.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.faisal.cardealer.features.search.dto.IndexedVehicle;
+import com.faisal.cardealer.features.search.dto.SearchRequestDto;
+import com.faisal.cardealer.features.search.dto.VehicleSort;
+import com.faisal.cardealer.features.search.services.InventoryFacetIndex;
+import com.faisal.cardealer.handlers.UUIDv7Handler;
+
+/**
+ * Filter + facet + top-20 queries against a synthetic inventory with a skewed
+ * make distribution. Setup prints the index's own size estimate and the heap
+ * retained by the index measured around a full GC.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = { "-Xmx2g" })
+@State(Scope.Benchmark)
+public class InventoryFacetBenchmark {
+  private static final String[] MAKES = {
+      "Toyota", "Honda", "Ford", "Chevrolet", "Nissan", "Hyundai", "Kia", "BMW", "Mercedes-Benz", "Volkswagen",
+      "Audi", "Mazda", "Subaru", "Lexus", "Jeep", "Tesla", "Volvo", "Porsche", "Mitsubishi", "Suzuki" };
+  private static final String[] BODY_TYPES = { "SEDAN", "SUV", "HATCHBACK", "PICKUP", "COUPE", "WAGON", "VAN" };
+
+  @Param({ "1000000" })
+  public int vehicles;
+
+  private InventoryFacetIndex index;
+  private SearchRequestDto unfiltered;
+  private SearchRequestDto makeAndBody;
+  private SearchRequestDto narrow;
+  private SearchRequestDto priceRange;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    long heapBefore = usedHeap();
+    var random = new SplittableRandom(42);
+    index = new InventoryFacetIndex();
+    long createdAt = 1_600_000_000_000L;
+
+    for (int i = 0; i < vehicles; i++) {
+      int make = Math.min((int) (-Math.log(1 - random.nextDouble()) * 4), MAKES.length - 1);
+      createdAt += random.nextInt(1, 60_000);
+      index.upsert(new IndexedVehicle(
+          UUIDv7Handler.generate(),
+          MAKES[make],
+          MAKES[make] + " " + random.nextInt(12),
+          random.nextInt(2000, 2026),
+          random.nextLong(300_000L, 15_000_000L),
+          random.nextInt(250_000),
+          BODY_TYPES[random.nextInt(BODY_TYPES.length)],
+          createdAt,
+          random.nextInt(20) != 0));
+    }
+    index.optimize();
+
+    long heapAfter = usedHeap();
+    System.out.printf("%nInventory facet index: %,d listed of %,d vehicles%n", index.size(), vehicles);
+    System.out.printf("  bitmaps  %,d bytes%n", index.bitmapSizeInBytes());
+    System.out.printf("  arrays   %,d bytes%n", index.arraySizeInBytes());
+    System.out.printf("  retained %,d bytes (heap delta around a full GC)%n",
+        heapAfter - heapBefore);
+
+    unfiltered = new SearchRequestDto(null, null, null, null, null, null, null, null, VehicleSort.NEWEST);
+    makeAndBody = new SearchRequestDto("Honda", null, null, null, null, null, null, "SUV", VehicleSort.PRICE_ASC);
+    narrow = new SearchRequestDto("BMW", "BMW 3", 2018, 2022, null, new BigDecimal("60000"), 80_000, null,
+        VehicleSort.MILEAGE_ASC);
+    priceRange = new SearchRequestDto(null, null, 2015, null, new BigDecimal("20000"), new BigDecimal("30000"), null,
+        null, VehicleSort.YEAR_DESC);
+  }
+
+  @Benchmark
+  public InventoryFacetIndex.Result unfilteredNewest() {
+    return index.query(unfiltered, 20);
+  }
+
+  @Benchmark
+  public InventoryFacetIndex.Result makeAndBodyByPrice() {
+    return index.query(makeAndBody, 20);
+  }
+
+  @Benchmark
+  public InventoryFacetIndex.Result narrowByMileage() {
+    return index.query(narrow, 20);
+  }
+
+  @Benchmark
+  public InventoryFacetIndex.Result priceRangeByYear() {
+    return index.query(priceRange, 20);
+  }
+
+  private static long usedHeap() {
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+  }
+}
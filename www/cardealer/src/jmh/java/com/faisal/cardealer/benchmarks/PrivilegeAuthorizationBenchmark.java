@@ -0,0 +1,104 @@
+package com.faisal.cardealer.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+import com.faisal.cardealer.annotations.RequiresPrivilege;
+import com.faisal.cardealer.features.roles.services.PrivilegeAuthorizationManager;
+import com.faisal.cardealer.features.roles.services.RbacSnapshot;
+import com.faisal.cardealer.handlers.JwtPrincipal;
+import com.faisal.cardealer.handlers.UUIDv7Handler;
+
+/**
+ * One method-security decision for an admin calling a users endpoint:
+ * Spring's {@code @PreAuthorize("hasAnyRole(...)")} path, which builds an
+ * evaluation context and evaluates SpEL per call, against the compiled
+ * {@link RequiresPrivilege} rule tested on the RBAC snapshot's bitsets.
+ * {@code roles} sizes the role graph the snapshot was built from.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrivilegeAuthorizationBenchmark {
+  @Param({ "10", "2000" })
+  public int roles;
+
+  private PreAuthorizeAuthorizationManager spel;
+  private PrivilegeAuthorizationManager privileges;
+  private SimpleMethodInvocation preAuthorizeInvocation;
+  private SimpleMethodInvocation privilegeInvocation;
+  private Authentication authentication;
+
+  @Setup
+  public void setUp() throws NoSuchMethodException {
+    Map<String, List<String>> graph = new HashMap<>();
+    for (int i = 0; i < roles; i++) {
+      var granted = new ArrayList<String>();
+      for (int j = 0; j < 10; j++) {
+        granted.add("privilege." + (i * 31 + j) % (roles * 5));
+      }
+      graph.put("ROLE_" + i, granted);
+    }
+    graph.put("ADMIN", List.of("users:read", "users:update", "users:delete"));
+    var snapshot = new RbacSnapshot(1, graph);
+
+    spel = new PreAuthorizeAuthorizationManager();
+    privileges = new PrivilegeAuthorizationManager(() -> snapshot, null);
+
+    var endpoints = new Endpoints();
+    preAuthorizeInvocation = new SimpleMethodInvocation(endpoints, Endpoints.class.getMethod("preAuthorize"));
+    privilegeInvocation = new SimpleMethodInvocation(endpoints, Endpoints.class.getMethod("requiresPrivilege"));
+
+    var principal = new JwtPrincipal(UUIDv7Handler.generate(), "admin@example.com", "Admin", List.of("ADMIN"),
+        snapshot.grants(List.of("ADMIN")).authorities());
+    authentication = UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities());
+
+    if (!spel.authorize(() -> authentication, preAuthorizeInvocation).isGranted()
+        || !privileges.authorize(() -> authentication, privilegeInvocation).isGranted()) {
+      throw new IllegalStateException("Both paths must grant the admin.");
+    }
+  }
+
+  @Benchmark
+  public boolean spelPreAuthorize() {
+    return spel.authorize(() -> authentication, preAuthorizeInvocation).isGranted();
+  }
+
+  @Benchmark
+  public boolean compiledPrivilege() {
+    return privileges.authorize(() -> authentication, privilegeInvocation).isGranted();
+  }
+
+  public static class Endpoints {
+    @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
+    public void preAuthorize() {
+    }
+
+    @RequiresPrivilege("users:read")
+    public void requiresPrivilege() {
+    }
+  }
+}
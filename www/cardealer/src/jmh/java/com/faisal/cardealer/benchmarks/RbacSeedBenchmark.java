@@ -0,0 +1,121 @@
+package com.faisal.cardealer.benchmarks;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.faisal.cardealer.features.roles.dto.PrivilegeDefinitionDto;
+import com.faisal.cardealer.features.roles.dto.RbacSeedResultDto;
+import com.faisal.cardealer.features.roles.dto.RoleDefinitionDto;
+import com.faisal.cardealer.features.roles.services.RbacSeedService;
+import com.faisal.cardealer.models.Privileges;
+import com.faisal.cardealer.models.Role;
+import com.faisal.cardealer.models.User;
+
+/**
+ * Seeds an RBAC graph into an empty schema through {@link RbacSeedService}
+ * with JDBC batching off ({@code batchSize=1}) and on. Reports milliseconds
+ * per seed and the number of JDBC statements Hibernate prepared. Defaults to
+ * an in-memory H2 database and 2,000 roles granted 20 of 20,000 privileges
+ * each; point it at a scratch PostgreSQL database for real round trips:
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec \
+ *   -Djmh.args="RbacSeedBenchmark -jvmArgs -Dbench.jdbc.url=jdbc:postgresql://localhost:5432/bench"
+ * </pre>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class RbacSeedBenchmark {
+  private static final int ROLES = Integer.getInteger("bench.rbac.roles", 2_000);
+  private static final int PRIVILEGES = Integer.getInteger("bench.rbac.privileges", 20_000);
+  private static final int GRANTS_PER_ROLE = Integer.getInteger("bench.rbac.grants", 20);
+
+  @Param({ "1", "50" })
+  public int batchSize;
+
+  private SessionFactory sessionFactory;
+  private List<PrivilegeDefinitionDto> privileges;
+  private List<RoleDefinitionDto> roles;
+
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class Counters {
+    public long statements;
+    public long rows;
+  }
+
+  @Setup(Level.Trial)
+  public void setUpGraph() {
+    privileges = IntStream.range(0, PRIVILEGES)
+        .mapToObj(i -> new PrivilegeDefinitionDto("privilege." + i, "category." + i % 50, "Privilege " + i))
+        .toList();
+    roles = IntStream.range(0, ROLES)
+        .mapToObj(i -> {
+          var granted = new LinkedHashSet<String>();
+          for (int j = 0; j < GRANTS_PER_ROLE; j++) {
+            granted.add("privilege." + (int) ((i * 7919L + j * 104_729L) % PRIVILEGES));
+          }
+          return new RoleDefinitionDto("ROLE_" + i, "Role " + i, granted);
+        })
+        .toList();
+  }
+
+  @Setup(Level.Iteration)
+  public void setUpSchema() {
+    sessionFactory = new Configuration()
+        .addAnnotatedClass(User.class)
+        .addAnnotatedClass(Role.class)
+        .addAnnotatedClass(Privileges.class)
+        .setProperty(AvailableSettings.JAKARTA_JDBC_URL,
+            System.getProperty("bench.jdbc.url", "jdbc:h2:mem:rbac_seed;DB_CLOSE_DELAY=-1"))
+        .setProperty(AvailableSettings.JAKARTA_JDBC_USER, System.getProperty("bench.jdbc.user", "sa"))
+        .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, System.getProperty("bench.jdbc.password", ""))
+        .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+        .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, Integer.toString(batchSize))
+        .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+        .setProperty(AvailableSettings.GENERATE_STATISTICS, "true")
+        .buildSessionFactory();
+  }
+
+  @TearDown(Level.Iteration)
+  public void tearDownSchema() {
+    sessionFactory.close();
+  }
+
+  @Benchmark
+  public RbacSeedResultDto seed(Counters counters) {
+    var statistics = sessionFactory.getStatistics();
+    statistics.clear();
+
+    RbacSeedResultDto result = sessionFactory.fromTransaction(
+        session -> new RbacSeedService(session, event -> { }, Math.max(batchSize, 50)).seed(privileges, roles));
+
+    counters.statements += statistics.getPrepareStatementCount();
+    counters.rows += result.privileges() + result.roles() + result.grants();
+    return result;
+  }
+}
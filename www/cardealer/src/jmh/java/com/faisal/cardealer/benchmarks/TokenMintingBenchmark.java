@@ -0,0 +1,148 @@
+package com.faisal.cardealer.benchmarks;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.faisal.cardealer.handlers.JwtAuthHandler;
+import com.faisal.cardealer.handlers.JwtTokenPair;
+import com.faisal.cardealer.handlers.PrincipalEpochStore;
+import com.faisal.cardealer.handlers.UUIDv7Handler;
+import com.faisal.cardealer.models.Role;
+import com.faisal.cardealer.models.User;
+
+import io.jsonwebtoken.Jwts;
+
+/**
+ * Tokens minted per second on a single thread (so per core), for the current
+ * JwtAuthHandler and for the minting code it replaced.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenMintingBenchmark {
+  private JwtAuthHandler jwtAuthHandler;
+  private LegacyMinter legacyMinter;
+  private User user;
+
+  @Setup
+  public void setUp() throws NoSuchAlgorithmException {
+    KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+    generator.initialize(2048);
+    KeyPair keyPair = generator.generateKeyPair();
+
+    jwtAuthHandler = new JwtAuthHandler(
+        (RSAPrivateKey) keyPair.getPrivate(),
+        (RSAPublicKey) keyPair.getPublic(),
+        900_000,
+        604_800_000,
+        new PrincipalEpochStore(null, 1_000, Duration.ofMinutes(5)));
+    legacyMinter = new LegacyMinter((RSAPrivateKey) keyPair.getPrivate(), 900_000, 604_800_000);
+
+    Role role = new Role();
+    role.setId(1L);
+    role.setName("USER");
+
+    user = new User();
+    user.setId(UUIDv7Handler.generate());
+    user.setEmail("benchmark@example.com");
+    user.setFullname("Benchmark User");
+    user.setRoles(Set.of(role));
+  }
+
+  @Benchmark
+  public String accessToken() {
+    return jwtAuthHandler.generateToken(user);
+  }
+
+  @Benchmark
+  public JwtTokenPair tokenPair() {
+    return jwtAuthHandler.generateTokenPair(user, "benchmark", 0L);
+  }
+
+  @Benchmark
+  public String legacyAccessToken() throws UnknownHostException {
+    return legacyMinter.accessToken(user);
+  }
+
+  @Benchmark
+  public String[] legacyTokenPair() throws UnknownHostException {
+    return new String[] { legacyMinter.accessToken(user), legacyMinter.refreshToken(user) };
+  }
+
+  /** Token minting as it was before the issuer, clock and ID source were cached. */
+  record LegacyMinter(RSAPrivateKey privateKey, int jwtExpirationMs, int refreshTokenExpirationMs) {
+    String accessToken(User user) throws UnknownHostException {
+      List<String> userRoles = user.getRoles().stream().map(Role::getName).toList();
+
+      SecureRandom random = new SecureRandom(new byte[16]);
+      var jwtId = Integer.toHexString(random.nextInt());
+
+      ZoneId zoneId = ZoneId.of("Asia/Jakarta");
+      LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Jakarta"));
+
+      var claims = new HashMap<String, Object>();
+      claims.put("name", user.getFullname());
+      claims.put("email", user.getEmail());
+      claims.put("roles", userRoles);
+      claims.put("epoch", 0L);
+
+      return Jwts.builder()
+          .claims(claims)
+          .issuer(InetAddress.getLocalHost().getHostName())
+          .subject(user.getId().toString())
+          .expiration(Date.from(now.plus(jwtExpirationMs, ChronoUnit.MILLIS).atZone(zoneId).toInstant()))
+          .notBefore(Date.from(now.atZone(zoneId).toInstant()))
+          .issuedAt(Date.from(now.atZone(zoneId).toInstant()))
+          .id(jwtId)
+          .signWith(privateKey)
+          .compact();
+    }
+
+    String refreshToken(User user) throws UnknownHostException {
+      SecureRandom random = new SecureRandom(new byte[16]);
+      var refreshTokenId = Integer.toHexString(random.nextInt());
+
+      ZoneId zoneId = ZoneId.of("Asia/Jakarta");
+      LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Jakarta"));
+
+      return Jwts.builder()
+          .issuer(InetAddress.getLocalHost().getHostName())
+          .subject(user.getEmail())
+          .expiration(Date.from(now.plus(refreshTokenExpirationMs, ChronoUnit.MILLIS).atZone(zoneId).toInstant()))
+          .notBefore(Date.from(now.atZone(zoneId).toInstant()))
+          .issuedAt(Date.from(now.atZone(zoneId).toInstant()))
+          .id(refreshTokenId)
+          .signWith(privateKey)
+          .compact();
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package com.faisal.cardealer.benchmarks;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.faisal.cardealer.handlers.UUIDv7Handler;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UUIDv7Benchmark {
+  @Benchmark
+  public UUID generate() {
+    return UUIDv7Handler.generate();
+  }
+
+  @Benchmark
+  @Threads(4)
+  public UUID generateContended() {
+    return UUIDv7Handler.generate();
+  }
+
+  @Benchmark
+  public UUID legacyGenerate() {
+    return LegacyUUIDv7.generate();
+  }
+
+  /** The generator as it was before the RFC 9562 rewrite, kept as a baseline. */
+  static final class LegacyUUIDv7 {
+    static UUID generate() {
+      long timestamp = System.currentTimeMillis();
+      var random = new SecureRandom();
+
+      long mostSigBits = (timestamp << 16);
+      long leastSigBits = random.nextLong();
+
+      return new UUID(mostSigBits, leastSigBits);
+    }
+  }
+}
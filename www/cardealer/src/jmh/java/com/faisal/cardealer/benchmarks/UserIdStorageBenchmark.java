@@ -0,0 +1,139 @@
+package com.faisal.cardealer.benchmarks;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.faisal.cardealer.handlers.UUIDv7Handler;
+
+/**
+ * Insert and primary-key lookup throughput for a native {@code uuid} key bound
+ * as {@link UUID} versus a {@code varchar(36)} key bound as text. Needs a
+ * scratch PostgreSQL database:
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec \
+ *   -Djmh.args="UserIdStorageBenchmark -jvmArgs -Dbench.jdbc.url=jdbc:postgresql://localhost:5432/bench"
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class UserIdStorageBenchmark {
+  private static final int SEED_ROWS = 100_000;
+
+  private Connection connection;
+  private PreparedStatement insertUuid;
+  private PreparedStatement insertText;
+  private PreparedStatement selectUuid;
+  private PreparedStatement selectText;
+  private UUID[] seeded;
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    connection = DriverManager.getConnection(
+        System.getProperty("bench.jdbc.url", "jdbc:postgresql://localhost:5432/cardealer_bench"),
+        System.getProperty("bench.jdbc.user", "postgres"),
+        System.getProperty("bench.jdbc.password", "postgres"));
+
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("DROP TABLE IF EXISTS bench_users_uuid, bench_users_text");
+      statement.execute("CREATE TABLE bench_users_uuid (id uuid PRIMARY KEY, email VARCHAR(100) NOT NULL)");
+      statement.execute("CREATE TABLE bench_users_text (id VARCHAR(36) PRIMARY KEY, email VARCHAR(100) NOT NULL)");
+    }
+
+    insertUuid = connection.prepareStatement("INSERT INTO bench_users_uuid (id, email) VALUES (?, ?)");
+    insertText = connection.prepareStatement("INSERT INTO bench_users_text (id, email) VALUES (?, ?)");
+    selectUuid = connection.prepareStatement("SELECT email FROM bench_users_uuid WHERE id = ?");
+    selectText = connection.prepareStatement("SELECT email FROM bench_users_text WHERE id = ?");
+
+    seeded = new UUID[SEED_ROWS];
+    connection.setAutoCommit(false);
+
+    for (int i = 0; i < SEED_ROWS; i++) {
+      seeded[i] = UUIDv7Handler.generate();
+      insertUuid.setObject(1, seeded[i]);
+      insertUuid.setString(2, "seed" + i + "@example.com");
+      insertUuid.addBatch();
+      insertText.setString(1, seeded[i].toString());
+      insertText.setString(2, "seed" + i + "@example.com");
+      insertText.addBatch();
+    }
+
+    insertUuid.executeBatch();
+    insertText.executeBatch();
+    connection.commit();
+    connection.setAutoCommit(true);
+
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("ANALYZE bench_users_uuid");
+      statement.execute("ANALYZE bench_users_text");
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("DROP TABLE IF EXISTS bench_users_uuid, bench_users_text");
+    }
+    connection.close();
+  }
+
+  @Benchmark
+  public int insertNativeUuid() throws SQLException {
+    insertUuid.setObject(1, UUIDv7Handler.generate());
+    insertUuid.setString(2, "bench@example.com");
+    return insertUuid.executeUpdate();
+  }
+
+  @Benchmark
+  public int insertVarcharId() throws SQLException {
+    insertText.setString(1, UUIDv7Handler.generate().toString());
+    insertText.setString(2, "bench@example.com");
+    return insertText.executeUpdate();
+  }
+
+  @Benchmark
+  public String lookupNativeUuid() throws SQLException {
+    selectUuid.setObject(1, randomSeeded());
+    return firstString(selectUuid);
+  }
+
+  @Benchmark
+  public String lookupVarcharId() throws SQLException {
+    selectText.setString(1, randomSeeded().toString());
+    return firstString(selectText);
+  }
+
+  private UUID randomSeeded() {
+    return seeded[ThreadLocalRandom.current().nextInt(seeded.length)];
+  }
+
+  private static String firstString(PreparedStatement statement) throws SQLException {
+    try (ResultSet resultSet = statement.executeQuery()) {
+      return resultSet.next() ? resultSet.getString(1) : null;
+    }
+  }
+}
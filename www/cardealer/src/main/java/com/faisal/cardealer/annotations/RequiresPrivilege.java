@@ -0,0 +1,22 @@
+package com.faisal.cardealer.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Requires the caller's roles to grant privileges from the {@code privileges}
+ * table. A method annotation overrides one on its class.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+public @interface RequiresPrivilege {
+  /** Privilege names, e.g. {@code users:read}. */
+  String[] value();
+
+  /** Whether every privilege is required rather than any one of them. */
+  boolean all() default false;
+}
@@ -0,0 +1,9 @@
+package com.faisal.cardealer.cache;
+
+import java.io.IOException;
+
+public interface CacheCodec<V> {
+  byte[] encode(V value) throws IOException;
+
+  V decode(byte[] bytes) throws IOException;
+}
@@ -0,0 +1,221 @@
+package com.faisal.cardealer.cache;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Read-through cache with a bounded in-process tier in front of Redis. Values
+ * are stored in Redis in the binary form produced by the cache's codec.
+ *
+ * <p>A load that overlaps an eviction of its key is returned to the caller
+ * but not cached: it may have read the row before the change that caused the
+ * eviction, and writing it back afterwards would keep the old value until
+ * the TTL.
+ */
+public class TwoTierCache<V> {
+  private static final Logger LOG = LoggerFactory.getLogger(TwoTierCache.class);
+
+  private final String name;
+  private final CacheCodec<V> codec;
+  private final Duration ttl;
+  private final Cache<String, V> local;
+  private final @Nullable RedisTemplate<String, byte[]> redisTemplate;
+  private final TwoTierCacheManager manager;
+  /** Keys with a load in flight; evictions bump their generation. */
+  private final ConcurrentHashMap<String, PendingLoad> pendingLoads = new ConcurrentHashMap<>();
+
+  TwoTierCache(
+      String name,
+      CacheCodec<V> codec,
+      long maximumSize,
+      Duration ttl,
+      @Nullable RedisTemplate<String, byte[]> redisTemplate,
+      TwoTierCacheManager manager) {
+    this.name = name;
+    this.codec = codec;
+    this.ttl = ttl;
+    this.local = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(ttl)
+        .recordStats()
+        .build();
+    this.redisTemplate = redisTemplate;
+    this.manager = manager;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public Cache<String, V> getLocalCache() {
+    return local;
+  }
+
+  public Optional<V> get(String key, Supplier<Optional<V>> loader) {
+    V value = local.getIfPresent(key);
+
+    if (value != null) {
+      return Optional.of(value);
+    }
+
+    long generation = beginLoad(key);
+    boolean written = false;
+    try {
+      value = readRemote(key);
+
+      if (value == null) {
+        value = loader.get().orElse(null);
+
+        if (value != null) {
+          writeRemote(key, value);
+          written = true;
+        }
+      }
+    } finally {
+      if (!endLoad(key, generation, value) && written) {
+        deleteRemote(List.of(key));
+      }
+    }
+    return Optional.ofNullable(value);
+  }
+
+  public void put(String key, V value) {
+    writeRemote(key, value);
+    local.put(key, value);
+  }
+
+  /**
+   * Evicts the keys from both tiers and notifies the other nodes. Inside a
+   * transaction the eviction is deferred until after commit so a concurrent
+   * read cannot repopulate the cache with the old row.
+   */
+  public void evict(String... keys) {
+    List<String> evicted = List.of(keys);
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          evictNow(evicted);
+        }
+      });
+      return;
+    }
+    evictNow(evicted);
+  }
+
+  void evictLocal(String key) {
+    invalidateLocal(List.of(key));
+  }
+
+  private void evictNow(List<String> keys) {
+    invalidateLocal(keys);
+
+    if (redisTemplate == null) {
+      return;
+    }
+
+    deleteRemote(keys);
+    manager.publishEviction(name, keys);
+  }
+
+  private void invalidateLocal(List<String> keys) {
+    for (String key : keys) {
+      pendingLoads.computeIfPresent(key, (k, pending) -> {
+        pending.generation++;
+        return pending;
+      });
+    }
+    local.invalidateAll(keys);
+  }
+
+  private long beginLoad(String key) {
+    long[] generation = new long[1];
+    pendingLoads.compute(key, (k, pending) -> {
+      pending = pending == null ? new PendingLoad() : pending;
+      pending.loaders++;
+      generation[0] = pending.generation;
+      return pending;
+    });
+    return generation[0];
+  }
+
+  /**
+   * Caches {@code value} locally unless the key was evicted since the load
+   * began. The check and the put are atomic with respect to evictions, so
+   * an eviction either sees the value and removes it or is seen here.
+   */
+  private boolean endLoad(String key, long generation, @Nullable V value) {
+    boolean[] current = new boolean[1];
+    pendingLoads.compute(key, (k, pending) -> {
+      current[0] = pending.generation == generation;
+      if (current[0] && value != null) {
+        local.put(key, value);
+      }
+      return --pending.loaders == 0 ? null : pending;
+    });
+    return current[0];
+  }
+
+  private void deleteRemote(List<String> keys) {
+    if (redisTemplate == null) {
+      return;
+    }
+
+    try {
+      redisTemplate.delete(keys.stream().map(this::remoteKey).toList());
+    } catch (DataAccessException e) {
+      LOG.warn("Failed to evict {} from Redis cache '{}': {}", keys, name, e.getMessage());
+    }
+  }
+
+  private @Nullable V readRemote(String key) {
+    if (redisTemplate == null) {
+      return null;
+    }
+
+    try {
+      byte[] bytes = redisTemplate.opsForValue().get(remoteKey(key));
+      return bytes == null ? null : codec.decode(bytes);
+    } catch (DataAccessException | IOException e) {
+      LOG.warn("Failed to read '{}' from Redis cache '{}': {}", key, name, e.getMessage());
+      return null;
+    }
+  }
+
+  private void writeRemote(String key, V value) {
+    if (redisTemplate == null) {
+      return;
+    }
+
+    try {
+      redisTemplate.opsForValue().set(remoteKey(key), codec.encode(value), ttl);
+    } catch (DataAccessException | IOException e) {
+      LOG.warn("Failed to write '{}' to Redis cache '{}': {}", key, name, e.getMessage());
+    }
+  }
+
+  private String remoteKey(String key) {
+    return "cache:" + name + ":" + key;
+  }
+
+  private static final class PendingLoad {
+    private long generation;
+    private int loaders;
+  }
+}
@@ -0,0 +1,85 @@
+package com.faisal.cardealer.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Creates {@link TwoTierCache} instances and keeps their in-process tiers
+ * coherent across nodes: evictions are published as {@code <cache>|<key>} on
+ * a Redis channel and every node drops the key from its local tier.
+ */
+@Component
+public class TwoTierCacheManager implements MessageListener {
+  public static final String CHANNEL = "cardealer:cache-invalidation";
+  private static final char SEPARATOR = '|';
+  private static final Logger LOG = LoggerFactory.getLogger(TwoTierCacheManager.class);
+
+  private final @Nullable RedisTemplate<String, byte[]> redisTemplate;
+  private final @Nullable MeterRegistry meterRegistry;
+  private final Map<String, TwoTierCache<?>> caches = new ConcurrentHashMap<>();
+
+  public TwoTierCacheManager(
+      @Nullable RedisTemplate<String, byte[]> binaryRedisTemplate,
+      @Nullable MeterRegistry meterRegistry) {
+    this.redisTemplate = binaryRedisTemplate;
+    this.meterRegistry = meterRegistry;
+  }
+
+  public <V> TwoTierCache<V> create(String name, CacheCodec<V> codec, long maximumSize, Duration ttl) {
+    var cache = new TwoTierCache<>(name, codec, maximumSize, ttl, redisTemplate, this);
+
+    if (caches.putIfAbsent(name, cache) != null) {
+      throw new IllegalStateException("Cache '" + name + "' is already registered.");
+    }
+
+    if (meterRegistry != null) {
+      CaffeineCacheMetrics.monitor(meterRegistry, cache.getLocalCache(), name);
+    }
+    return cache;
+  }
+
+  void publishEviction(String cacheName, List<String> keys) {
+    if (redisTemplate == null) {
+      return;
+    }
+
+    try {
+      for (String key : keys) {
+        redisTemplate.convertAndSend(CHANNEL, (cacheName + SEPARATOR + key).getBytes(StandardCharsets.UTF_8));
+      }
+    } catch (DataAccessException e) {
+      LOG.warn("Failed to publish eviction of {} from cache '{}': {}", keys, cacheName, e.getMessage());
+    }
+  }
+
+  @Override
+  public void onMessage(Message message, byte @Nullable [] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    int separator = body.indexOf(SEPARATOR);
+
+    if (separator <= 0) {
+      return;
+    }
+
+    TwoTierCache<?> cache = caches.get(body.substring(0, separator));
+
+    if (cache != null) {
+      cache.evictLocal(body.substring(separator + 1));
+    }
+  }
+}
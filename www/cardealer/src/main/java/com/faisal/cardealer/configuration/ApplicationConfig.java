@@ -1,17 +1,30 @@
 package com.faisal.cardealer.configuration;
 
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.faisal.cardealer.features.users.repositories.UserRepository;
+import com.faisal.cardealer.handlers.JwtAuthHandler;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
 @Configuration
+@EnableScheduling
 public class ApplicationConfig {
   private final UserRepository userRepository;
 
@@ -31,7 +44,47 @@ public class ApplicationConfig {
   }
 
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder(12);
+  public MeterBinder jwtClaimsCacheMetrics(JwtAuthHandler jwtAuthHandler) {
+    return registry -> CaffeineCacheMetrics.monitor(registry, jwtAuthHandler.getClaimsCache().getCache(), "jwt.claims");
+  }
+
+  /**
+   * Encodes with {@code security.password.encoder} and still verifies every
+   * other supported algorithm. Hashes stored before the {@code {id}} prefix was
+   * introduced are plain bcrypt.
+   */
+  @Bean
+  public PasswordEncoder passwordEncoder(
+      @Value("${security.password.encoder:bcrypt}") String encoderId,
+      @Value("${security.password.bcrypt.strength:12}") int bcryptStrength,
+      @Value("${security.password.argon2.salt-length:16}") int argon2SaltLength,
+      @Value("${security.password.argon2.hash-length:32}") int argon2HashLength,
+      @Value("${security.password.argon2.parallelism:1}") int argon2Parallelism,
+      @Value("${security.password.argon2.memory-kib:19456}") int argon2MemoryKib,
+      @Value("${security.password.argon2.iterations:2}") int argon2Iterations) {
+    var bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+    Map<String, PasswordEncoder> encoders = Map.of(
+        "bcrypt", bcrypt,
+        "argon2", new Argon2PasswordEncoder(
+            argon2SaltLength, argon2HashLength, argon2Parallelism, argon2MemoryKib, argon2Iterations));
+
+    var passwordEncoder = new DelegatingPasswordEncoder(encoderId, encoders);
+    passwordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+    return passwordEncoder;
+  }
+
+  /**
+   * Groups inserts and updates per table into JDBC batches. Entities that take
+   * their id from an identity column are still written one by one, which is
+   * why roles and privileges use pooled sequences.
+   */
+  @Bean
+  public HibernatePropertiesCustomizer jdbcBatchingCustomizer(
+      @Value("${jpa.jdbc.batch-size:50}") int batchSize) {
+    return properties -> {
+      properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+      properties.put(AvailableSettings.ORDER_INSERTS, true);
+      properties.put(AvailableSettings.ORDER_UPDATES, true);
+    };
   }
 }
@@ -0,0 +1,60 @@
+package com.faisal.cardealer.configuration;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import com.faisal.cardealer.cache.TwoTierCacheManager;
+import com.faisal.cardealer.features.auth.services.InMemoryRefreshTokenStore;
+import com.faisal.cardealer.features.auth.services.RedisRefreshTokenStore;
+import com.faisal.cardealer.features.auth.services.RefreshTokenStore;
+import com.faisal.cardealer.features.roles.services.RbacService;
+import com.faisal.cardealer.features.search.services.InventoryFacetService;
+import com.faisal.cardealer.handlers.PrincipalEpochStore;
+
+@Configuration
+public class RedisConfig {
+  private static final Logger LOG = LoggerFactory.getLogger(RedisConfig.class);
+
+  @Bean
+  public RedisTemplate<String, byte[]> binaryRedisTemplate(RedisConnectionFactory connectionFactory) {
+    var template = new RedisTemplate<String, byte[]>();
+    template.setConnectionFactory(connectionFactory);
+    template.setKeySerializer(RedisSerializer.string());
+    template.setValueSerializer(RedisSerializer.byteArray());
+    return template;
+  }
+
+  @Bean
+  public RefreshTokenStore refreshTokenStore(@Nullable StringRedisTemplate stringRedisTemplate) {
+    if (stringRedisTemplate == null) {
+      LOG.warn("No Redis connection configured, refresh tokens are kept in memory on this node only.");
+      return new InMemoryRefreshTokenStore();
+    }
+    return new RedisRefreshTokenStore(stringRedisTemplate);
+  }
+
+  @Bean
+  public RedisMessageListenerContainer redisMessageListenerContainer(
+      RedisConnectionFactory connectionFactory,
+      PrincipalEpochStore principalEpochStore,
+      TwoTierCacheManager twoTierCacheManager,
+      InventoryFacetService inventoryFacetService,
+      RbacService rbacService) {
+    var container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(connectionFactory);
+    container.addMessageListener(principalEpochStore, new ChannelTopic(PrincipalEpochStore.CHANNEL));
+    container.addMessageListener(twoTierCacheManager, new ChannelTopic(TwoTierCacheManager.CHANNEL));
+    container.addMessageListener(inventoryFacetService, new ChannelTopic(InventoryFacetService.CHANNEL));
+    container.addMessageListener(rbacService, new ChannelTopic(RbacService.CHANNEL));
+    return container;
+  }
+}
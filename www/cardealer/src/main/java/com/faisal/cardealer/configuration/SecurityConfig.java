@@ -3,9 +3,20 @@ package com.faisal.cardealer.configuration;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
 
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.Pointcuts;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.method.AuthorizationInterceptorsOrder;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -13,7 +24,10 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import com.faisal.cardealer.annotations.RequiresPrivilege;
+import com.faisal.cardealer.features.roles.services.PrivilegeAuthorizationManager;
 import com.faisal.cardealer.handlers.JwtAuthenticationFilter;
+import com.faisal.cardealer.handlers.RateLimitFilter;
 
 @Configuration
 @EnableWebSecurity
@@ -26,9 +40,11 @@ public class SecurityConfig {
   private RSAPrivateKey privateKey;
 
   private final JwtAuthenticationFilter jwtAuthenticationFilter;
+  private final RateLimitFilter rateLimitFilter;
 
-  public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter) {
+  public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter, RateLimitFilter rateLimitFilter) {
     this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+    this.rateLimitFilter = rateLimitFilter;
   }
 
   @Bean
@@ -39,13 +55,35 @@ public class SecurityConfig {
         .authorizeHttpRequests(authorize -> authorize
             .requestMatchers("/")
             .permitAll()
-            .requestMatchers("/auth/client/**")
-            .hasAnyRole("SALES", "MANAGER", "CUSTOMER", "MARKETING", "SUPPORT", "FINANCE", "USER")
-            .requestMatchers("/auth/admin/**")
-            .hasAnyRole("ADMIN", "SUPER_ADMIN")
+            .requestMatchers(HttpMethod.POST, "/auth/register", "/auth/login", "/auth/refresh")
+            .permitAll()
+            .requestMatchers(HttpMethod.GET,
+                "/vehicles/search", "/vehicles/search/text", "/vehicles/suggest", "/vehicles/facets")
+            .permitAll()
             .anyRequest()
             .authenticated())
         .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+        .addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class)
         .build();
   }
+
+  /**
+   * Enforces {@link RequiresPrivilege} right after {@code @PreAuthorize}. The
+   * manager is looked up lazily because advisors are created before the
+   * services it depends on.
+   */
+  @Bean
+  @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+  static Advisor requiresPrivilegeAuthorization(ObjectProvider<PrivilegeAuthorizationManager> managers) {
+    AuthorizationManager<MethodInvocation> manager =
+        (authentication, invocation) -> managers.getObject().authorize(authentication, invocation);
+    var interceptor = new AuthorizationManagerBeforeMethodInterceptor(
+        Pointcuts.union(
+            new AnnotationMatchingPointcut(RequiresPrivilege.class, true),
+            new AnnotationMatchingPointcut(null, RequiresPrivilege.class, true)),
+        manager);
+
+    interceptor.setOrder(AuthorizationInterceptorsOrder.PRE_AUTHORIZE.getOrder() + 1);
+    return interceptor;
+  }
 }
@@ -5,18 +5,25 @@ import java.util.Objects;
 
 public record PaginationPayload<T>(
     Collection<T> data,
-    int totalPages,
-    long totalElements,
+    Integer totalPages,
+    Long totalElements,
     int size,
     int page,
-    boolean hasNext) {
-  public PaginationPayload(Collection<T> data, int totalPages, long totalElements, int size, int page,
-      boolean hasNext) {
+    boolean hasNext,
+    String nextCursor) {
+  public PaginationPayload(Collection<T> data, Integer totalPages, Long totalElements, int size, int page,
+      boolean hasNext, String nextCursor) {
     this.data = Objects.requireNonNull(data);
-    this.totalPages = Objects.requireNonNull(totalPages);
-    this.totalElements = Objects.requireNonNull(totalElements);
+    this.totalPages = totalPages;
+    this.totalElements = totalElements;
     this.size = Objects.requireNonNull(size);
     this.page = Objects.requireNonNull(page);
     this.hasNext = Objects.requireNonNull(hasNext);
+    this.nextCursor = nextCursor;
+  }
+
+  public PaginationPayload(Collection<T> data, int totalPages, long totalElements, int size, int page,
+      boolean hasNext) {
+    this(data, Integer.valueOf(totalPages), Long.valueOf(totalElements), size, page, hasNext, null);
   }
 }
@@ -0,0 +1,11 @@
+package com.faisal.cardealer.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.PRECONDITION_REQUIRED)
+public class PreconditionRequiredException extends RuntimeException {
+  public PreconditionRequiredException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,91 @@
+package com.faisal.cardealer.features.auth.controllers;
+
+import java.time.LocalDateTime;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import com.faisal.cardealer.dto.ResponsePayload;
+import com.faisal.cardealer.features.auth.dto.LoginRequestDto;
+import com.faisal.cardealer.features.auth.dto.LoginResponseDto;
+import com.faisal.cardealer.features.auth.dto.RefreshTokenRequestDto;
+import com.faisal.cardealer.features.auth.dto.RefreshTokenResponseDto;
+import com.faisal.cardealer.features.auth.dto.RegisterRequestDto;
+import com.faisal.cardealer.features.auth.dto.RegisterResponseDto;
+import com.faisal.cardealer.features.auth.services.AuthService;
+import com.faisal.cardealer.features.users.dto.UserDto;
+import com.faisal.cardealer.features.users.dto.UserVersion;
+import com.faisal.cardealer.handlers.CacheControlPolicies;
+import com.faisal.cardealer.handlers.JwtPrincipal;
+
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/auth")
+public class AuthController {
+  private final AuthService authService;
+  private final CacheControlPolicies cacheControl;
+
+  public AuthController(AuthService authService, CacheControlPolicies cacheControl) {
+    this.authService = authService;
+    this.cacheControl = cacheControl;
+  }
+
+  @PostMapping("/register")
+  public ResponseEntity<ResponsePayload> register(@Valid @RequestBody RegisterRequestDto request) {
+    RegisterResponseDto tokens = authService.register(request);
+    return ResponseEntity.status(HttpStatus.CREATED).body(new ResponsePayload(
+        HttpStatus.CREATED.value(), true, "User registered successfully.", LocalDateTime.now().toString(), tokens));
+  }
+
+  @PostMapping("/login")
+  public ResponseEntity<ResponsePayload> login(@Valid @RequestBody LoginRequestDto request) {
+    LoginResponseDto tokens = authService.login(request);
+    return ResponseEntity.ok(new ResponsePayload(
+        HttpStatus.OK.value(), true, "User logged in successfully.", LocalDateTime.now().toString(), tokens));
+  }
+
+  @PostMapping("/refresh")
+  public ResponseEntity<ResponsePayload> refresh(@Valid @RequestBody RefreshTokenRequestDto request) {
+    RefreshTokenResponseDto tokens = authService.refresh(request);
+    return ResponseEntity.ok(new ResponsePayload(
+        HttpStatus.OK.value(), true, "Token refreshed successfully.", LocalDateTime.now().toString(), tokens));
+  }
+
+  @GetMapping("/me")
+  public ResponseEntity<ResponsePayload> me(@AuthenticationPrincipal JwtPrincipal currentUser, WebRequest webRequest) {
+    UserVersion current = authService.profileVersion(currentUser.getId());
+    if (webRequest.checkNotModified(current.etag(), current.lastModified())) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .header(HttpHeaders.CACHE_CONTROL, cacheControl.profile())
+          .build();
+    }
+
+    UserDto user = authService.me(currentUser.getId());
+    UserVersion version = new UserVersion(user.version(), user.updatedAt());
+    return ResponseEntity.ok()
+        .eTag(version.etag())
+        .headers(headers -> {
+          if (version.lastModified() >= 0) {
+            headers.setLastModified(version.lastModified());
+          }
+        })
+        .header(HttpHeaders.CACHE_CONTROL, cacheControl.profile())
+        .body(new ResponsePayload(
+            HttpStatus.OK.value(), true, "User retrieved successfully.", version.timestamp(), user));
+  }
+
+  @PostMapping("/logout-all")
+  public ResponseEntity<Void> logoutAll(@AuthenticationPrincipal JwtPrincipal currentUser) {
+    authService.revokeAllSessions(currentUser.getId());
+    return ResponseEntity.noContent().build();
+  }
+}
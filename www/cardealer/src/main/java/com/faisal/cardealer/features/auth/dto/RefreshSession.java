@@ -0,0 +1,6 @@
+package com.faisal.cardealer.features.auth.dto;
+
+import java.util.UUID;
+
+public record RefreshSession(UUID userId, String familyId) {
+}
@@ -1,6 +1,9 @@
 package com.faisal.cardealer.features.auth.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import jakarta.validation.constraints.NotBlank;
 
-public record RefreshTokenRequestDto(@NotBlank(message = "Refresh token cannot be blank.") String refreshToken) {
+public record RefreshTokenRequestDto(
+    @NotBlank(message = "Refresh token cannot be blank.") @JsonProperty("refresh_token") String refreshToken) {
 }
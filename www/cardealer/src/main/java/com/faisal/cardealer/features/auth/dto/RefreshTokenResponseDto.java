@@ -1,8 +1,14 @@
 package com.faisal.cardealer.features.auth.dto;
 
-public record RefreshTokenResponseDto(String accessToken, String type) {
-  public RefreshTokenResponseDto(String accessToken, String type) {
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record RefreshTokenResponseDto(
+    @JsonProperty("access_token") String accessToken,
+    @JsonProperty("refresh_token") String refreshToken,
+    String type) {
+  public RefreshTokenResponseDto(String accessToken, String refreshToken, String type) {
     this.accessToken = accessToken;
+    this.refreshToken = refreshToken;
     this.type = type;
   }
 }
@@ -2,30 +2,34 @@ package com.faisal.cardealer.features.auth.services;
 
 import java.util.HashMap;
 import java.util.Set;
+import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.http.HttpHeaders;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.faisal.cardealer.exceptions.BadRequestException;
 import com.faisal.cardealer.exceptions.ResourceNotFoundException;
 import com.faisal.cardealer.exceptions.UnauthorizedException;
 import com.faisal.cardealer.features.auth.dto.LoginRequestDto;
 import com.faisal.cardealer.features.auth.dto.LoginResponseDto;
+import com.faisal.cardealer.features.auth.dto.RefreshTokenRequestDto;
 import com.faisal.cardealer.features.auth.dto.RefreshTokenResponseDto;
 import com.faisal.cardealer.features.auth.dto.RegisterRequestDto;
 import com.faisal.cardealer.features.auth.dto.RegisterResponseDto;
+import com.faisal.cardealer.features.roles.dto.CachedRole;
 import com.faisal.cardealer.features.roles.repositories.RoleRepository;
+import com.faisal.cardealer.features.roles.services.RoleCacheService;
 import com.faisal.cardealer.features.users.dto.UserDto;
+import com.faisal.cardealer.features.users.dto.UserVersion;
 import com.faisal.cardealer.features.users.repositories.UserRepository;
-import com.faisal.cardealer.handlers.JwtAuthHandler;
+import com.faisal.cardealer.features.users.services.UserCacheService;
+import com.faisal.cardealer.handlers.PrincipalEpochStore;
 import com.faisal.cardealer.models.Role;
 import com.faisal.cardealer.models.User;
 
-import jakarta.servlet.http.HttpServletRequest;
-
 @Service
 public class AuthService {
 
@@ -34,37 +38,59 @@ public class AuthService {
 
   private final UserRepository userRepository;
   private final RoleRepository roleRepository;
-  private final PasswordEncoder passwordEncoder;
-  private final JwtAuthHandler jwtAuthHandler;
-
-  public AuthService(UserRepository userRepository, RoleRepository roleRepository, PasswordEncoder passwordEncoder,
-      JwtAuthHandler jwtAuthHandler) {
+  private final RoleCacheService roleCacheService;
+  private final UserCacheService userCacheService;
+  private final PasswordHashingService passwordHashingService;
+  private final RefreshTokenService refreshTokenService;
+  private final PrincipalEpochStore principalEpochStore;
+  private final TransactionTemplate transactionTemplate;
+
+  public AuthService(UserRepository userRepository, RoleRepository roleRepository, RoleCacheService roleCacheService,
+      UserCacheService userCacheService, PasswordHashingService passwordHashingService,
+      RefreshTokenService refreshTokenService, PrincipalEpochStore principalEpochStore,
+      PlatformTransactionManager transactionManager) {
     this.userRepository = userRepository;
     this.roleRepository = roleRepository;
-    this.passwordEncoder = passwordEncoder;
-    this.jwtAuthHandler = jwtAuthHandler;
+    this.roleCacheService = roleCacheService;
+    this.userCacheService = userCacheService;
+    this.passwordHashingService = passwordHashingService;
+    this.refreshTokenService = refreshTokenService;
+    this.principalEpochStore = principalEpochStore;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
   }
 
-  @Transactional
+  /**
+   * Hashes the password before opening the transaction, so the slow hash does
+   * not hold a pooled connection; only the conflict check, the insert and the
+   * token issue run inside it.
+   */
   public RegisterResponseDto register(RegisterRequestDto request) {
-    if (userRepository.existsActiveByUsername(request.username())) {
+    String password = passwordHashingService.encode(request.password());
+    return transactionTemplate.execute(status -> createUser(request, password));
+  }
+
+  private RegisterResponseDto createUser(RegisterRequestDto request, String password) {
+    var conflicts = userRepository.findActiveIdentityConflicts(request.username(), request.email());
+
+    if (conflicts.stream().anyMatch(conflict -> conflict.username().equals(request.username()))) {
       log.error("User registration failed: Username '{}' is already taken.", request.username());
-      throw new IllegalArgumentException("Username '" + request.username() + "' is already taken.");
+      throw new BadRequestException("Username '" + request.username() + "' is already taken.");
     }
 
-    if (userRepository.existsActiveByEmail(request.email())) {
+    if (!conflicts.isEmpty()) {
       log.error("User registration failed: Email '{}' is already registered.", request.email());
-      throw new IllegalArgumentException("Email '" + request.email() + "' is already registered.");
+      throw new BadRequestException("Email '" + request.email() + "' is already registered.");
     }
 
-    Role customerRole = roleRepository.findByName(DEFAULT_ROLE)
+    CachedRole defaultRole = roleCacheService.findByName(DEFAULT_ROLE)
         .orElseThrow(() -> new IllegalStateException(
             "Default role '" + DEFAULT_ROLE + "' not found. Run database seed first."));
+    Role customerRole = roleRepository.getReferenceById(defaultRole.id());
 
     User user = new User();
     user.setUsername(request.username());
     user.setEmail(request.email());
-    user.setPassword(passwordEncoder.encode(request.password()));
+    user.setPassword(password);
     user.setFullname(request.fullName());
     user.setPhoneNumber(request.phoneNumber());
     user.setIsActive(true);
@@ -77,22 +103,28 @@ public class AuthService {
     /**
      * SETUP TOKENS
      */
-    var jwt = jwtAuthHandler.generateToken(user);
-    var refreshToken = jwtAuthHandler.generateRefreshToken(user);
+    var tokenPair = refreshTokenService.issue(user);
     var tokens = new HashMap<String, Object>();
-    tokens.put("access_token", jwt);
-    tokens.put("refresh_token", refreshToken);
+    tokens.put("access_token", tokenPair.accessToken());
+    tokens.put("refresh_token", tokenPair.refreshToken());
 
     return new RegisterResponseDto(tokens, "bearer");
   }
 
   public LoginResponseDto login(LoginRequestDto request) {
     User user = userRepository.findActiveByEmail(request.email())
-        .orElseThrow(() -> new IllegalArgumentException("Invalid email or password."));
+        .orElseThrow(() -> new UnauthorizedException("Invalid email or password."));
 
-    if (!passwordEncoder.matches(request.password(), user.getPassword())) {
+    if (!passwordHashingService.matches(request.password(), user.getPassword())) {
       log.error("User login failed: Invalid password for email '{}'.", request.email());
-      throw new IllegalArgumentException("Invalid email or password.");
+      throw new UnauthorizedException("Invalid email or password.");
+    }
+
+    if (passwordHashingService.needsUpgrade(user.getPassword())) {
+      String upgraded = passwordHashingService.encode(request.password());
+      if (userRepository.upgradePassword(user.getId(), user.getPassword(), upgraded) > 0) {
+        log.info("Upgraded password hash for user '{}'.", user.getEmail());
+      }
     }
 
     log.info("User logged in successfully: {}", user.getEmail());
@@ -100,70 +132,44 @@ public class AuthService {
     /**
      * SETUP TOKENS
      */
-    var jwt = jwtAuthHandler.generateToken(user);
-    var refreshToken = jwtAuthHandler.generateRefreshToken(user);
+    var tokenPair = refreshTokenService.issue(user);
     var tokens = new HashMap<String, Object>();
-    tokens.put("access_token", jwt);
-    tokens.put("refresh_token", refreshToken);
+    tokens.put("access_token", tokenPair.accessToken());
+    tokens.put("refresh_token", tokenPair.refreshToken());
 
     return new LoginResponseDto(tokens, "bearer");
   }
 
-  public UserDto me(HttpServletRequest request) {
-    final String header = request.getHeader(HttpHeaders.AUTHORIZATION);
-
-    if (header == null || !header.startsWith("Bearer ")) {
-      log.error("Missing or invalid Authorization header.");
-      throw new com.faisal.cardealer.exceptions.BadRequestException("Missing or invalid Authorization header.");
-    }
-
-    final String jwt = header.substring(7);
-    final String userEmail = jwtAuthHandler.extractUsername(jwt);
-
-    var user = userRepository.findActiveByEmail(userEmail)
+  public UserDto me(UUID userId) {
+    var user = userCacheService.findById(userId)
         .orElseThrow(() -> new ResourceNotFoundException("User doesn't exist."));
 
-    if (!jwtAuthHandler.isTokenValid(jwt, user)) {
-      log.error("Invalid or expired JWT for user '{}'.", userEmail);
-      throw new UnauthorizedException("Invalid or expired jwt.");
-    }
+    log.info("User '{}' accessed their profile information.", userId);
 
-    log.info("User '{}' accessed their profile information.", userEmail);
-
-    return new UserDto(
-        user.getId(),
-        user.getUsername(),
-        user.getEmail(),
-        user.getFullname(),
-        user.getPhoneNumber(),
-        user.getRoles().stream().map(Role::getName).collect(java.util.stream.Collectors.toSet()),
-        user.getCreatedAt(),
-        user.getUpdatedAt());
+    return user.toDto();
   }
 
-  public RefreshTokenResponseDto refresh(HttpServletRequest request) {
-    final String header = request.getHeader(HttpHeaders.AUTHORIZATION);
-
-    if (header == null || !header.startsWith("Bearer ")) {
-      log.error("Missing or invalid Authorization header for token refresh.");
-      throw new com.faisal.cardealer.exceptions.BadRequestException("Missing or invalid Authorization header.");
-    }
-
-    final String jwt = header.substring(7);
-    final String userEmail = jwtAuthHandler.extractUsername(jwt);
-
-    var user = userRepository.findActiveByEmail(userEmail)
+  public UserVersion profileVersion(UUID userId) {
+    return userCacheService.findVersionById(userId)
         .orElseThrow(() -> new ResourceNotFoundException("User doesn't exist."));
+  }
 
-    if (!jwtAuthHandler.isTokenValid(jwt, user)) {
-      log.error("Invalid or expired refresh token for user '{}'.", userEmail);
-      throw new UnauthorizedException("Invalid or expired refresh token.");
-    }
+  public RefreshTokenResponseDto refresh(RefreshTokenRequestDto request) {
+    var tokenPair = refreshTokenService.rotate(request.refreshToken(), userRepository::findActiveWithRolesById);
 
-    var newAccessToken = jwtAuthHandler.generateToken(user);
+    log.info("Refresh token rotated successfully.");
+
+    return new RefreshTokenResponseDto(tokenPair.accessToken(), tokenPair.refreshToken(), "bearer");
+  }
 
-    log.info("Access token refreshed successfully for user '{}'.", userEmail);
+  /**
+   * Signs the user out everywhere: all refresh tokens stop working and access
+   * tokens issued so far are rejected on their next request.
+   */
+  public void revokeAllSessions(UUID userId) {
+    refreshTokenService.revokeAll(userId);
+    principalEpochStore.bump(userId);
 
-    return new RefreshTokenResponseDto(newAccessToken, "bearer");
+    log.info("Revoked all sessions for user '{}'.", userId);
   }
 }
@@ -0,0 +1,71 @@
+package com.faisal.cardealer.features.auth.services;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.faisal.cardealer.features.auth.dto.RefreshSession;
+
+/**
+ * Single-node stand-in for {@link RedisRefreshTokenStore}, used in tests and
+ * when no Redis connection is configured. Expired entries are dropped lazily.
+ */
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+  private record Expiring<T>(T value, Instant expiresAt) {
+  }
+
+  private final Clock clock;
+  private final Map<String, Expiring<RefreshSession>> tokens = new ConcurrentHashMap<>();
+  private final Map<String, Instant> revokedFamilies = new ConcurrentHashMap<>();
+  private final Map<UUID, Long> generations = new ConcurrentHashMap<>();
+
+  public InMemoryRefreshTokenStore() {
+    this(Clock.systemUTC());
+  }
+
+  public InMemoryRefreshTokenStore(Clock clock) {
+    this.clock = clock;
+  }
+
+  @Override
+  public void save(String tokenId, RefreshSession session, Duration ttl) {
+    tokens.put(tokenId, new Expiring<>(session, clock.instant().plus(ttl)));
+  }
+
+  @Override
+  public Optional<RefreshSession> consume(String tokenId) {
+    return Optional.ofNullable(tokens.remove(tokenId))
+        .filter(entry -> entry.expiresAt().isAfter(clock.instant()))
+        .map(Expiring::value);
+  }
+
+  @Override
+  public void revokeFamily(String familyId, Duration ttl) {
+    revokedFamilies.put(familyId, clock.instant().plus(ttl));
+  }
+
+  @Override
+  public boolean isFamilyRevoked(String familyId) {
+    Instant expiresAt = revokedFamilies.get(familyId);
+
+    if (expiresAt != null && !expiresAt.isAfter(clock.instant())) {
+      revokedFamilies.remove(familyId, expiresAt);
+      return false;
+    }
+    return expiresAt != null;
+  }
+
+  @Override
+  public long currentGeneration(UUID userId) {
+    return generations.getOrDefault(userId, 0L);
+  }
+
+  @Override
+  public long revokeAll(UUID userId) {
+    return generations.merge(userId, 1L, Long::sum);
+  }
+}
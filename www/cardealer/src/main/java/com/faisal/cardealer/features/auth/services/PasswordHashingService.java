@@ -0,0 +1,138 @@
+package com.faisal.cardealer.features.auth.services;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.faisal.cardealer.exceptions.ServiceUnavailableException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs password hashing on a small dedicated pool so a burst of logins cannot
+ * occupy every servlet thread. The queue is bounded; when it is full callers
+ * fail fast with 503 and a {@code Retry-After} hint instead of piling up.
+ * Those rejections and hashes that outlive the timeout are counted apart, in
+ * {@code auth.password.hashing.rejected} and {@code auth.password.hashing.timeout}.
+ */
+@Service
+public class PasswordHashingService {
+  private static final Logger LOG = LoggerFactory.getLogger(PasswordHashingService.class);
+  private static final String METRIC = "auth.password.hashing";
+
+  private final PasswordEncoder passwordEncoder;
+  private final ThreadPoolExecutor executor;
+  private final Duration timeout;
+  private final Duration retryAfter;
+  private final MeterRegistry meterRegistry;
+
+  public PasswordHashingService(
+      PasswordEncoder passwordEncoder,
+      @Nullable MeterRegistry meterRegistry,
+      @Value("${security.password.hashing.threads:0}") int threads,
+      @Value("${security.password.hashing.queue-capacity:64}") int queueCapacity,
+      @Value("${security.password.hashing.timeout:PT5S}") Duration timeout,
+      @Value("${security.password.hashing.retry-after:PT1S}") Duration retryAfter) {
+    int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    var counter = new AtomicInteger();
+
+    this.passwordEncoder = passwordEncoder;
+    this.timeout = timeout;
+    this.retryAfter = retryAfter;
+    this.meterRegistry = meterRegistry != null ? meterRegistry : new SimpleMeterRegistry();
+    this.executor = new ThreadPoolExecutor(
+        poolSize,
+        poolSize,
+        0L,
+        TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        runnable -> {
+          Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.AbortPolicy());
+
+    ExecutorServiceMetrics.monitor(this.meterRegistry, executor, "password-hashing");
+  }
+
+  public String encode(String rawPassword) {
+    return submit("encode", () -> passwordEncoder.encode(rawPassword));
+  }
+
+  public boolean matches(String rawPassword, String encodedPassword) {
+    return submit("matches", () -> passwordEncoder.matches(rawPassword, encodedPassword));
+  }
+
+  /**
+   * Whether a stored hash was produced by another algorithm or a lower cost
+   * than the one currently configured for encoding.
+   */
+  public boolean needsUpgrade(String encodedPassword) {
+    return passwordEncoder.upgradeEncoding(encodedPassword);
+  }
+
+  public MeterRegistry getMeterRegistry() {
+    return meterRegistry;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdown();
+  }
+
+  private <T> T submit(String operation, Callable<T> task) {
+    final Future<T> future;
+
+    try {
+      future = executor.submit(() -> timer(operation).recordCallable(task));
+    } catch (RejectedExecutionException e) {
+      meterRegistry.counter(METRIC + ".rejected", "operation", operation).increment();
+      LOG.warn("Password hashing queue is full, rejecting '{}'.", operation);
+      throw new ServiceUnavailableException("Too many authentication requests, please retry shortly.", retryAfter);
+    }
+
+    try {
+      return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      meterRegistry.counter(METRIC + ".timeout", "operation", operation).increment();
+      LOG.warn("Password hashing '{}' did not finish within {}, giving up.", operation, timeout);
+      throw new ServiceUnavailableException("Authentication is taking too long, please retry shortly.", retryAfter);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      future.cancel(true);
+      throw new ServiceUnavailableException("Authentication was interrupted, please retry shortly.", retryAfter);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException("Password hashing failed.", e.getCause());
+    }
+  }
+
+  private Timer timer(String operation) {
+    return Timer.builder(METRIC)
+        .description("Time spent hashing or verifying passwords on the hashing pool")
+        .tag("operation", operation)
+        .register(meterRegistry);
+  }
+}
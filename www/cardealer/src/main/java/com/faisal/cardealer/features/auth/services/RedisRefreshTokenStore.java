@@ -0,0 +1,69 @@
+package com.faisal.cardealer.features.auth.services;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.faisal.cardealer.features.auth.dto.RefreshSession;
+
+/**
+ * Keys:
+ * <ul>
+ * <li>{@code refresh:token:<jti>} holds {@code <userId>|<familyId>} until the token expires</li>
+ * <li>{@code refresh:family:<familyId>} marks a revoked family</li>
+ * <li>{@code refresh:generation:<userId>} is the user's session generation</li>
+ * </ul>
+ */
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+  private static final String TOKEN_PREFIX = "refresh:token:";
+  private static final String FAMILY_PREFIX = "refresh:family:";
+  private static final String GENERATION_PREFIX = "refresh:generation:";
+  private static final char SEPARATOR = '|';
+
+  private final StringRedisTemplate redisTemplate;
+
+  public RedisRefreshTokenStore(StringRedisTemplate redisTemplate) {
+    this.redisTemplate = redisTemplate;
+  }
+
+  @Override
+  public void save(String tokenId, RefreshSession session, Duration ttl) {
+    redisTemplate.opsForValue().set(TOKEN_PREFIX + tokenId, session.userId().toString() + SEPARATOR + session.familyId(), ttl);
+  }
+
+  @Override
+  public Optional<RefreshSession> consume(String tokenId) {
+    String value = redisTemplate.opsForValue().getAndDelete(TOKEN_PREFIX + tokenId);
+
+    if (value == null) {
+      return Optional.empty();
+    }
+
+    int separator = value.indexOf(SEPARATOR);
+    return Optional.of(new RefreshSession(UUID.fromString(value.substring(0, separator)), value.substring(separator + 1)));
+  }
+
+  @Override
+  public void revokeFamily(String familyId, Duration ttl) {
+    redisTemplate.opsForValue().set(FAMILY_PREFIX + familyId, "revoked", ttl);
+  }
+
+  @Override
+  public boolean isFamilyRevoked(String familyId) {
+    return Boolean.TRUE.equals(redisTemplate.hasKey(FAMILY_PREFIX + familyId));
+  }
+
+  @Override
+  public long currentGeneration(UUID userId) {
+    String value = redisTemplate.opsForValue().get(GENERATION_PREFIX + userId);
+    return value == null ? 0L : Long.parseLong(value);
+  }
+
+  @Override
+  public long revokeAll(UUID userId) {
+    Long generation = redisTemplate.opsForValue().increment(GENERATION_PREFIX + userId);
+    return generation == null ? 0L : generation;
+  }
+}
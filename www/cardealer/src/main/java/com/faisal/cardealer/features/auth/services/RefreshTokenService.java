@@ -0,0 +1,105 @@
+package com.faisal.cardealer.features.auth.services;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.faisal.cardealer.exceptions.UnauthorizedException;
+import com.faisal.cardealer.features.auth.dto.RefreshSession;
+import com.faisal.cardealer.handlers.JwtAuthHandler;
+import com.faisal.cardealer.handlers.JwtTokenPair;
+import com.faisal.cardealer.models.User;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Issues and rotates refresh tokens against a {@link RefreshTokenStore}.
+ * A refresh token can be used once; presenting it again revokes its whole
+ * family, which also cuts off whoever holds the token it was rotated into.
+ */
+@Service
+public class RefreshTokenService {
+  private static final Logger LOG = LoggerFactory.getLogger(RefreshTokenService.class);
+
+  private final JwtAuthHandler jwtAuthHandler;
+  private final RefreshTokenStore refreshTokenStore;
+  private final Duration refreshTokenTtl;
+
+  public RefreshTokenService(
+      JwtAuthHandler jwtAuthHandler,
+      RefreshTokenStore refreshTokenStore,
+      @Value("${jwt.refresh.token.expiration}") long refreshTokenExpirationMs) {
+    this.jwtAuthHandler = jwtAuthHandler;
+    this.refreshTokenStore = refreshTokenStore;
+    this.refreshTokenTtl = Duration.ofMillis(refreshTokenExpirationMs);
+  }
+
+  /** Starts a new token family for a fresh login. */
+  public JwtTokenPair issue(User user) {
+    return issue(user, JwtAuthHandler.newFamilyId(), refreshTokenStore.currentGeneration(user.getId()));
+  }
+
+  public JwtTokenPair rotate(String refreshToken, Function<UUID, Optional<User>> userLoader) {
+    final Claims claims = decode(refreshToken);
+    final UUID userId = jwtAuthHandler.extractUserId(claims);
+
+    if (userId == null || !jwtAuthHandler.isRefreshToken(claims) || jwtAuthHandler.isTokenExpired(claims)) {
+      throw new UnauthorizedException("Invalid or expired refresh token.");
+    }
+
+    final String familyId = claims.get(JwtAuthHandler.FAMILY_CLAIM, String.class);
+    final long generation = claims.get(JwtAuthHandler.GENERATION_CLAIM, Long.class);
+
+    if (generation != refreshTokenStore.currentGeneration(userId)) {
+      throw new UnauthorizedException("Refresh token has been revoked.");
+    }
+
+    Optional<RefreshSession> session = refreshTokenStore.consume(claims.getId());
+
+    if (session.isEmpty()) {
+      LOG.warn("Refresh token reuse detected for user '{}', revoking token family.", userId);
+      refreshTokenStore.revokeFamily(familyId, refreshTokenTtl);
+      throw new UnauthorizedException("Refresh token has already been used.");
+    }
+
+    if (!session.get().equals(new RefreshSession(userId, familyId)) || refreshTokenStore.isFamilyRevoked(familyId)) {
+      throw new UnauthorizedException("Refresh token has been revoked.");
+    }
+
+    User user = userLoader.apply(userId)
+        .orElseThrow(() -> new UnauthorizedException("Invalid or expired refresh token."));
+
+    return issue(user, familyId, generation);
+  }
+
+  /** Invalidates every refresh token the user holds. */
+  public void revokeAll(UUID userId) {
+    refreshTokenStore.revokeAll(userId);
+  }
+
+  private JwtTokenPair issue(User user, String familyId, long generation) {
+    JwtTokenPair tokenPair = jwtAuthHandler.generateTokenPair(user, familyId, generation);
+
+    refreshTokenStore.save(
+        tokenPair.refreshTokenId(),
+        new RefreshSession(user.getId(), familyId),
+        Duration.between(Instant.now(), tokenPair.refreshExpiresAt()));
+
+    return tokenPair;
+  }
+
+  private Claims decode(String refreshToken) {
+    try {
+      return jwtAuthHandler.decodeToken(refreshToken);
+    } catch (RuntimeException e) {
+      throw new UnauthorizedException("Invalid or expired refresh token.");
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package com.faisal.cardealer.features.auth.services;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.faisal.cardealer.features.auth.dto.RefreshSession;
+
+/**
+ * Server-side state for refresh tokens. Each issued token is stored under its
+ * {@code jti} until it expires and can be consumed exactly once. Tokens that
+ * descend from the same login share a family, which is revoked as a whole
+ * when a consumed token is presented again. Every user also has a session
+ * generation; bumping it invalidates all of their refresh tokens at once.
+ */
+public interface RefreshTokenStore {
+  void save(String tokenId, RefreshSession session, Duration ttl);
+
+  /** Atomically removes and returns the session for {@code tokenId}. */
+  Optional<RefreshSession> consume(String tokenId);
+
+  void revokeFamily(String familyId, Duration ttl);
+
+  boolean isFamilyRevoked(String familyId);
+
+  long currentGeneration(UUID userId);
+
+  /** Bumps the user's session generation and returns the new value. */
+  long revokeAll(UUID userId);
+}
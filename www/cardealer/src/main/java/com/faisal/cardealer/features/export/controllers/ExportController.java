@@ -0,0 +1,116 @@
+package com.faisal.cardealer.features.export.controllers;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.function.BiConsumer;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.faisal.cardealer.annotations.RequiresPrivilege;
+import com.faisal.cardealer.features.export.dto.ExportFormat;
+import com.faisal.cardealer.features.export.services.ExportService;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Streams exports on the request thread directly into the servlet response,
+ * gzip-compressed when the client accepts it.
+ */
+@RestController
+@RequestMapping("/export")
+public class ExportController {
+  private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+  private final ExportService exportService;
+
+  public ExportController(ExportService exportService) {
+    this.exportService = exportService;
+  }
+
+  @GetMapping("/users")
+  @RequiresPrivilege("users:export")
+  public void exportUsers(
+      @RequestParam(defaultValue = "csv") String format,
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+      HttpServletResponse response) throws IOException {
+    stream("users", ExportFormat.parse(format), acceptEncoding, response, exportService::exportUsers);
+  }
+
+  @GetMapping("/vehicles")
+  @RequiresPrivilege("inventory:export")
+  public void exportVehicles(
+      @RequestParam(defaultValue = "csv") String format,
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+      HttpServletResponse response) throws IOException {
+    stream("vehicles", ExportFormat.parse(format), acceptEncoding, response, exportService::exportVehicles);
+  }
+
+  private static void stream(
+      String name,
+      ExportFormat format,
+      String acceptEncoding,
+      HttpServletResponse response,
+      BiConsumer<ExportFormat, OutputStream> export) throws IOException {
+    boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+
+    response.setContentType(format.contentType() + ";charset=UTF-8");
+    response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+        "attachment; filename=\"" + name + "-" + LocalDate.now() + "." + format.extension() + "\"");
+    response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    if (gzip) {
+      response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+    }
+
+    write(format, response.getOutputStream(), gzip, export);
+  }
+
+  /**
+   * Writes the export to {@code out}. When the export fails midway the gzip
+   * stream is abandoned without its trailer, so the client sees a corrupt
+   * download instead of a well-formed but truncated file, and the failure
+   * propagates so the container resets the connection.
+   */
+  static void write(
+      ExportFormat format,
+      OutputStream out,
+      boolean gzip,
+      BiConsumer<ExportFormat, OutputStream> export) throws IOException {
+    if (!gzip) {
+      export.accept(format, out);
+      out.flush();
+      return;
+    }
+
+    var compressed = new AbortableGzipOutputStream(out);
+    boolean completed = false;
+    try {
+      export.accept(format, compressed);
+      completed = true;
+    } finally {
+      if (completed) {
+        compressed.close();
+      } else {
+        compressed.abort();
+      }
+    }
+  }
+
+  private static final class AbortableGzipOutputStream extends GZIPOutputStream {
+    AbortableGzipOutputStream(OutputStream out) throws IOException {
+      super(out, GZIP_BUFFER_SIZE);
+    }
+
+    /** Releases the deflater without writing buffered data or the trailer. */
+    void abort() {
+      def.end();
+    }
+  }
+}
@@ -0,0 +1,34 @@
+package com.faisal.cardealer.features.export.dto;
+
+import java.util.Locale;
+
+import com.faisal.cardealer.exceptions.BadRequestException;
+
+public enum ExportFormat {
+  CSV("text/csv", "csv"),
+  NDJSON("application/x-ndjson", "ndjson");
+
+  private final String contentType;
+  private final String extension;
+
+  ExportFormat(String contentType, String extension) {
+    this.contentType = contentType;
+    this.extension = extension;
+  }
+
+  public String contentType() {
+    return contentType;
+  }
+
+  public String extension() {
+    return extension;
+  }
+
+  public static ExportFormat parse(String value) {
+    try {
+      return valueOf(value.toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new BadRequestException("Unsupported export format '" + value + "', expected csv or ndjson.");
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package com.faisal.cardealer.features.export.services;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * RFC 4180 CSV. Text that a spreadsheet would evaluate as a formula is
+ * prefixed with a single quote.
+ */
+class CsvExportWriter implements ExportWriter {
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final Writer writer;
+  private final int columnCount;
+
+  CsvExportWriter(OutputStream out, String[] columns) throws IOException {
+    this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+    this.columnCount = columns.length;
+
+    for (int i = 0; i < columns.length; i++) {
+      if (i > 0) {
+        writer.write(',');
+      }
+      writeText(columns[i]);
+    }
+    writer.write("\r\n");
+  }
+
+  @Override
+  public void write(ResultSet rs) throws SQLException, IOException {
+    for (int i = 1; i <= columnCount; i++) {
+      if (i > 1) {
+        writer.write(',');
+      }
+
+      Object value = rs.getObject(i);
+      switch (value) {
+        case null -> {
+        }
+        case String text -> writeText(text);
+        case BigDecimal decimal -> writer.write(decimal.toPlainString());
+        case Timestamp timestamp -> writer.write(timestamp.toLocalDateTime().toString());
+        default -> writeText(value.toString());
+      }
+    }
+    writer.write("\r\n");
+  }
+
+  @Override
+  public void finish() throws IOException {
+    writer.flush();
+  }
+
+  private void writeText(String text) throws IOException {
+    boolean formula = !text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0;
+    boolean quote = formula || text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+        || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+
+    if (!quote) {
+      writer.write(text);
+      return;
+    }
+
+    writer.write('"');
+    if (formula) {
+      writer.write('\'');
+    }
+    writer.write(text.replace("\"", "\"\""));
+    writer.write('"');
+  }
+}
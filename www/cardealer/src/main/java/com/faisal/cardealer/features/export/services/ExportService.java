@@ -0,0 +1,89 @@
+package com.faisal.cardealer.features.export.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSetMetaData;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.faisal.cardealer.features.export.dto.ExportFormat;
+
+/**
+ * Bulk export straight from a forward-only JDBC cursor to the caller's output
+ * stream. Rows are written as they are fetched, {@code export.fetch-size} at a
+ * time, so memory use does not grow with the size of the table. The read runs
+ * in a read-only transaction because the Postgres driver only streams with
+ * auto-commit off.
+ */
+@Service
+public class ExportService {
+  private static final Logger LOG = LoggerFactory.getLogger(ExportService.class);
+
+  private static final String USERS_SQL =
+      "SELECT u.id, u.username, u.email, u.fullname, u.phone_number, u.is_active, u.created_at, u.updated_at,"
+          + " (SELECT string_agg(r.name, ';' ORDER BY r.name) FROM user_roles ur"
+          + " JOIN roles r ON r.id = ur.role_id WHERE ur.user_id = u.id) AS roles"
+          + " FROM users u WHERE u.deleted_at IS NULL ORDER BY u.id";
+
+  private static final String VEHICLES_SQL =
+      "SELECT id, vin, make, model, model_year, price, mileage, body_type, status, created_at, updated_at"
+          + " FROM vehicles WHERE deleted_at IS NULL ORDER BY id";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+
+  public ExportService(
+      DataSource dataSource,
+      PlatformTransactionManager transactionManager,
+      @Value("${export.fetch-size:1000}") int fetchSize) {
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+    this.jdbcTemplate.setFetchSize(fetchSize);
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+  }
+
+  public long exportUsers(ExportFormat format, OutputStream out) {
+    return export("users", USERS_SQL, format, out);
+  }
+
+  public long exportVehicles(ExportFormat format, OutputStream out) {
+    return export("vehicles", VEHICLES_SQL, format, out);
+  }
+
+  private long export(String name, String sql, ExportFormat format, OutputStream out) {
+    long started = System.nanoTime();
+
+    Long rows = transactionTemplate.execute(status -> jdbcTemplate.query(sql, rs -> {
+      try {
+        ResultSetMetaData metaData = rs.getMetaData();
+        var columns = new String[metaData.getColumnCount()];
+        for (int i = 0; i < columns.length; i++) {
+          columns[i] = metaData.getColumnLabel(i + 1);
+        }
+
+        ExportWriter writer = ExportWriter.open(format, out, columns);
+        long count = 0;
+        while (rs.next()) {
+          writer.write(rs);
+          count++;
+        }
+        writer.finish();
+        return count;
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }));
+
+    LOG.info("Exported {} {} as {} in {} ms.", rows, name, format, (System.nanoTime() - started) / 1_000_000);
+    return rows == null ? 0L : rows;
+  }
+}
@@ -0,0 +1,24 @@
+package com.faisal.cardealer.features.export.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import com.faisal.cardealer.features.export.dto.ExportFormat;
+
+/** Writes the current row of a result set in one export format. */
+interface ExportWriter {
+
+  void write(ResultSet rs) throws SQLException, IOException;
+
+  /** Flushes buffered output without closing the underlying stream. */
+  void finish() throws IOException;
+
+  static ExportWriter open(ExportFormat format, OutputStream out, String[] columns) throws IOException {
+    return switch (format) {
+      case CSV -> new CsvExportWriter(out, columns);
+      case NDJSON -> new NdjsonExportWriter(out, columns);
+    };
+  }
+}
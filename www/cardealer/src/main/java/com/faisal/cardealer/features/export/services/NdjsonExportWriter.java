@@ -0,0 +1,59 @@
+package com.faisal.cardealer.features.export.services;
+
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.json.JsonFactory;
+
+/** One JSON object per line, keyed by column label. */
+class NdjsonExportWriter implements ExportWriter {
+  private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+      .rootValueSeparator("\n")
+      .build();
+
+  private final JsonGenerator generator;
+  private final String[] columns;
+  private boolean empty = true;
+
+  NdjsonExportWriter(OutputStream out, String[] columns) {
+    this.generator = JSON_FACTORY.createGenerator(out);
+    this.columns = columns;
+  }
+
+  @Override
+  public void write(ResultSet rs) throws SQLException {
+    generator.writeStartObject();
+
+    for (int i = 0; i < columns.length; i++) {
+      Object value = rs.getObject(i + 1);
+      generator.writeName(columns[i]);
+
+      switch (value) {
+        case null -> generator.writeNull();
+        case String text -> generator.writeString(text);
+        case Boolean bool -> generator.writeBoolean(bool);
+        case Short number -> generator.writeNumber(number);
+        case Integer number -> generator.writeNumber(number);
+        case Long number -> generator.writeNumber(number);
+        case BigDecimal number -> generator.writeNumber(number);
+        case Timestamp timestamp -> generator.writeString(timestamp.toLocalDateTime().toString());
+        default -> generator.writeString(value.toString());
+      }
+    }
+
+    generator.writeEndObject();
+    empty = false;
+  }
+
+  @Override
+  public void finish() {
+    if (!empty) {
+      generator.writeRaw('\n');
+    }
+    generator.flush();
+  }
+}
@@ -0,0 +1,79 @@
+package com.faisal.cardealer.features.imports.controllers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.faisal.cardealer.annotations.RequiresPrivilege;
+import com.faisal.cardealer.dto.ResponsePayload;
+import com.faisal.cardealer.exceptions.ResourceNotFoundException;
+import com.faisal.cardealer.features.imports.dto.ImportJobDto;
+import com.faisal.cardealer.features.imports.services.BulkImportService;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Accepts CSV uploads as the raw request body. The body is spooled to a
+ * temporary file so the request thread is released as soon as the upload
+ * completes; the import itself runs in the background and is polled through
+ * {@code /import/jobs/{id}}.
+ */
+@RestController
+@RequestMapping("/import")
+public class ImportController {
+  private final BulkImportService bulkImportService;
+
+  public ImportController(BulkImportService bulkImportService) {
+    this.bulkImportService = bulkImportService;
+  }
+
+  @PostMapping(value = "/users", consumes = "text/csv")
+  @RequiresPrivilege("users:import")
+  public ResponseEntity<ResponsePayload> importUsers(HttpServletRequest request) throws IOException {
+    return accepted(spool(request), bulkImportService::importUsers);
+  }
+
+  @PostMapping(value = "/vehicles", consumes = "text/csv")
+  @RequiresPrivilege("inventory:import")
+  public ResponseEntity<ResponsePayload> importVehicles(HttpServletRequest request) throws IOException {
+    return accepted(spool(request), bulkImportService::importVehicles);
+  }
+
+  @GetMapping("/jobs/{id}")
+  @RequiresPrivilege({ "users:import", "inventory:import" })
+  public ResponseEntity<ResponsePayload> getJob(@PathVariable UUID id) {
+    ImportJobDto job = bulkImportService.findJob(id)
+        .orElseThrow(() -> new ResourceNotFoundException("Import job not found."));
+    return ResponseEntity.ok(new ResponsePayload(
+        HttpStatus.OK.value(), true, "Import job retrieved successfully.", LocalDateTime.now().toString(), job));
+  }
+
+  private static ResponseEntity<ResponsePayload> accepted(Path file, Function<Path, ImportJobDto> start) {
+    ImportJobDto job = start.apply(file);
+    return ResponseEntity.status(HttpStatus.ACCEPTED).body(new ResponsePayload(
+        HttpStatus.ACCEPTED.value(), true, "Import job accepted.", LocalDateTime.now().toString(), job));
+  }
+
+  private static Path spool(HttpServletRequest request) throws IOException {
+    Path file = Files.createTempFile("cardealer-import-", ".csv");
+    try (var in = request.getInputStream()) {
+      Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+      return file;
+    } catch (IOException e) {
+      Files.deleteIfExists(file);
+      throw e;
+    }
+  }
+}
@@ -0,0 +1,4 @@
+package com.faisal.cardealer.features.imports.dto;
+
+public record ImportErrorDto(long line, String message) {
+}
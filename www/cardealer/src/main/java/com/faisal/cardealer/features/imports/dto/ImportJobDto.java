@@ -0,0 +1,21 @@
+package com.faisal.cardealer.features.imports.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record ImportJobDto(
+    UUID id,
+    String type,
+    ImportStatus status,
+    long processed,
+    long imported,
+    long failed,
+    @JsonProperty("rows_per_second") long rowsPerSecond,
+    String message,
+    List<ImportErrorDto> errors,
+    @JsonProperty("started_at") LocalDateTime startedAt,
+    @JsonProperty("finished_at") LocalDateTime finishedAt) {
+}
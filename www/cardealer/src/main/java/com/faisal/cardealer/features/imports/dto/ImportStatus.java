@@ -0,0 +1,8 @@
+package com.faisal.cardealer.features.imports.dto;
+
+public enum ImportStatus {
+  QUEUED,
+  RUNNING,
+  COMPLETED,
+  FAILED
+}
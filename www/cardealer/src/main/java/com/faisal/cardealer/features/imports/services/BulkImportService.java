@@ -0,0 +1,513 @@
+package com.faisal.cardealer.features.imports.services;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.faisal.cardealer.exceptions.ServiceUnavailableException;
+import com.faisal.cardealer.features.auth.dto.RegisterRequestDto;
+import com.faisal.cardealer.features.imports.dto.ImportJobDto;
+import com.faisal.cardealer.features.imports.dto.ImportStatus;
+import com.faisal.cardealer.features.inventory.dto.VehicleRequestDto;
+import com.faisal.cardealer.features.roles.services.RoleCacheService;
+import com.faisal.cardealer.features.search.services.InventoryFacetService;
+import com.faisal.cardealer.handlers.UUIDv7Handler;
+import com.faisal.cardealer.models.VehicleStatus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Bulk import of users and vehicles from CSV. The file is read as a stream in
+ * chunks of {@code import.batch-size} records. Each chunk is validated and
+ * (for users) password-hashed in parallel on a bounded fork-join pool while
+ * the previous chunk is written with JDBC batch inserts, so parsing, hashing
+ * and writing overlap and at most two chunks are held in memory.
+ *
+ * <p>Rows that fail validation or clash with existing data are skipped and
+ * reported with their line number; the rest of the chunk is still imported.
+ * Ids are generated in the application, so inserts need no round trip to
+ * learn them.
+ */
+@Service
+public class BulkImportService {
+  private static final Logger LOG = LoggerFactory.getLogger(BulkImportService.class);
+  private static final String DEFAULT_ROLE = "USER";
+  private static final Duration RETRY_AFTER = Duration.ofSeconds(30);
+
+  static final List<String> USER_COLUMNS = List.of("username", "email", "password", "full_name", "phone_number");
+  static final List<String> VEHICLE_COLUMNS =
+      List.of("vin", "make", "model", "year", "price", "mileage", "body_type", "status");
+
+  private static final String INSERT_USER =
+      "INSERT INTO users (id, username, email, password, fullname, phone_number, is_active, created_at, updated_at)"
+          + " VALUES (?, ?, ?, ?, ?, ?, TRUE, ?, ?)";
+  private static final String INSERT_USER_ROLE = "INSERT INTO user_roles (user_id, role_id) VALUES (?, ?)";
+  private static final String INSERT_VEHICLE =
+      "INSERT INTO vehicles (id, vin, make, model, model_year, price, mileage, body_type, status, created_at, updated_at)"
+          + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private final JdbcClient jdbcClient;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final Validator validator;
+  private final PasswordEncoder passwordEncoder;
+  private final RoleCacheService roleCacheService;
+  private final InventoryFacetService inventoryFacetService;
+  private final int batchSize;
+  private final int maxErrors;
+  private final ForkJoinPool workers;
+  private final ThreadPoolExecutor jobRunner;
+  private final Cache<UUID, ImportJob> jobs;
+
+  public BulkImportService(
+      JdbcClient jdbcClient,
+      DataSource dataSource,
+      PlatformTransactionManager transactionManager,
+      Validator validator,
+      PasswordEncoder passwordEncoder,
+      RoleCacheService roleCacheService,
+      InventoryFacetService inventoryFacetService,
+      @Value("${import.batch-size:500}") int batchSize,
+      @Value("${import.max-errors:1000}") int maxErrors,
+      @Value("${import.parallelism:0}") int parallelism,
+      @Value("${import.max-concurrent-jobs:1}") int maxConcurrentJobs,
+      @Value("${import.max-queued-jobs:4}") int maxQueuedJobs,
+      @Value("${import.job-retention:PT1H}") Duration jobRetention) {
+    var counter = new AtomicInteger();
+
+    this.jdbcClient = jdbcClient;
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.validator = validator;
+    this.passwordEncoder = passwordEncoder;
+    this.roleCacheService = roleCacheService;
+    this.inventoryFacetService = inventoryFacetService;
+    this.batchSize = batchSize;
+    this.maxErrors = maxErrors;
+    this.workers = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    this.jobRunner = new ThreadPoolExecutor(
+        maxConcurrentJobs,
+        maxConcurrentJobs,
+        0L,
+        TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(maxQueuedJobs),
+        runnable -> {
+          Thread thread = new Thread(runnable, "bulk-import-" + counter.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.AbortPolicy());
+    this.jobs = Caffeine.newBuilder()
+        .expireAfterWrite(jobRetention)
+        .build();
+  }
+
+  /** Starts importing users from {@code file}, which is deleted once the job ends. */
+  public ImportJobDto importUsers(Path file) {
+    Long roleId = roleCacheService.findByName(DEFAULT_ROLE)
+        .orElseThrow(() -> new IllegalStateException(
+            "Default role '" + DEFAULT_ROLE + "' not found. Run database seed first."))
+        .id();
+
+    return submit("users", file, job -> run(job, file, USER_COLUMNS, this::prepareUser,
+        chunk -> writeUsers(job, chunk, roleId)));
+  }
+
+  /** Starts importing vehicles from {@code file}, which is deleted once the job ends. */
+  public ImportJobDto importVehicles(Path file) {
+    return submit("vehicles", file, job -> {
+      run(job, file, VEHICLE_COLUMNS, this::prepareVehicle, chunk -> writeVehicles(job, chunk));
+      if (job.importedCount() > 0) {
+        inventoryFacetService.rebuildEverywhere();
+      }
+    });
+  }
+
+  public Optional<ImportJobDto> findJob(UUID id) {
+    return Optional.ofNullable(jobs.getIfPresent(id)).map(ImportJob::toDto);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    jobRunner.shutdownNow();
+    workers.shutdownNow();
+  }
+
+  private ImportJobDto submit(String type, Path file, Consumer<ImportJob> task) {
+    var job = new ImportJob(UUIDv7Handler.generate(), type, maxErrors);
+
+    try {
+      jobRunner.execute(() -> {
+        job.start();
+        try {
+          task.accept(job);
+        } catch (RuntimeException e) {
+          LOG.error("Import job '{}' failed: {}", job.id(), e.getMessage(), e);
+          job.finish(ImportStatus.FAILED, e.getMessage());
+        } finally {
+          deleteQuietly(file);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      deleteQuietly(file);
+      throw new ServiceUnavailableException("Too many imports are queued, try again later.", RETRY_AFTER);
+    }
+
+    jobs.put(job.id(), job);
+    return job.toDto();
+  }
+
+  private <T> void run(
+      ImportJob job,
+      Path file,
+      List<String> columns,
+      Function<Row, Prepared<T>> prepare,
+      Consumer<List<Prepared<T>>> write) {
+    try (var reader = new CsvRecordReader(Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+      List<String> header = reader.next();
+      if (header == null) {
+        job.finish(ImportStatus.FAILED, "The file is empty.");
+        return;
+      }
+
+      Map<String, Integer> positions = positions(header);
+      List<String> missing = columns.stream().filter(column -> !positions.containsKey(column)).toList();
+      if (!missing.isEmpty()) {
+        job.finish(ImportStatus.FAILED, "Missing columns: " + String.join(", ", missing) + ".");
+        return;
+      }
+
+      CompletableFuture<List<Prepared<T>>> pending = null;
+      List<Row> chunk;
+
+      while (!(chunk = readChunk(reader, positions)).isEmpty()) {
+        final List<Row> rows = chunk;
+        CompletableFuture<List<Prepared<T>>> prepared = CompletableFuture.supplyAsync(
+            () -> rows.parallelStream().map(prepare).toList(), workers);
+
+        if (pending != null) {
+          writeChunk(job, pending.join(), write);
+        }
+        pending = prepared;
+      }
+
+      if (pending != null) {
+        writeChunk(job, pending.join(), write);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    job.finish(ImportStatus.COMPLETED, "Import finished.");
+  }
+
+  private static <T> void writeChunk(ImportJob job, List<Prepared<T>> chunk, Consumer<List<Prepared<T>>> write) {
+    var accepted = new ArrayList<Prepared<T>>(chunk.size());
+    for (Prepared<T> row : chunk) {
+      if (row.error() != null) {
+        job.reject(row.line(), row.error());
+      } else {
+        accepted.add(row);
+      }
+    }
+
+    if (!accepted.isEmpty()) {
+      write.accept(accepted);
+    }
+    job.processed(chunk.size());
+  }
+
+  private List<Row> readChunk(CsvRecordReader reader, Map<String, Integer> positions) throws IOException {
+    var rows = new ArrayList<Row>(batchSize);
+    List<String> fields;
+
+    while (rows.size() < batchSize && (fields = reader.next()) != null) {
+      rows.add(new Row(reader.line(), fields, positions));
+    }
+    return rows;
+  }
+
+  private Prepared<NewUser> prepareUser(Row row) {
+    var request = new RegisterRequestDto(
+        row.get("username"), row.get("email"), row.get("password"), row.get("full_name"), row.get("phone_number"));
+
+    String error = violations(validator.validate(request));
+    if (error != null) {
+      return Prepared.rejected(row.line(), error);
+    }
+
+    return Prepared.accepted(row.line(),
+        new NewUser(UUIDv7Handler.generate(), request, passwordEncoder.encode(request.password())));
+  }
+
+  private Prepared<VehicleRequestDto> prepareVehicle(Row row) {
+    VehicleRequestDto request;
+    try {
+      request = new VehicleRequestDto(
+          row.get("vin"),
+          row.get("make"),
+          row.get("model"),
+          row.integer("year"),
+          row.decimal("price"),
+          row.integer("mileage"),
+          row.get("body_type"),
+          row.status());
+    } catch (IllegalArgumentException e) {
+      return Prepared.rejected(row.line(), e.getMessage());
+    }
+
+    String error = violations(validator.validate(request));
+    return error != null ? Prepared.rejected(row.line(), error) : Prepared.accepted(row.line(), request);
+  }
+
+  private void writeUsers(ImportJob job, List<Prepared<NewUser>> rows, Long roleId) {
+    var usernames = new HashSet<String>();
+    var emails = new HashSet<String>();
+    var phoneNumbers = new HashSet<String>();
+    for (Prepared<NewUser> row : rows) {
+      usernames.add(row.value().request().username());
+      emails.add(row.value().request().email());
+      phoneNumbers.add(row.value().request().phoneNumber());
+    }
+
+    var taken = new HashSet<String>();
+    jdbcClient.sql("SELECT username, email, phone_number FROM users"
+        + " WHERE username IN (:usernames) OR email IN (:emails) OR phone_number IN (:phoneNumbers)")
+        .param("usernames", usernames)
+        .param("emails", emails)
+        .param("phoneNumbers", phoneNumbers)
+        .query(rs -> {
+          taken.add("u:" + rs.getString("username"));
+          taken.add("e:" + rs.getString("email"));
+          taken.add("p:" + rs.getString("phone_number"));
+        });
+
+    var unique = new ArrayList<Prepared<NewUser>>(rows.size());
+    for (Prepared<NewUser> row : rows) {
+      RegisterRequestDto request = row.value().request();
+      String username = "u:" + request.username();
+      String email = "e:" + request.email();
+      String phoneNumber = "p:" + request.phoneNumber();
+
+      // Keys are only claimed by accepted rows, so a rejected row cannot block a later one.
+      if (taken.contains(username)) {
+        job.reject(row.line(), "Username '" + request.username() + "' is already taken.");
+      } else if (taken.contains(email)) {
+        job.reject(row.line(), "Email '" + request.email() + "' is already registered.");
+      } else if (taken.contains(phoneNumber)) {
+        job.reject(row.line(), "Phone number '" + request.phoneNumber() + "' is already registered.");
+      } else {
+        taken.add(username);
+        taken.add(email);
+        taken.add(phoneNumber);
+        unique.add(row);
+      }
+    }
+
+    insert(job, unique, batch -> {
+      var now = Timestamp.valueOf(LocalDateTime.now());
+      jdbcTemplate.batchUpdate(INSERT_USER, batch, batch.size(), (ps, row) -> {
+        NewUser user = row.value();
+        ps.setObject(1, user.id());
+        ps.setString(2, user.request().username());
+        ps.setString(3, user.request().email());
+        ps.setString(4, user.passwordHash());
+        ps.setString(5, user.request().fullName());
+        ps.setString(6, user.request().phoneNumber());
+        ps.setTimestamp(7, now);
+        ps.setTimestamp(8, now);
+      });
+      jdbcTemplate.batchUpdate(INSERT_USER_ROLE, batch, batch.size(), (ps, row) -> {
+        ps.setObject(1, row.value().id());
+        ps.setLong(2, roleId);
+      });
+    }, "Conflicts with an existing user.");
+  }
+
+  private void writeVehicles(ImportJob job, List<Prepared<VehicleRequestDto>> rows) {
+    Set<String> vins = rows.stream().map(row -> row.value().vin()).collect(Collectors.toSet());
+    var taken = new HashSet<>(jdbcClient.sql("SELECT vin FROM vehicles WHERE vin IN (:vins)")
+        .param("vins", vins)
+        .query(String.class)
+        .list());
+
+    var unique = new ArrayList<Prepared<VehicleRequestDto>>(rows.size());
+    for (Prepared<VehicleRequestDto> row : rows) {
+      if (taken.add(row.value().vin())) {
+        unique.add(row);
+      } else {
+        job.reject(row.line(), "Vehicle with VIN '" + row.value().vin() + "' already exists.");
+      }
+    }
+
+    insert(job, unique, batch -> {
+      var now = Timestamp.valueOf(LocalDateTime.now());
+      jdbcTemplate.batchUpdate(INSERT_VEHICLE, batch, batch.size(), (ps, row) -> {
+        VehicleRequestDto vehicle = row.value();
+        ps.setObject(1, UUIDv7Handler.generate());
+        ps.setString(2, vehicle.vin());
+        ps.setString(3, vehicle.make());
+        ps.setString(4, vehicle.model());
+        ps.setShort(5, vehicle.year().shortValue());
+        ps.setBigDecimal(6, vehicle.price());
+        ps.setInt(7, vehicle.mileage());
+        ps.setString(8, vehicle.bodyType());
+        ps.setString(9, (vehicle.status() == null ? VehicleStatus.AVAILABLE : vehicle.status()).name());
+        ps.setTimestamp(10, now);
+        ps.setTimestamp(11, now);
+      });
+    }, "Vehicle conflicts with an existing vehicle.");
+  }
+
+  /**
+   * Inserts the chunk in one transaction. If a concurrent writer took one of
+   * the keys after the duplicate check, the batch fails as a whole; the rows
+   * are then retried one by one so only the conflicting rows are rejected.
+   */
+  private <T> void insert(ImportJob job, List<Prepared<T>> rows, Consumer<List<Prepared<T>>> batchInsert,
+      String conflict) {
+    if (rows.isEmpty()) {
+      return;
+    }
+
+    try {
+      transactionTemplate.executeWithoutResult(status -> batchInsert.accept(rows));
+      job.imported(rows.size());
+      return;
+    } catch (DataIntegrityViolationException e) {
+      LOG.warn("Batch insert for import job '{}' hit a conflict, retrying row by row.", job.id());
+    }
+
+    for (Prepared<T> row : rows) {
+      try {
+        transactionTemplate.executeWithoutResult(status -> batchInsert.accept(List.of(row)));
+        job.imported(1);
+      } catch (DataIntegrityViolationException e) {
+        job.reject(row.line(), conflict);
+      }
+    }
+  }
+
+  private static Map<String, Integer> positions(List<String> header) {
+    var positions = new HashMap<String, Integer>();
+    for (int i = 0; i < header.size(); i++) {
+      String name = header.get(i).strip().toLowerCase(Locale.ROOT);
+      positions.putIfAbsent(i == 0 && name.startsWith("\uFEFF") ? name.substring(1) : name, i);
+    }
+    return positions;
+  }
+
+  private static String violations(Set<? extends ConstraintViolation<?>> violations) {
+    if (violations.isEmpty()) {
+      return null;
+    }
+    return violations.stream()
+        .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+        .map(ConstraintViolation::getMessage)
+        .collect(Collectors.joining(" "));
+  }
+
+  private static void deleteQuietly(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      LOG.warn("Failed to delete import file '{}': {}", file, e.getMessage());
+    }
+  }
+
+  private record Row(long line, List<String> fields, Map<String, Integer> positions) {
+
+    String get(String column) {
+      Integer position = positions.get(column);
+      if (position == null || position >= fields.size()) {
+        return null;
+      }
+      String value = fields.get(position).strip();
+      return value.isEmpty() ? null : value;
+    }
+
+    Integer integer(String column) {
+      String value = get(column);
+      try {
+        return value == null ? null : Integer.valueOf(value);
+      } catch (NumberFormatException e) {
+        throw new IllegalArgumentException("Column '" + column + "' must be a whole number.");
+      }
+    }
+
+    BigDecimal decimal(String column) {
+      String value = get(column);
+      try {
+        return value == null ? null : new BigDecimal(value);
+      } catch (NumberFormatException e) {
+        throw new IllegalArgumentException("Column '" + column + "' must be a number.");
+      }
+    }
+
+    VehicleStatus status() {
+      String value = get("status");
+      try {
+        return value == null ? null : VehicleStatus.valueOf(value.toUpperCase(Locale.ROOT));
+      } catch (IllegalArgumentException e) {
+        throw new IllegalArgumentException("Status '" + value + "' is not valid.");
+      }
+    }
+  }
+
+  private record Prepared<T>(long line, T value, String error) {
+
+    static <T> Prepared<T> accepted(long line, T value) {
+      return new Prepared<>(line, value, null);
+    }
+
+    static <T> Prepared<T> rejected(long line, String error) {
+      return new Prepared<>(line, null, error);
+    }
+  }
+
+  private record NewUser(UUID id, RegisterRequestDto request, String passwordHash) {
+  }
+}
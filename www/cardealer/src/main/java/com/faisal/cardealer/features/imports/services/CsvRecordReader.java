@@ -0,0 +1,83 @@
+package com.faisal.cardealer.features.imports.services;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming RFC 4180 reader: one record at a time, quoted fields may contain
+ * commas, doubled quotes and line breaks. Blank lines are skipped.
+ */
+class CsvRecordReader implements Closeable {
+  private final Reader reader;
+  private long line = 1;
+  private long recordLine;
+
+  CsvRecordReader(Reader reader) {
+    this.reader = reader;
+  }
+
+  /** The next record, or {@code null} at the end of input. */
+  List<String> next() throws IOException {
+    int c = reader.read();
+    while (c == '\r' || c == '\n') {
+      if (c == '\n') {
+        line++;
+      }
+      c = reader.read();
+    }
+    if (c == -1) {
+      return null;
+    }
+
+    recordLine = line;
+    var fields = new ArrayList<String>();
+    var field = new StringBuilder();
+    boolean quoted = false;
+
+    while (true) {
+      if (quoted) {
+        if (c == -1) {
+          throw new IOException("Unterminated quoted field starting on line " + recordLine + ".");
+        }
+        if (c == '"') {
+          int following = reader.read();
+          if (following != '"') {
+            quoted = false;
+            c = following;
+            continue;
+          }
+        } else if (c == '\n') {
+          line++;
+        }
+        field.append((char) c);
+      } else if (c == '"' && field.isEmpty()) {
+        quoted = true;
+      } else if (c == ',') {
+        fields.add(field.toString());
+        field.setLength(0);
+      } else if (c == '\n' || c == -1) {
+        fields.add(field.toString());
+        if (c == '\n') {
+          line++;
+        }
+        return fields;
+      } else if (c != '\r') {
+        field.append((char) c);
+      }
+      c = reader.read();
+    }
+  }
+
+  /** Line number on which the record last returned by {@link #next()} starts. */
+  long line() {
+    return recordLine;
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+}
@@ -0,0 +1,87 @@
+package com.faisal.cardealer.features.imports.services;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.faisal.cardealer.features.imports.dto.ImportErrorDto;
+import com.faisal.cardealer.features.imports.dto.ImportJobDto;
+import com.faisal.cardealer.features.imports.dto.ImportStatus;
+
+/** Progress of one import, updated by the job thread and read by status requests. */
+class ImportJob {
+  private final UUID id;
+  private final String type;
+  private final int maxErrors;
+  private final AtomicLong processed = new AtomicLong();
+  private final AtomicLong imported = new AtomicLong();
+  private final AtomicLong failed = new AtomicLong();
+  private final List<ImportErrorDto> errors = new ArrayList<>();
+
+  private volatile ImportStatus status = ImportStatus.QUEUED;
+  private volatile String message;
+  private volatile LocalDateTime startedAt;
+  private volatile LocalDateTime finishedAt;
+  private volatile long startedNanos;
+  private volatile long finishedNanos;
+
+  ImportJob(UUID id, String type, int maxErrors) {
+    this.id = id;
+    this.type = type;
+    this.maxErrors = maxErrors;
+  }
+
+  UUID id() {
+    return id;
+  }
+
+  void start() {
+    startedNanos = System.nanoTime();
+    startedAt = LocalDateTime.now();
+    status = ImportStatus.RUNNING;
+  }
+
+  void processed(int rows) {
+    processed.addAndGet(rows);
+  }
+
+  void imported(int rows) {
+    imported.addAndGet(rows);
+  }
+
+  long importedCount() {
+    return imported.get();
+  }
+
+  void reject(long line, String reason) {
+    failed.incrementAndGet();
+    synchronized (errors) {
+      if (errors.size() < maxErrors) {
+        errors.add(new ImportErrorDto(line, reason));
+      }
+    }
+  }
+
+  void finish(ImportStatus outcome, String summary) {
+    finishedNanos = System.nanoTime();
+    finishedAt = LocalDateTime.now();
+    message = summary;
+    status = outcome;
+  }
+
+  ImportJobDto toDto() {
+    List<ImportErrorDto> snapshot;
+    synchronized (errors) {
+      snapshot = List.copyOf(errors);
+    }
+
+    long elapsed = startedNanos == 0 ? 0 : (finishedNanos == 0 ? System.nanoTime() : finishedNanos) - startedNanos;
+    long rate = elapsed <= 0 ? 0 : processed.get() * Duration.ofSeconds(1).toNanos() / elapsed;
+
+    return new ImportJobDto(
+        id, type, status, processed.get(), imported.get(), failed.get(), rate, message, snapshot, startedAt, finishedAt);
+  }
+}
@@ -0,0 +1,59 @@
+package com.faisal.cardealer.features.inventory.controllers;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.faisal.cardealer.annotations.RequiresPrivilege;
+import com.faisal.cardealer.dto.ResponsePayload;
+import com.faisal.cardealer.features.inventory.dto.VehicleRequestDto;
+import com.faisal.cardealer.features.inventory.services.InventoryService;
+import com.faisal.cardealer.features.search.dto.VehicleSummaryDto;
+
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/inventory/vehicles")
+public class InventoryController {
+  private final InventoryService inventoryService;
+
+  public InventoryController(InventoryService inventoryService) {
+    this.inventoryService = inventoryService;
+  }
+
+  @PostMapping
+  @RequiresPrivilege("inventory:write")
+  public ResponseEntity<ResponsePayload> createVehicle(@Valid @RequestBody VehicleRequestDto request) {
+    VehicleSummaryDto vehicle = inventoryService.createVehicle(request);
+    return ResponseEntity.status(HttpStatus.CREATED).body(new ResponsePayload(
+        HttpStatus.CREATED.value(), true, "Vehicle created successfully.", LocalDateTime.now().toString(), vehicle));
+  }
+
+  @PutMapping("/{id}")
+  @RequiresPrivilege("inventory:write")
+  public ResponseEntity<ResponsePayload> updateVehicle(
+      @PathVariable UUID id,
+      @Valid @RequestBody VehicleRequestDto request) {
+    VehicleSummaryDto vehicle = inventoryService.updateVehicle(id, request);
+    return ResponseEntity.ok(new ResponsePayload(
+        HttpStatus.OK.value(), true, "Vehicle updated successfully.", LocalDateTime.now().toString(), vehicle));
+  }
+
+  @DeleteMapping("/{id}")
+  @RequiresPrivilege("inventory:delete")
+  public ResponseEntity<ResponsePayload> deleteVehicle(@PathVariable UUID id) {
+    inventoryService.deleteVehicle(id);
+    return ResponseEntity.ok(new ResponsePayload(
+        HttpStatus.OK.value(), true, "Vehicle deleted successfully.", LocalDateTime.now().toString(), Map.of("id", id)));
+  }
+}
@@ -0,0 +1,7 @@
+package com.faisal.cardealer.features.inventory.dto;
+
+import java.util.UUID;
+
+/** Published after a vehicle is created, updated or removed from inventory. */
+public record VehicleChangedEvent(UUID id) {
+}
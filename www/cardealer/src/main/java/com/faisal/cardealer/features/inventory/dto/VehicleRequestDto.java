@@ -0,0 +1,32 @@
+package com.faisal.cardealer.features.inventory.dto;
+
+import java.math.BigDecimal;
+
+import com.faisal.cardealer.models.VehicleStatus;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+public record VehicleRequestDto(
+    @NotBlank(message = "VIN cannot be blank.") @Pattern(regexp = "^[A-HJ-NPR-Z0-9]{17}$", message = "VIN must be 17 characters without I, O or Q.") String vin,
+
+    @NotBlank(message = "Make cannot be blank.") @Size(max = 50, message = "Make must not exceed 50 characters.") String make,
+
+    @NotBlank(message = "Model cannot be blank.") @Size(max = 80, message = "Model must not exceed 80 characters.") String model,
+
+    @NotNull(message = "Year cannot be null.") @Min(value = 1900, message = "Year must be 1900 or later.") @Max(value = 2100, message = "Year must be 2100 or earlier.") Integer year,
+
+    @NotNull(message = "Price cannot be null.") @DecimalMin(value = "0", message = "Price cannot be negative.") BigDecimal price,
+
+    @NotNull(message = "Mileage cannot be null.") @Min(value = 0, message = "Mileage cannot be negative.") Integer mileage,
+
+    @NotBlank(message = "Body type cannot be blank.") @Size(max = 30, message = "Body type must not exceed 30 characters.") @JsonProperty("body_type") String bodyType,
+
+    VehicleStatus status) {
+}
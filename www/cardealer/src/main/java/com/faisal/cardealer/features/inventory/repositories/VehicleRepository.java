@@ -0,0 +1,21 @@
+package com.faisal.cardealer.features.inventory.repositories;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.faisal.cardealer.models.Vehicle;
+
+@Repository
+public interface VehicleRepository extends JpaRepository<Vehicle, UUID> {
+
+  @Query("SELECT v FROM Vehicle v WHERE v.id = :id AND v.deletedAt IS NULL")
+  Optional<Vehicle> findActiveById(@Param("id") UUID id);
+
+  @Query("SELECT COUNT(v) > 0 FROM Vehicle v WHERE v.vin = :vin")
+  boolean existsByVin(@Param("vin") String vin);
+}
@@ -0,0 +1,100 @@
+package com.faisal.cardealer.features.inventory.services;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.faisal.cardealer.exceptions.BadRequestException;
+import com.faisal.cardealer.exceptions.ResourceNotFoundException;
+import com.faisal.cardealer.features.inventory.dto.VehicleChangedEvent;
+import com.faisal.cardealer.features.inventory.dto.VehicleRequestDto;
+import com.faisal.cardealer.features.inventory.repositories.VehicleRepository;
+import com.faisal.cardealer.features.search.dto.VehicleSummaryDto;
+import com.faisal.cardealer.models.Vehicle;
+import com.faisal.cardealer.models.VehicleStatus;
+
+@Service
+public class InventoryService {
+  private static final Logger log = LoggerFactory.getLogger(InventoryService.class);
+
+  private final VehicleRepository vehicleRepository;
+  private final ApplicationEventPublisher eventPublisher;
+
+  public InventoryService(VehicleRepository vehicleRepository, ApplicationEventPublisher eventPublisher) {
+    this.vehicleRepository = vehicleRepository;
+    this.eventPublisher = eventPublisher;
+  }
+
+  @Transactional
+  public VehicleSummaryDto createVehicle(VehicleRequestDto request) {
+    if (vehicleRepository.existsByVin(request.vin())) {
+      throw new BadRequestException("Vehicle with VIN '" + request.vin() + "' already exists.");
+    }
+
+    var vehicle = new Vehicle();
+    apply(vehicle, request);
+
+    Vehicle saved = vehicleRepository.save(vehicle);
+    eventPublisher.publishEvent(new VehicleChangedEvent(saved.getId()));
+
+    log.info("Vehicle '{}' added to inventory.", saved.getVin());
+    return toSummary(saved);
+  }
+
+  @Transactional
+  public VehicleSummaryDto updateVehicle(UUID id, VehicleRequestDto request) {
+    Vehicle vehicle = findActiveOrThrow(id);
+
+    if (!vehicle.getVin().equals(request.vin()) && vehicleRepository.existsByVin(request.vin())) {
+      throw new BadRequestException("Vehicle with VIN '" + request.vin() + "' already exists.");
+    }
+
+    apply(vehicle, request);
+
+    Vehicle saved = vehicleRepository.save(vehicle);
+    eventPublisher.publishEvent(new VehicleChangedEvent(saved.getId()));
+    return toSummary(saved);
+  }
+
+  @Transactional
+  public void deleteVehicle(UUID id) {
+    Vehicle vehicle = findActiveOrThrow(id);
+    vehicle.setDeletedAt(LocalDateTime.now());
+    vehicleRepository.save(vehicle);
+    eventPublisher.publishEvent(new VehicleChangedEvent(id));
+  }
+
+  private Vehicle findActiveOrThrow(UUID id) {
+    return vehicleRepository.findActiveById(id)
+        .orElseThrow(() -> new ResourceNotFoundException("Vehicle not found."));
+  }
+
+  private static void apply(Vehicle vehicle, VehicleRequestDto request) {
+    vehicle.setVin(request.vin());
+    vehicle.setMake(request.make());
+    vehicle.setModel(request.model());
+    vehicle.setYear(request.year().shortValue());
+    vehicle.setPrice(request.price());
+    vehicle.setMileage(request.mileage());
+    vehicle.setBodyType(request.bodyType());
+    vehicle.setStatus(request.status() == null ? VehicleStatus.AVAILABLE : request.status());
+  }
+
+  private static VehicleSummaryDto toSummary(Vehicle vehicle) {
+    return new VehicleSummaryDto(
+        vehicle.getId(),
+        vehicle.getVin(),
+        vehicle.getMake(),
+        vehicle.getModel(),
+        vehicle.getYear(),
+        vehicle.getPrice(),
+        vehicle.getMileage(),
+        vehicle.getBodyType(),
+        vehicle.getCreatedAt());
+  }
+}
@@ -0,0 +1,10 @@
+package com.faisal.cardealer.features.roles.dto;
+
+import java.util.Objects;
+
+public record CachedRole(Long id, String name) {
+  public CachedRole(Long id, String name) {
+    this.id = Objects.requireNonNull(id, "Role ID cannot be null");
+    this.name = Objects.requireNonNull(name, "Role name cannot be null");
+  }
+}
@@ -0,0 +1,4 @@
+package com.faisal.cardealer.features.roles.dto;
+
+public record PrivilegeDefinitionDto(String name, String category, String description) {
+}
@@ -0,0 +1,5 @@
+package com.faisal.cardealer.features.roles.dto;
+
+/** Published after roles, privileges or the grants between them change. */
+public record RbacChangedEvent() {
+}
@@ -0,0 +1,4 @@
+package com.faisal.cardealer.features.roles.dto;
+
+public record RbacSeedResultDto(int privileges, int roles, int grants) {
+}
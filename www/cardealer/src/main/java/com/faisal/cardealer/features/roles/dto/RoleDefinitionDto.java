@@ -0,0 +1,6 @@
+package com.faisal.cardealer.features.roles.dto;
+
+import java.util.Set;
+
+public record RoleDefinitionDto(String name, String description, Set<String> privileges) {
+}
@@ -0,0 +1,187 @@
+package com.faisal.cardealer.features.roles.services;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.faisal.cardealer.annotations.RequiresPrivilege;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Authorizes methods annotated with {@link RequiresPrivilege} against the
+ * current {@link RbacSnapshot}. Every controller rule is compiled when the
+ * context starts; at call time a rule is resolved once per snapshot into
+ * privilege bit positions, so a check is a few bit tests on the caller's
+ * memoized grants with no expression parsing or evaluation.
+ */
+@Component
+public class PrivilegeAuthorizationManager implements AuthorizationManager<MethodInvocation> {
+  private static final Logger LOG = LoggerFactory.getLogger(PrivilegeAuthorizationManager.class);
+  private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+  private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+  private final Supplier<RbacSnapshot> snapshots;
+  private final Map<Method, Rule> rules = new ConcurrentHashMap<>();
+  private final @Nullable Timer grantedTimer;
+  private final @Nullable Timer deniedTimer;
+
+  @Autowired
+  public PrivilegeAuthorizationManager(RbacService rbacService, @Nullable MeterRegistry meterRegistry) {
+    this(rbacService::snapshot, meterRegistry);
+  }
+
+  public PrivilegeAuthorizationManager(Supplier<RbacSnapshot> snapshots, @Nullable MeterRegistry meterRegistry) {
+    this.snapshots = snapshots;
+
+    if (meterRegistry != null) {
+      this.grantedTimer = Timer.builder("security.privilege.evaluation").tag("decision", "granted")
+          .register(meterRegistry);
+      this.deniedTimer = Timer.builder("security.privilege.evaluation").tag("decision", "denied")
+          .register(meterRegistry);
+    } else {
+      this.grantedTimer = null;
+      this.deniedTimer = null;
+    }
+  }
+
+  @EventListener
+  public void compile(ContextRefreshedEvent event) {
+    ApplicationContext context = event.getApplicationContext();
+
+    for (Object controller : context.getBeansWithAnnotation(RestController.class).values()) {
+      Class<?> type = AopUtils.getTargetClass(controller);
+      for (Method method : ReflectionUtils.getUniqueDeclaredMethods(type, ReflectionUtils.USER_DECLARED_METHODS)) {
+        Rule rule = Rule.compile(method, type);
+        if (rule != null) {
+          rules.put(method, rule);
+        }
+      }
+    }
+    LOG.info("Compiled {} privilege rules.", rules.size());
+  }
+
+  @Override
+  public AuthorizationResult authorize(Supplier<? extends Authentication> authentication, MethodInvocation invocation) {
+    long started = System.nanoTime();
+    boolean granted = decide(authentication.get(), rule(invocation));
+
+    Timer timer = granted ? grantedTimer : deniedTimer;
+    if (timer != null) {
+      timer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+    }
+    return granted ? GRANTED : DENIED;
+  }
+
+  private boolean decide(@Nullable Authentication authentication, Rule rule) {
+    if (authentication == null || !authentication.isAuthenticated()) {
+      return false;
+    }
+
+    RbacSnapshot snapshot = snapshots.get();
+    RbacSnapshot.Grants grants = snapshot.grants(RbacService.roleNames(authentication));
+    int[] bits = rule.resolve(snapshot);
+
+    if (bits == null) {
+      return false;
+    }
+    for (int bit : bits) {
+      if (grants.has(bit) != rule.all) {
+        return !rule.all;
+      }
+    }
+    return rule.all;
+  }
+
+  private Rule rule(MethodInvocation invocation) {
+    Method method = invocation.getMethod();
+    Rule rule = rules.get(method);
+    if (rule != null) {
+      return rule;
+    }
+
+    Object target = invocation.getThis();
+    Class<?> type = target != null ? AopUtils.getTargetClass(target) : method.getDeclaringClass();
+    return rules.computeIfAbsent(method, key -> {
+      Rule compiled = Rule.compile(key, type);
+      if (compiled == null) {
+        throw new IllegalStateException("No @RequiresPrivilege on " + key + ".");
+      }
+      return compiled;
+    });
+  }
+
+  /**
+   * One endpoint's privileges and their bit positions in the last snapshot
+   * it was checked against. A {@code null} resolution means the rule cannot
+   * be satisfied by any role in that snapshot.
+   */
+  private static final class Rule {
+    private final String[] privileges;
+    private final boolean all;
+    private volatile Resolution resolution = new Resolution(null, new int[0]);
+
+    private Rule(String[] privileges, boolean all) {
+      this.privileges = privileges.clone();
+      this.all = all;
+    }
+
+    static @Nullable Rule compile(Method method, Class<?> type) {
+      RequiresPrivilege annotation = AnnotatedElementUtils.findMergedAnnotation(method, RequiresPrivilege.class);
+      if (annotation == null) {
+        annotation = AnnotatedElementUtils.findMergedAnnotation(type, RequiresPrivilege.class);
+      }
+      return annotation == null ? null : new Rule(annotation.value(), annotation.all());
+    }
+
+    int @Nullable [] resolve(RbacSnapshot snapshot) {
+      Resolution current = resolution;
+      if (current.snapshot == snapshot) {
+        return current.bits;
+      }
+
+      int[] bits = new int[privileges.length];
+      int known = 0;
+      for (String privilege : privileges) {
+        int bit = snapshot.bit(privilege);
+        if (bit >= 0) {
+          bits[known++] = bit;
+        } else if (all) {
+          bits = null;
+          break;
+        }
+      }
+      if (bits != null && known < bits.length) {
+        bits = Arrays.copyOf(bits, known);
+      }
+
+      resolution = new Resolution(snapshot, bits);
+      return bits;
+    }
+  }
+
+  private record Resolution(@Nullable RbacSnapshot snapshot, int @Nullable [] bits) {
+  }
+}
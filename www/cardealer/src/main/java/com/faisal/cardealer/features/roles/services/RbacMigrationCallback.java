@@ -0,0 +1,50 @@
+package com.faisal.cardealer.features.roles.services;
+
+import org.flywaydb.core.api.callback.BaseCallback;
+import org.flywaydb.core.api.callback.Context;
+import org.flywaydb.core.api.callback.Event;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.faisal.cardealer.features.roles.dto.RbacChangedEvent;
+
+/**
+ * Roles, privileges and their grants are written by Flyway migrations. When
+ * this node applied at least one migration, publishes {@link RbacChangedEvent}
+ * once the application is ready, so the nodes still running the previous
+ * release reload their snapshot as well.
+ */
+@Component
+public class RbacMigrationCallback extends BaseCallback {
+  private final ApplicationEventPublisher eventPublisher;
+  private volatile boolean migrated;
+
+  public RbacMigrationCallback(ApplicationEventPublisher eventPublisher) {
+    this.eventPublisher = eventPublisher;
+  }
+
+  @Override
+  public boolean supports(Event event, Context context) {
+    return event == Event.AFTER_MIGRATE_APPLIED;
+  }
+
+  @Override
+  public boolean canHandleInTransaction(Event event, Context context) {
+    return true;
+  }
+
+  @Override
+  public void handle(Event event, Context context) {
+    migrated = true;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+    if (migrated) {
+      migrated = false;
+      eventPublisher.publishEvent(new RbacChangedEvent());
+    }
+  }
+}
@@ -0,0 +1,138 @@
+package com.faisal.cardealer.features.roles.services;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.faisal.cardealer.features.roles.dto.PrivilegeDefinitionDto;
+import com.faisal.cardealer.features.roles.dto.RbacChangedEvent;
+import com.faisal.cardealer.features.roles.dto.RbacSeedResultDto;
+import com.faisal.cardealer.features.roles.dto.RoleDefinitionDto;
+import com.faisal.cardealer.models.Privileges;
+import com.faisal.cardealer.models.Role;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Creates missing privileges and roles, with their grants, in JDBC batches.
+ * Ids come from pooled sequences, so persisting assigns them without a round
+ * trip, and the persistence context is flushed and cleared every
+ * {@code jpa.jdbc.batch-size} entities to keep dirty checking cheap. Existing
+ * privileges and roles are matched by name and left as they are; role names
+ * are matched case-insensitively, as authorities upper-case them anyway.
+ */
+@Service
+public class RbacSeedService {
+  private static final int LOOKUP_CHUNK = 1_000;
+
+  private final EntityManager entityManager;
+  private final ApplicationEventPublisher eventPublisher;
+  private final int batchSize;
+
+  public RbacSeedService(
+      EntityManager entityManager,
+      ApplicationEventPublisher eventPublisher,
+      @Value("${jpa.jdbc.batch-size:50}") int batchSize) {
+    this.entityManager = entityManager;
+    this.eventPublisher = eventPublisher;
+    this.batchSize = batchSize;
+  }
+
+  @Transactional
+  public RbacSeedResultDto seed(Collection<PrivilegeDefinitionDto> privileges, Collection<RoleDefinitionDto> roles) {
+    Map<String, Long> privilegeIds = idsByName(Privileges.class, "e.name", privileges.stream()
+        .map(PrivilegeDefinitionDto::name)
+        .toList());
+    var created = new ArrayList<Privileges>();
+
+    for (PrivilegeDefinitionDto definition : privileges) {
+      if (privilegeIds.containsKey(definition.name())) {
+        continue;
+      }
+
+      var privilege = new Privileges();
+      privilege.setName(definition.name());
+      privilege.setCategory(definition.category());
+      privilege.setDescription(definition.description());
+      entityManager.persist(privilege);
+      privilegeIds.put(definition.name(), privilege.getId());
+      created.add(privilege);
+      flushEvery(created.size());
+    }
+    flushAndClear();
+
+    Set<String> existingRoles = new HashSet<>(idsByName(Role.class, "UPPER(e.name)", roles.stream()
+        .map(definition -> roleKey(definition.name()))
+        .toList()).keySet());
+    int createdRoles = 0;
+    int grants = 0;
+
+    for (RoleDefinitionDto definition : roles) {
+      if (!existingRoles.add(roleKey(definition.name()))) {
+        continue;
+      }
+
+      var granted = new HashSet<Privileges>();
+      for (String name : definition.privileges()) {
+        Long id = privilegeIds.get(name);
+        if (id == null) {
+          throw new IllegalArgumentException(
+              "Role '" + definition.name() + "' grants unknown privilege '" + name + "'.");
+        }
+        granted.add(entityManager.getReference(Privileges.class, id));
+      }
+
+      var role = new Role();
+      role.setName(definition.name());
+      role.setDescription(definition.description());
+      role.setPrivileges(granted);
+      entityManager.persist(role);
+      grants += granted.size();
+      flushEvery(++createdRoles);
+    }
+    flushAndClear();
+
+    if (!created.isEmpty() || createdRoles > 0) {
+      eventPublisher.publishEvent(new RbacChangedEvent());
+    }
+    return new RbacSeedResultDto(created.size(), createdRoles, grants);
+  }
+
+  private static String roleKey(String name) {
+    return name.toUpperCase(Locale.ROOT);
+  }
+
+  private Map<String, Long> idsByName(Class<?> entity, String key, List<String> names) {
+    var ids = new HashMap<String, Long>();
+    String query = "SELECT " + key + ", e.id FROM " + entity.getSimpleName() + " e WHERE " + key + " IN :names";
+
+    for (int from = 0; from < names.size(); from += LOOKUP_CHUNK) {
+      entityManager.createQuery(query, Object[].class)
+          .setParameter("names", names.subList(from, Math.min(names.size(), from + LOOKUP_CHUNK)))
+          .getResultList()
+          .forEach(row -> ids.put((String) row[0], (Long) row[1]));
+    }
+    return ids;
+  }
+
+  private void flushEvery(int count) {
+    if (count % batchSize == 0) {
+      flushAndClear();
+    }
+  }
+
+  private void flushAndClear() {
+    entityManager.flush();
+    entityManager.clear();
+  }
+}
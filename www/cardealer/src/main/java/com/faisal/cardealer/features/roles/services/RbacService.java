@@ -0,0 +1,164 @@
+package com.faisal.cardealer.features.roles.services;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.faisal.cardealer.features.roles.dto.RbacChangedEvent;
+import com.faisal.cardealer.handlers.JwtPrincipal;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Holds the current {@link RbacSnapshot}. The snapshot is loaded with plain
+ * JDBC once the application is ready and swapped atomically whenever roles
+ * or grants change: locally after the changing transaction commits, and on
+ * other nodes through Redis pub/sub. Readers never block and never see a
+ * half-built graph. The first load is retried with a linear backoff and
+ * startup fails if it never succeeds, so readiness is withheld until the
+ * snapshot has loaded. Requests that arrive earlier see an empty snapshot
+ * and are denied every privilege.
+ *
+ * <p>Registered as {@code rbac} so method security can test privileges, e.g.
+ * {@code @PreAuthorize("@rbac.hasPrivilege(authentication, 'users:read')")}.
+ */
+@Service("rbac")
+public class RbacService implements MessageListener {
+  public static final String CHANNEL = "cardealer:rbac";
+  private static final Logger LOG = LoggerFactory.getLogger(RbacService.class);
+  private static final String ROLE_PREFIX = "ROLE_";
+
+  private final JdbcClient jdbcClient;
+  private final @Nullable StringRedisTemplate redisTemplate;
+  private final int initialLoadAttempts;
+  private final Duration initialLoadBackoff;
+  private final AtomicReference<RbacSnapshot> snapshot = new AtomicReference<>(RbacSnapshot.EMPTY);
+
+  public RbacService(
+      JdbcClient jdbcClient,
+      @Nullable StringRedisTemplate redisTemplate,
+      @Nullable MeterRegistry meterRegistry,
+      @Value("${rbac.initial-load.attempts:5}") int initialLoadAttempts,
+      @Value("${rbac.initial-load.backoff:PT1S}") Duration initialLoadBackoff) {
+    this.jdbcClient = jdbcClient;
+    this.redisTemplate = redisTemplate;
+    this.initialLoadAttempts = Math.max(1, initialLoadAttempts);
+    this.initialLoadBackoff = initialLoadBackoff;
+
+    if (meterRegistry != null) {
+      Gauge.builder("rbac.snapshot.roles", this, service -> service.snapshot().roleCount())
+          .register(meterRegistry);
+      Gauge.builder("rbac.snapshot.privileges", this, service -> service.snapshot().privilegeCount())
+          .register(meterRegistry);
+    }
+  }
+
+  public RbacSnapshot snapshot() {
+    return snapshot.get();
+  }
+
+  public boolean hasPrivilege(@Nullable Authentication authentication, String privilege) {
+    if (authentication == null || !authentication.isAuthenticated()) {
+      return false;
+    }
+    return snapshot().hasPrivilege(roleNames(authentication), privilege);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void initialize() throws InterruptedException {
+    for (int attempt = 1; !reload(); attempt++) {
+      if (attempt >= initialLoadAttempts) {
+        throw new IllegalStateException("Failed to load the RBAC snapshot after " + attempt + " attempts.");
+      }
+      Thread.sleep(initialLoadBackoff.multipliedBy(attempt).toMillis());
+    }
+  }
+
+  /** Loads a new snapshot, keeping the current one if the load fails. */
+  public synchronized boolean reload() {
+    long started = System.nanoTime();
+    var roleNames = new HashMap<Long, String>();
+    var privilegeNames = new HashMap<Long, String>();
+    var privilegesByRole = new HashMap<String, List<String>>();
+
+    try {
+      jdbcClient.sql("SELECT id, name FROM roles")
+          .query(rs -> {
+            roleNames.put(rs.getLong("id"), rs.getString("name"));
+          });
+      jdbcClient.sql("SELECT id, name FROM privileges")
+          .query(rs -> {
+            privilegeNames.put(rs.getLong("id"), rs.getString("name"));
+          });
+      roleNames.values().forEach(name -> privilegesByRole.put(name, new ArrayList<>()));
+      jdbcClient.sql("SELECT role_id, privilege_id FROM role_privileges")
+          .query(rs -> {
+            String role = roleNames.get(rs.getLong("role_id"));
+            String privilege = privilegeNames.get(rs.getLong("privilege_id"));
+            if (role != null && privilege != null) {
+              privilegesByRole.get(role).add(privilege);
+            }
+          });
+    } catch (DataAccessException e) {
+      LOG.warn("Failed to load the RBAC snapshot: {}", e.getMessage());
+      return false;
+    }
+
+    var loaded = snapshot.updateAndGet(current -> new RbacSnapshot(current.version() + 1, privilegesByRole));
+    LOG.info("RBAC snapshot {} loaded with {} roles and {} privileges in {} ms.",
+        loaded.version(), loaded.roleCount(), loaded.privilegeCount(), (System.nanoTime() - started) / 1_000_000);
+    return true;
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onRbacChanged(RbacChangedEvent event) {
+    reload();
+
+    if (redisTemplate != null) {
+      try {
+        redisTemplate.convertAndSend(CHANNEL, "reload");
+      } catch (DataAccessException e) {
+        LOG.warn("Failed to publish RBAC change: {}", e.getMessage());
+      }
+    }
+  }
+
+  @Override
+  public void onMessage(Message message, byte @Nullable [] pattern) {
+    reload();
+  }
+
+  static List<String> roleNames(Authentication authentication) {
+    if (authentication.getPrincipal() instanceof JwtPrincipal principal) {
+      return principal.roles();
+    }
+
+    var roles = new ArrayList<String>();
+    for (GrantedAuthority authority : authentication.getAuthorities()) {
+      String name = authority.getAuthority();
+      if (name != null && name.startsWith(ROLE_PREFIX)) {
+        roles.add(name.substring(ROLE_PREFIX.length()));
+      }
+    }
+    return roles;
+  }
+}
@@ -0,0 +1,158 @@
+package com.faisal.cardealer.features.roles.services;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * Immutable view of the role to privilege graph. Every privilege has a bit
+ * position and every role a bitset of the privileges it grants, so a
+ * privilege check is a map lookup and a bit test. Role authorities are
+ * interned: principals with the same roles share one authority set.
+ *
+ * <p>The grants for a combination of roles are computed on first use and
+ * memoized for the lifetime of the snapshot; a new snapshot replaces the
+ * whole graph rather than changing this one.
+ */
+public final class RbacSnapshot {
+  public static final RbacSnapshot EMPTY = new RbacSnapshot(0, Map.of());
+
+  private static final String ROLE_PREFIX = "ROLE_";
+  private static final int MAX_MEMOIZED = 4_096;
+
+  private final long version;
+  private final Map<String, Integer> privilegeBits;
+  private final Map<String, Grants> roles;
+  private final Map<List<String>, Grants> memo = new ConcurrentHashMap<>();
+
+  /**
+   * @param privilegesByRole privilege names granted by each role name; roles
+   *        without privileges map to an empty set
+   */
+  public RbacSnapshot(long version, Map<String, ? extends Collection<String>> privilegesByRole) {
+    this.version = version;
+
+    var bits = new HashMap<String, Integer>();
+    privilegesByRole.values().forEach(names -> names.forEach(name -> bits.putIfAbsent(name, bits.size())));
+    this.privilegeBits = Map.copyOf(bits);
+
+    // Role names that differ only in case grant the same authority, so their privileges are merged.
+    var sets = new HashMap<String, long[]>();
+    privilegesByRole.forEach((role, names) -> {
+      long[] set = sets.computeIfAbsent(normalize(role), key -> new long[words(bits.size())]);
+      names.forEach(name -> {
+        int bit = bits.get(name);
+        set[bit >>> 6] |= 1L << bit;
+      });
+    });
+
+    var grants = new HashMap<String, Grants>();
+    sets.forEach((role, set) -> grants.put(role, new Grants(Set.of(authority(role)), set)));
+    this.roles = Map.copyOf(grants);
+  }
+
+  public long version() {
+    return version;
+  }
+
+  public int roleCount() {
+    return roles.size();
+  }
+
+  public int privilegeCount() {
+    return privilegeBits.size();
+  }
+
+  /**
+   * Authorities and privileges for a principal holding {@code roleNames}.
+   * Roles unknown to the snapshot still yield their {@code ROLE_} authority
+   * but grant no privileges.
+   */
+  public Grants grants(List<String> roleNames) {
+    Grants grants = memo.get(roleNames);
+    if (grants != null) {
+      return grants;
+    }
+
+    grants = combine(roleNames);
+    if (memo.size() < MAX_MEMOIZED) {
+      memo.putIfAbsent(List.copyOf(roleNames), grants);
+    }
+    return grants;
+  }
+
+  /** Bit position of {@code privilege}, or {@code -1} when no role grants it. */
+  public int bit(String privilege) {
+    return privilegeBits.getOrDefault(privilege, -1);
+  }
+
+  public boolean hasPrivilege(List<String> roleNames, String privilege) {
+    Integer bit = privilegeBits.get(privilege);
+    return bit != null && grants(roleNames).has(bit);
+  }
+
+  private Grants combine(List<String> roleNames) {
+    if (roleNames.size() == 1) {
+      Grants single = roles.get(normalize(roleNames.getFirst()));
+      if (single != null) {
+        return single;
+      }
+    }
+
+    var authorities = new HashSet<GrantedAuthority>();
+    long[] set = new long[words(privilegeBits.size())];
+
+    for (String roleName : roleNames) {
+      Grants role = roles.get(normalize(roleName));
+      if (role == null) {
+        authorities.add(authority(roleName));
+        continue;
+      }
+
+      authorities.addAll(role.authorities());
+      for (int i = 0; i < set.length; i++) {
+        set[i] |= role.privileges[i];
+      }
+    }
+    return new Grants(Set.copyOf(authorities), set);
+  }
+
+  private static GrantedAuthority authority(String role) {
+    return new SimpleGrantedAuthority(ROLE_PREFIX + normalize(role));
+  }
+
+  private static String normalize(String role) {
+    return role.toUpperCase(Locale.ROOT);
+  }
+
+  private static int words(int bits) {
+    return (bits + 63) >>> 6;
+  }
+
+  /** Authorities and privilege bitset of one role or combination of roles. */
+  public static final class Grants {
+    private final Set<GrantedAuthority> authorities;
+    private final long[] privileges;
+
+    private Grants(Set<GrantedAuthority> authorities, long[] privileges) {
+      this.authorities = authorities;
+      this.privileges = privileges;
+    }
+
+    public Set<GrantedAuthority> authorities() {
+      return authorities;
+    }
+
+    public boolean has(int bit) {
+      return (privileges[bit >>> 6] & (1L << bit)) != 0;
+    }
+  }
+}
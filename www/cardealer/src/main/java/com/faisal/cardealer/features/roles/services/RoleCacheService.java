@@ -0,0 +1,62 @@
+package com.faisal.cardealer.features.roles.services;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.faisal.cardealer.cache.CacheCodec;
+import com.faisal.cardealer.cache.TwoTierCache;
+import com.faisal.cardealer.cache.TwoTierCacheManager;
+import com.faisal.cardealer.features.roles.dto.CachedRole;
+import com.faisal.cardealer.features.roles.repositories.RoleRepository;
+
+@Service
+public class RoleCacheService {
+  private final RoleRepository roleRepository;
+  private final TwoTierCache<CachedRole> cache;
+
+  public RoleCacheService(
+      RoleRepository roleRepository,
+      TwoTierCacheManager cacheManager,
+      @Value("${cache.roles.max-size:1000}") long maximumSize,
+      @Value("${cache.roles.ttl:PT1H}") Duration ttl) {
+    this.roleRepository = roleRepository;
+    this.cache = cacheManager.create("roles", new CachedRoleCodec(), maximumSize, ttl);
+  }
+
+  public Optional<CachedRole> findByName(String name) {
+    return cache.get(name, () -> roleRepository.findByName(name)
+        .map(role -> new CachedRole(role.getId(), role.getName())));
+  }
+
+  public void evict(String name) {
+    cache.evict(name);
+  }
+
+  private static final class CachedRoleCodec implements CacheCodec<CachedRole> {
+    @Override
+    public byte[] encode(CachedRole role) throws IOException {
+      var bytes = new ByteArrayOutputStream(32);
+
+      try (var out = new DataOutputStream(bytes)) {
+        out.writeLong(role.id());
+        out.writeUTF(role.name());
+      }
+      return bytes.toByteArray();
+    }
+
+    @Override
+    public CachedRole decode(byte[] bytes) throws IOException {
+      try (var in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+        return new CachedRole(in.readLong(), in.readUTF());
+      }
+    }
+  }
+}
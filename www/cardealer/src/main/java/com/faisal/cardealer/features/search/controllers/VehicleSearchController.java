@@ -0,0 +1,77 @@
+package com.faisal.cardealer.features.search.controllers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.faisal.cardealer.dto.PaginationPayload;
+import com.faisal.cardealer.dto.ResponsePayload;
+import com.faisal.cardealer.features.search.dto.FacetResultDto;
+import com.faisal.cardealer.features.search.dto.PaginationRequestDto;
+import com.faisal.cardealer.features.search.dto.SearchRequestDto;
+import com.faisal.cardealer.features.search.dto.SuggestionDto;
+import com.faisal.cardealer.features.search.dto.TextSearchRequestDto;
+import com.faisal.cardealer.features.search.dto.VehicleSummaryDto;
+import com.faisal.cardealer.features.search.services.InventoryFacetService;
+import com.faisal.cardealer.features.search.services.VehicleSearchService;
+import com.faisal.cardealer.features.search.services.VehicleTextSearchService;
+
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/vehicles")
+public class VehicleSearchController {
+  private final VehicleSearchService vehicleSearchService;
+  private final InventoryFacetService inventoryFacetService;
+  private final VehicleTextSearchService vehicleTextSearchService;
+
+  public VehicleSearchController(
+      VehicleSearchService vehicleSearchService,
+      InventoryFacetService inventoryFacetService,
+      VehicleTextSearchService vehicleTextSearchService) {
+    this.vehicleSearchService = vehicleSearchService;
+    this.inventoryFacetService = inventoryFacetService;
+    this.vehicleTextSearchService = vehicleTextSearchService;
+  }
+
+  @GetMapping("/search")
+  public ResponseEntity<ResponsePayload> search(
+      @Valid @ModelAttribute SearchRequestDto filters,
+      @Valid @ModelAttribute PaginationRequestDto page) {
+    PaginationPayload<VehicleSummaryDto> vehicles = vehicleSearchService.search(filters, page);
+    return ResponseEntity.ok(new ResponsePayload(
+        HttpStatus.OK.value(), true, "Vehicles retrieved successfully.", LocalDateTime.now().toString(), vehicles));
+  }
+
+  @GetMapping("/search/text")
+  public ResponseEntity<ResponsePayload> searchText(@Valid @ModelAttribute TextSearchRequestDto request) {
+    PaginationPayload<VehicleSummaryDto> vehicles = vehicleTextSearchService.search(request);
+    return ResponseEntity.ok(new ResponsePayload(
+        HttpStatus.OK.value(), true, "Vehicles retrieved successfully.", LocalDateTime.now().toString(), vehicles));
+  }
+
+  @GetMapping("/suggest")
+  public ResponseEntity<ResponsePayload> suggest(
+      @RequestParam String q,
+      @RequestParam(defaultValue = "10") int limit) {
+    List<SuggestionDto> suggestions = vehicleTextSearchService.suggest(q, limit);
+    return ResponseEntity.ok(new ResponsePayload(
+        HttpStatus.OK.value(), true, "Suggestions retrieved successfully.", LocalDateTime.now().toString(), suggestions));
+  }
+
+  @GetMapping("/facets")
+  public ResponseEntity<ResponsePayload> facets(
+      @Valid @ModelAttribute SearchRequestDto filters,
+      @RequestParam(defaultValue = "20") int limit) {
+    FacetResultDto facets = inventoryFacetService.facets(filters, limit);
+    return ResponseEntity.ok(new ResponsePayload(
+        HttpStatus.OK.value(), true, "Vehicle facets retrieved successfully.", LocalDateTime.now().toString(), facets));
+  }
+}
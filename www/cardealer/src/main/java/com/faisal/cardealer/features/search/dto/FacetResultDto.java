@@ -0,0 +1,16 @@
+package com.faisal.cardealer.features.search.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record FacetResultDto(
+    int total,
+    Map<String, Integer> makes,
+    Map<String, Integer> models,
+    @JsonProperty("body_types") Map<String, Integer> bodyTypes,
+    Map<Integer, Integer> years,
+    @JsonProperty("price_bands") Map<String, Integer> priceBands,
+    List<VehicleSummaryDto> vehicles) {
+}
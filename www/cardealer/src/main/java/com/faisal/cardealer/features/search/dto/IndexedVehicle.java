@@ -0,0 +1,19 @@
+package com.faisal.cardealer.features.search.dto;
+
+import java.util.UUID;
+
+/**
+ * The subset of a vehicle row the facet index keeps, with price in cents and
+ * the creation time in epoch milliseconds so both fit primitive arrays.
+ */
+public record IndexedVehicle(
+    UUID id,
+    String make,
+    String model,
+    int year,
+    long priceCents,
+    int mileage,
+    String bodyType,
+    long createdAtMillis,
+    boolean listed) {
+}
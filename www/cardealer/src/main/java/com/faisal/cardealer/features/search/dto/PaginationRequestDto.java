@@ -1,5 +1,14 @@
 package com.faisal.cardealer.features.search.dto;
 
-public record PaginationRequestDto() {
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 
+public record PaginationRequestDto(
+    @Min(value = 1, message = "Size must be at least 1.") @Max(value = 100, message = "Size must not exceed 100.") Integer size,
+    String cursor) {
+  public static final int DEFAULT_SIZE = 20;
+
+  public PaginationRequestDto {
+    size = size == null ? DEFAULT_SIZE : size;
+  }
 }
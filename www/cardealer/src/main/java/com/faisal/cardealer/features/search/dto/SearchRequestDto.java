@@ -1,5 +1,23 @@
 package com.faisal.cardealer.features.search.dto;
 
-public record SearchRequestDto() {
+import java.math.BigDecimal;
 
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+
+public record SearchRequestDto(
+    @Size(max = 50, message = "Make must not exceed 50 characters.") String make,
+    @Size(max = 80, message = "Model must not exceed 80 characters.") String model,
+    @Min(value = 1900, message = "Minimum year must be 1900 or later.") @Max(value = 2100, message = "Minimum year must be 2100 or earlier.") Integer yearMin,
+    @Min(value = 1900, message = "Maximum year must be 1900 or later.") @Max(value = 2100, message = "Maximum year must be 2100 or earlier.") Integer yearMax,
+    @DecimalMin(value = "0", message = "Minimum price cannot be negative.") BigDecimal priceMin,
+    @DecimalMin(value = "0", message = "Maximum price cannot be negative.") BigDecimal priceMax,
+    @Min(value = 0, message = "Maximum mileage cannot be negative.") Integer mileageMax,
+    @Size(max = 30, message = "Body type must not exceed 30 characters.") String bodyType,
+    VehicleSort sort) {
+  public SearchRequestDto {
+    sort = sort == null ? VehicleSort.NEWEST : sort;
+  }
 }
@@ -0,0 +1,4 @@
+package com.faisal.cardealer.features.search.dto;
+
+public record SuggestionDto(String make, String model, long listings) {
+}
@@ -0,0 +1,16 @@
+package com.faisal.cardealer.features.search.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record TextSearchRequestDto(
+    @NotBlank(message = "Query cannot be blank.") @Size(max = 100, message = "Query must not exceed 100 characters.") String q,
+    @Min(value = 1, message = "Size must be at least 1.") @Max(value = 100, message = "Size must not exceed 100.") Integer size,
+    @Min(value = 0, message = "Page cannot be negative.") @Max(value = 50, message = "Page must not exceed 50.") Integer page) {
+  public TextSearchRequestDto {
+    size = size == null ? PaginationRequestDto.DEFAULT_SIZE : size;
+    page = page == null ? 0 : page;
+  }
+}
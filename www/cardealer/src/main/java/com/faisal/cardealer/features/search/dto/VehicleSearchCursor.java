@@ -0,0 +1,47 @@
+package com.faisal.cardealer.features.search.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.faisal.cardealer.exceptions.BadRequestException;
+
+/**
+ * Opaque keyset position in a search result: the sort it belongs to, the last
+ * row's sort value and its id. A cursor only continues the sort it was
+ * issued for.
+ */
+public record VehicleSearchCursor(VehicleSort sort, Object value, UUID id) {
+  private static final char SEPARATOR = '|';
+
+  public static VehicleSearchCursor after(VehicleSort sort, VehicleSummaryDto last) {
+    return new VehicleSearchCursor(sort, sort.valueOf(last), last.id());
+  }
+
+  public String encode() {
+    String raw = sort.name() + SEPARATOR + value + SEPARATOR + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static VehicleSearchCursor decode(String cursor, VehicleSort expectedSort) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int first = raw.indexOf(SEPARATOR);
+      int last = raw.lastIndexOf(SEPARATOR);
+
+      if (first <= 0 || last <= first) {
+        throw new BadRequestException("Invalid cursor.");
+      }
+
+      VehicleSort sort = VehicleSort.valueOf(raw.substring(0, first));
+
+      if (sort != expectedSort) {
+        throw new BadRequestException("Cursor does not match the requested sort.");
+      }
+
+      return new VehicleSearchCursor(sort, sort.parse(raw.substring(first + 1, last)), UUID.fromString(raw.substring(last + 1)));
+    } catch (IllegalArgumentException | java.time.DateTimeException e) {
+      throw new BadRequestException("Invalid cursor.");
+    }
+  }
+}
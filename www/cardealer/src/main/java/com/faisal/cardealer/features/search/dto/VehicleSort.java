@@ -0,0 +1,48 @@
+package com.faisal.cardealer.features.search.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+/**
+ * Supported orderings. Each maps to one column that has a matching partial
+ * index ending in {@code id}, which is also the keyset tie-breaker.
+ */
+public enum VehicleSort {
+  NEWEST("created_at", false, LocalDateTime::parse),
+  PRICE_ASC("price", true, BigDecimal::new),
+  PRICE_DESC("price", false, BigDecimal::new),
+  YEAR_DESC("model_year", false, Integer::valueOf),
+  MILEAGE_ASC("mileage", true, Integer::valueOf);
+
+  private final String column;
+  private final boolean ascending;
+  private final Function<String, Object> parser;
+
+  VehicleSort(String column, boolean ascending, Function<String, Object> parser) {
+    this.column = column;
+    this.ascending = ascending;
+    this.parser = parser;
+  }
+
+  public String column() {
+    return column;
+  }
+
+  public boolean ascending() {
+    return ascending;
+  }
+
+  public Object parse(String value) {
+    return parser.apply(value);
+  }
+
+  public Object valueOf(VehicleSummaryDto vehicle) {
+    return switch (this) {
+      case NEWEST -> vehicle.createdAt();
+      case PRICE_ASC, PRICE_DESC -> vehicle.price();
+      case YEAR_DESC -> vehicle.year();
+      case MILEAGE_ASC -> vehicle.mileage();
+    };
+  }
+}
@@ -0,0 +1,19 @@
+package com.faisal.cardealer.features.search.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record VehicleSummaryDto(
+    UUID id,
+    String vin,
+    String make,
+    String model,
+    int year,
+    BigDecimal price,
+    int mileage,
+    @JsonProperty("body_type") String bodyType,
+    @JsonProperty("created_at") LocalDateTime createdAt) {
+}
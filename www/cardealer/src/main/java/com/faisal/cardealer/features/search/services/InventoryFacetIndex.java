@@ -0,0 +1,547 @@
+package com.faisal.cardealer.features.search.services;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.roaringbitmap.RoaringBitmapWriter;
+
+import com.faisal.cardealer.features.search.dto.IndexedVehicle;
+import com.faisal.cardealer.features.search.dto.SearchRequestDto;
+import com.faisal.cardealer.features.search.dto.VehicleSort;
+
+/**
+ * In-memory facet index over listed vehicles. Every vehicle gets a dense
+ * document number; categorical facets (make, model, body type, model year and
+ * price band) are compressed bitmaps of document numbers, and the values used
+ * for range filters and sorting live in primitive arrays indexed by the same
+ * number. Filters are bitmap intersections, facet counts are intersection
+ * cardinalities (or a single pass over the matches when they are few), and
+ * top-N is a bounded insertion sort over the matches.
+ *
+ * <p>Document numbers of removed vehicles are not reused; rebuilding the
+ * index compacts them.
+ */
+public class InventoryFacetIndex {
+  public static final List<String> PRICE_BANDS =
+      List.of("0-10000", "10000-20000", "20000-30000", "30000-50000", "50000-75000", "75000+");
+
+  private static final long[] PRICE_BAND_UPPER_CENTS = { 1_000_000L, 2_000_000L, 3_000_000L, 5_000_000L, 7_500_000L };
+  private static final int MIN_YEAR = 1900;
+  private static final int YEAR_SLOTS = 201;
+  private static final int INITIAL_CAPACITY = 1_024;
+
+  /**
+   * Facet counts intersect bitmaps only when the matches are at least this
+   * fraction (as a shift) of the listed vehicles; sparser matches are counted
+   * in one pass over the per-document arrays, which is cheaper than merging
+   * sparse containers once per facet value.
+   */
+  private static final int DENSE_MATCH_SHIFT = 4;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Dictionary makes = new Dictionary();
+  private final Dictionary models = new Dictionary();
+  private final Dictionary bodyTypes = new Dictionary();
+  private final RoaringBitmap[] years = new RoaringBitmap[YEAR_SLOTS];
+  private final RoaringBitmap[] priceBands = new RoaringBitmap[PRICE_BANDS.size()];
+  private final RoaringBitmap listed = new RoaringBitmap();
+  private final List<RoaringBitmap> modelsByMake = new ArrayList<>();
+
+  private long[] idHigh = new long[INITIAL_CAPACITY];
+  private long[] idLow = new long[INITIAL_CAPACITY];
+  private int[] idSlots = emptySlots(INITIAL_CAPACITY * 2);
+  private int[] makeOrdinals = new int[INITIAL_CAPACITY];
+  private int[] modelOrdinals = new int[INITIAL_CAPACITY];
+  private int[] bodyTypeOrdinals = new int[INITIAL_CAPACITY];
+  private short[] modelYears = new short[INITIAL_CAPACITY];
+  private byte[] priceBandOrdinals = new byte[INITIAL_CAPACITY];
+  private long[] priceCents = new long[INITIAL_CAPACITY];
+  private int[] mileages = new int[INITIAL_CAPACITY];
+  private long[] createdAtMillis = new long[INITIAL_CAPACITY];
+  private int size;
+  private boolean insertionOrderIsNewest = true;
+
+  public record Result(
+      int total,
+      Map<String, Integer> makes,
+      Map<String, Integer> models,
+      Map<String, Integer> bodyTypes,
+      Map<Integer, Integer> years,
+      Map<String, Integer> priceBands,
+      List<UUID> top) {
+  }
+
+  public InventoryFacetIndex() {
+    for (int band = 0; band < priceBands.length; band++) {
+      priceBands[band] = new RoaringBitmap();
+    }
+  }
+
+  public static long toCents(BigDecimal price) {
+    return price.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+  }
+
+  public void upsert(IndexedVehicle vehicle) {
+    lock.writeLock().lock();
+    try {
+      int document = find(vehicle.id());
+
+      if (document < 0) {
+        document = size++;
+        ensureCapacity(size);
+        idHigh[document] = vehicle.id().getMostSignificantBits();
+        idLow[document] = vehicle.id().getLeastSignificantBits();
+        addIdSlot(document);
+        insertionOrderIsNewest &= document == 0 || vehicle.createdAtMillis() >= createdAtMillis[document - 1];
+      } else {
+        unlist(document);
+      }
+
+      makeOrdinals[document] = makes.ordinal(vehicle.make());
+      modelOrdinals[document] = models.ordinal(vehicle.model());
+      bodyTypeOrdinals[document] = bodyTypes.ordinal(vehicle.bodyType());
+      modelYears[document] = (short) Math.clamp(vehicle.year(), MIN_YEAR, MIN_YEAR + YEAR_SLOTS - 1);
+      priceCents[document] = vehicle.priceCents();
+      priceBandOrdinals[document] = (byte) priceBand(vehicle.priceCents());
+      mileages[document] = vehicle.mileage();
+      createdAtMillis[document] = vehicle.createdAtMillis();
+
+      if (vehicle.listed()) {
+        list(document);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void remove(UUID id) {
+    lock.writeLock().lock();
+    try {
+      int document = find(id);
+      if (document >= 0) {
+        unlist(document);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /** Converts bitmap containers to run-length encoding where smaller; call after bulk loads. */
+  public void optimize() {
+    lock.writeLock().lock();
+    try {
+      forEachBitmap(RoaringBitmap::runOptimize);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public Result query(SearchRequestDto filters, int limit) {
+    lock.readLock().lock();
+    try {
+      RoaringBitmap matches = match(filters);
+      int total = matches.getCardinality();
+      Integer make = present(filters.make()) ? makes.ordinals.get(filters.make()) : null;
+
+      int[] makeCounts = new int[makes.size()];
+      int[] modelCounts = new int[make == null ? 0 : models.size()];
+      int[] bodyTypeCounts = new int[bodyTypes.size()];
+      int[] yearCounts = new int[YEAR_SLOTS];
+      int[] priceBandCounts = new int[priceBands.length];
+
+      if (total < listed.getCardinality() >>> DENSE_MATCH_SHIFT) {
+        IntIterator iterator = matches.getIntIterator();
+        while (iterator.hasNext()) {
+          int document = iterator.next();
+          makeCounts[makeOrdinals[document]]++;
+          if (make != null) {
+            modelCounts[modelOrdinals[document]]++;
+          }
+          bodyTypeCounts[bodyTypeOrdinals[document]]++;
+          yearCounts[modelYears[document] - MIN_YEAR]++;
+          priceBandCounts[priceBandOrdinals[document]]++;
+        }
+      } else {
+        makes.count(matches, makeCounts);
+        bodyTypes.count(matches, bodyTypeCounts);
+        if (make != null && make < modelsByMake.size()) {
+          IntIterator model = modelsByMake.get(make).getIntIterator();
+          while (model.hasNext()) {
+            int ordinal = model.next();
+            modelCounts[ordinal] = RoaringBitmap.andCardinality(matches, models.bitmaps.get(ordinal));
+          }
+        }
+        for (int slot = yearFrom(filters.yearMin()); slot <= yearTo(filters.yearMax()); slot++) {
+          if (years[slot] != null) {
+            yearCounts[slot] = RoaringBitmap.andCardinality(matches, years[slot]);
+          }
+        }
+        for (int band = 0; band < priceBands.length; band++) {
+          priceBandCounts[band] = RoaringBitmap.andCardinality(matches, priceBands[band]);
+        }
+      }
+
+      var yearFacet = new LinkedHashMap<Integer, Integer>();
+      for (int slot = 0; slot < YEAR_SLOTS; slot++) {
+        if (yearCounts[slot] > 0) {
+          yearFacet.put(MIN_YEAR + slot, yearCounts[slot]);
+        }
+      }
+
+      var priceBandFacet = new LinkedHashMap<String, Integer>();
+      for (int band = 0; band < priceBands.length; band++) {
+        priceBandFacet.put(PRICE_BANDS.get(band), priceBandCounts[band]);
+      }
+
+      return new Result(
+          total,
+          makes.facet(makeCounts),
+          models.facet(modelCounts),
+          bodyTypes.facet(bodyTypeCounts),
+          yearFacet,
+          priceBandFacet,
+          top(matches, filters.sort(), limit));
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return listed.getCardinality();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public long bitmapSizeInBytes() {
+    lock.readLock().lock();
+    try {
+      long[] bytes = { 0L };
+      forEachBitmap(bitmap -> bytes[0] += bitmap.getSizeInBytes());
+      return bytes[0];
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /** Allocated size of the per-document arrays and the id lookup table. */
+  public long arraySizeInBytes() {
+    lock.readLock().lock();
+    try {
+      long perDocument = Long.BYTES * 2L + Integer.BYTES * 4L + Short.BYTES + Byte.BYTES + Long.BYTES * 2L;
+      return perDocument * idHigh.length + (long) Integer.BYTES * idSlots.length;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private RoaringBitmap match(SearchRequestDto filters) {
+    var bitmaps = new ArrayList<RoaringBitmap>(5);
+    bitmaps.add(listed);
+
+    if (present(filters.make()) && !add(bitmaps, makes.bitmap(filters.make()))) {
+      return new RoaringBitmap();
+    }
+    if (present(filters.model()) && !add(bitmaps, models.bitmap(filters.model()))) {
+      return new RoaringBitmap();
+    }
+    if (present(filters.bodyType()) && !add(bitmaps, bodyTypes.bitmap(filters.bodyType()))) {
+      return new RoaringBitmap();
+    }
+    if (filters.yearMin() != null || filters.yearMax() != null) {
+      bitmaps.add(union(years, yearFrom(filters.yearMin()), yearTo(filters.yearMax())));
+    }
+
+    long minCents = filters.priceMin() == null ? Long.MIN_VALUE : toCents(filters.priceMin());
+    long maxCents = filters.priceMax() == null ? Long.MAX_VALUE : toCents(filters.priceMax());
+    if (filters.priceMin() != null || filters.priceMax() != null) {
+      bitmaps.add(union(priceBands, priceBand(Math.max(minCents, 0L)), priceBand(Math.max(maxCents, 0L))));
+    }
+
+    RoaringBitmap matches = bitmaps.size() == 1
+        ? listed.clone()
+        : FastAggregation.and(bitmaps.toArray(RoaringBitmap[]::new));
+
+    if (filters.priceMin() == null && filters.priceMax() == null && filters.mileageMax() == null) {
+      return matches;
+    }
+
+    int maxMileage = filters.mileageMax() == null ? Integer.MAX_VALUE : filters.mileageMax();
+
+    RoaringBitmapWriter<RoaringBitmap> writer = RoaringBitmapWriter.writer().get();
+    IntIterator iterator = matches.getIntIterator();
+    while (iterator.hasNext()) {
+      int document = iterator.next();
+      long cents = priceCents[document];
+      if (cents >= minCents && cents <= maxCents && mileages[document] <= maxMileage) {
+        writer.add(document);
+      }
+    }
+    return writer.get();
+  }
+
+  /** Coarse pre-filter: the union of the bitmaps in {@code [from, to]}, before exact checks on the arrays. */
+  private static RoaringBitmap union(RoaringBitmap[] bitmaps, int from, int to) {
+    var inRange = new ArrayList<RoaringBitmap>();
+    for (int slot = from; slot <= to; slot++) {
+      if (bitmaps[slot] != null) {
+        inRange.add(bitmaps[slot]);
+      }
+    }
+    return inRange.isEmpty() ? new RoaringBitmap() : FastAggregation.or(inRange.iterator());
+  }
+
+  private static int yearFrom(Integer yearMin) {
+    return Math.clamp(yearMin == null ? MIN_YEAR : yearMin, MIN_YEAR, MIN_YEAR + YEAR_SLOTS) - MIN_YEAR;
+  }
+
+  private static int yearTo(Integer yearMax) {
+    return Math.clamp(yearMax == null ? MIN_YEAR + YEAR_SLOTS - 1 : yearMax, MIN_YEAR - 1, MIN_YEAR + YEAR_SLOTS - 1)
+        - MIN_YEAR;
+  }
+
+  private List<UUID> top(RoaringBitmap matches, VehicleSort sort, int limit) {
+    if (limit <= 0 || matches.isEmpty()) {
+      return List.of();
+    }
+
+    if (sort == VehicleSort.NEWEST && insertionOrderIsNewest) {
+      var newest = new ArrayList<UUID>(Math.min(limit, matches.getCardinality()));
+      IntIterator iterator = matches.getReverseIntIterator();
+      while (iterator.hasNext() && newest.size() < limit) {
+        newest.add(id(iterator.next()));
+      }
+      return newest;
+    }
+
+    long[] keys = new long[limit];
+    int[] best = new int[limit];
+    int count = 0;
+
+    IntIterator iterator = matches.getIntIterator();
+    while (iterator.hasNext()) {
+      int document = iterator.next();
+      long key = sortKey(sort, document);
+
+      if (count == limit && key >= keys[limit - 1]) {
+        continue;
+      }
+
+      int position = count == limit ? limit - 1 : count++;
+      while (position > 0 && keys[position - 1] > key) {
+        keys[position] = keys[position - 1];
+        best[position] = best[position - 1];
+        position--;
+      }
+      keys[position] = key;
+      best[position] = document;
+    }
+
+    var top = new ArrayList<UUID>(count);
+    for (int i = 0; i < count; i++) {
+      top.add(id(best[i]));
+    }
+    return top;
+  }
+
+  /** Smaller keys sort first. */
+  private long sortKey(VehicleSort sort, int document) {
+    return switch (sort) {
+      case NEWEST -> -createdAtMillis[document];
+      case PRICE_ASC -> priceCents[document];
+      case PRICE_DESC -> -priceCents[document];
+      case YEAR_DESC -> -modelYears[document];
+      case MILEAGE_ASC -> mileages[document];
+    };
+  }
+
+  private void list(int document) {
+    listed.add(document);
+    makes.bitmaps.get(makeOrdinals[document]).add(document);
+    models.bitmaps.get(modelOrdinals[document]).add(document);
+    while (modelsByMake.size() <= makeOrdinals[document]) {
+      modelsByMake.add(new RoaringBitmap());
+    }
+    modelsByMake.get(makeOrdinals[document]).add(modelOrdinals[document]);
+    bodyTypes.bitmaps.get(bodyTypeOrdinals[document]).add(document);
+
+    int slot = modelYears[document] - MIN_YEAR;
+    if (years[slot] == null) {
+      years[slot] = new RoaringBitmap();
+    }
+    years[slot].add(document);
+    priceBands[priceBandOrdinals[document]].add(document);
+  }
+
+  private void unlist(int document) {
+    if (!listed.checkedRemove(document)) {
+      return;
+    }
+    makes.bitmaps.get(makeOrdinals[document]).remove(document);
+    models.bitmaps.get(modelOrdinals[document]).remove(document);
+    bodyTypes.bitmaps.get(bodyTypeOrdinals[document]).remove(document);
+    years[modelYears[document] - MIN_YEAR].remove(document);
+    priceBands[priceBandOrdinals[document]].remove(document);
+  }
+
+  private void ensureCapacity(int capacity) {
+    if (capacity <= idHigh.length) {
+      return;
+    }
+    int grown = Math.max(capacity, idHigh.length + (idHigh.length >> 1));
+    idHigh = Arrays.copyOf(idHigh, grown);
+    idLow = Arrays.copyOf(idLow, grown);
+    makeOrdinals = Arrays.copyOf(makeOrdinals, grown);
+    modelOrdinals = Arrays.copyOf(modelOrdinals, grown);
+    bodyTypeOrdinals = Arrays.copyOf(bodyTypeOrdinals, grown);
+    modelYears = Arrays.copyOf(modelYears, grown);
+    priceBandOrdinals = Arrays.copyOf(priceBandOrdinals, grown);
+    priceCents = Arrays.copyOf(priceCents, grown);
+    mileages = Arrays.copyOf(mileages, grown);
+    createdAtMillis = Arrays.copyOf(createdAtMillis, grown);
+  }
+
+  private void forEachBitmap(Consumer<RoaringBitmap> action) {
+    action.accept(listed);
+    makes.bitmaps.forEach(action);
+    models.bitmaps.forEach(action);
+    bodyTypes.bitmaps.forEach(action);
+    modelsByMake.forEach(action);
+    for (RoaringBitmap year : years) {
+      if (year != null) {
+        action.accept(year);
+      }
+    }
+    for (RoaringBitmap band : priceBands) {
+      action.accept(band);
+    }
+  }
+
+  private UUID id(int document) {
+    return new UUID(idHigh[document], idLow[document]);
+  }
+
+  /**
+   * Open-addressing lookup from vehicle id to document number. The table holds
+   * only document numbers and compares against the id arrays, so there are no
+   * boxed keys or map entries per vehicle.
+   */
+  private int find(UUID id) {
+    long high = id.getMostSignificantBits();
+    long low = id.getLeastSignificantBits();
+    int mask = idSlots.length - 1;
+
+    for (int slot = hash(high, low) & mask;; slot = (slot + 1) & mask) {
+      int document = idSlots[slot];
+      if (document < 0 || (idHigh[document] == high && idLow[document] == low)) {
+        return document;
+      }
+    }
+  }
+
+  private void addIdSlot(int document) {
+    if (size * 2 > idSlots.length) {
+      idSlots = emptySlots(idSlots.length * 2);
+      for (int existing = 0; existing < size; existing++) {
+        placeIdSlot(existing);
+      }
+    } else {
+      placeIdSlot(document);
+    }
+  }
+
+  private void placeIdSlot(int document) {
+    int mask = idSlots.length - 1;
+    int slot = hash(idHigh[document], idLow[document]) & mask;
+    while (idSlots[slot] >= 0) {
+      slot = (slot + 1) & mask;
+    }
+    idSlots[slot] = document;
+  }
+
+  private static int hash(long high, long low) {
+    long mixed = (high ^ low) * 0x9E3779B97F4A7C15L;
+    return (int) (mixed ^ (mixed >>> 32));
+  }
+
+  private static int[] emptySlots(int length) {
+    int[] slots = new int[length];
+    Arrays.fill(slots, -1);
+    return slots;
+  }
+
+  private static int priceBand(long cents) {
+    for (int band = 0; band < PRICE_BAND_UPPER_CENTS.length; band++) {
+      if (cents < PRICE_BAND_UPPER_CENTS[band]) {
+        return band;
+      }
+    }
+    return PRICE_BAND_UPPER_CENTS.length;
+  }
+
+  private static boolean add(List<RoaringBitmap> bitmaps, RoaringBitmap bitmap) {
+    return bitmap != null && bitmaps.add(bitmap);
+  }
+
+  private static boolean present(String value) {
+    return value != null && !value.isBlank();
+  }
+
+  /** Dictionary-encodes one categorical facet and keeps a bitmap per value. */
+  private static final class Dictionary {
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final List<String> values = new ArrayList<>();
+    private final List<RoaringBitmap> bitmaps = new ArrayList<>();
+
+    int ordinal(String value) {
+      return ordinals.computeIfAbsent(value, ignored -> {
+        values.add(value);
+        bitmaps.add(new RoaringBitmap());
+        return values.size() - 1;
+      });
+    }
+
+    RoaringBitmap bitmap(String value) {
+      Integer ordinal = ordinals.get(value);
+      return ordinal == null ? null : bitmaps.get(ordinal);
+    }
+
+    int size() {
+      return values.size();
+    }
+
+    void count(RoaringBitmap matches, int[] counts) {
+      for (int ordinal = 0; ordinal < counts.length; ordinal++) {
+        counts[ordinal] = RoaringBitmap.andCardinality(matches, bitmaps.get(ordinal));
+      }
+    }
+
+    /** Non-zero counts, most frequent first. */
+    Map<String, Integer> facet(int[] counts) {
+      var facet = new LinkedHashMap<String, Integer>();
+      IntStream.range(0, counts.length)
+          .filter(ordinal -> counts[ordinal] > 0)
+          .boxed()
+          .sorted(Comparator.<Integer>comparingInt(ordinal -> -counts[ordinal]).thenComparing(values::get))
+          .forEach(ordinal -> facet.put(values.get(ordinal), counts[ordinal]));
+      return facet;
+    }
+  }
+}
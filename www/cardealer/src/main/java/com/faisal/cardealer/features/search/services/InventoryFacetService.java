@@ -0,0 +1,204 @@
+package com.faisal.cardealer.features.search.services;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.faisal.cardealer.features.inventory.dto.VehicleChangedEvent;
+import com.faisal.cardealer.features.search.dto.FacetResultDto;
+import com.faisal.cardealer.features.search.dto.IndexedVehicle;
+import com.faisal.cardealer.features.search.dto.SearchRequestDto;
+import com.faisal.cardealer.features.search.dto.VehicleSummaryDto;
+import com.faisal.cardealer.models.VehicleStatus;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Serves facet counts and top-N listings from {@link InventoryFacetIndex}.
+ * The index is built from the database once the application is ready and is
+ * then kept current one vehicle at a time: local inventory writes refresh it
+ * after their transaction commits and announce the id over Redis pub/sub so
+ * other nodes refresh theirs.
+ */
+@Service
+public class InventoryFacetService implements MessageListener {
+  public static final String CHANNEL = "cardealer:inventory";
+  /** Prefix of the message asking other nodes to rebuild, for changes too large to announce id by id. */
+  private static final String REBUILD_PREFIX = "rebuild:";
+  private static final Logger LOG = LoggerFactory.getLogger(InventoryFacetService.class);
+  private static final String COLUMNS =
+      "id, make, model, model_year, price, mileage, body_type, created_at, status, deleted_at";
+  private static final int MAX_LIMIT = 100;
+
+  private final JdbcClient jdbcClient;
+  private final VehicleSearchService vehicleSearchService;
+  private final @Nullable StringRedisTemplate redisTemplate;
+  private final String nodeId = UUID.randomUUID().toString();
+  private volatile InventoryFacetIndex index = new InventoryFacetIndex();
+  /** Ids refreshed while a rebuild is loading; replayed into the new index once it is installed. */
+  private volatile @Nullable Set<UUID> changedDuringRebuild;
+
+  public InventoryFacetService(
+      JdbcClient jdbcClient,
+      VehicleSearchService vehicleSearchService,
+      @Nullable StringRedisTemplate redisTemplate,
+      @Nullable MeterRegistry meterRegistry) {
+    this.jdbcClient = jdbcClient;
+    this.vehicleSearchService = vehicleSearchService;
+    this.redisTemplate = redisTemplate;
+
+    if (meterRegistry != null) {
+      Gauge.builder("inventory.facets.vehicles", this, service -> service.index.size())
+          .register(meterRegistry);
+      Gauge.builder("inventory.facets.bitmaps", this, service -> service.index.bitmapSizeInBytes())
+          .baseUnit("bytes")
+          .register(meterRegistry);
+      Gauge.builder("inventory.facets.arrays", this, service -> service.index.arraySizeInBytes())
+          .baseUnit("bytes")
+          .register(meterRegistry);
+    }
+  }
+
+  /**
+   * Loads a fresh index and swaps it in. Refreshes that arrive while it is
+   * loading still apply to the old index, and their ids are replayed into
+   * the new one after the swap so no change is lost. Rebuilds run one at a
+   * time.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public synchronized void rebuild() {
+    var rebuilt = new InventoryFacetIndex();
+    Set<UUID> changed = ConcurrentHashMap.newKeySet();
+    changedDuringRebuild = changed;
+
+    try {
+      jdbcClient.sql("SELECT " + COLUMNS + " FROM vehicles"
+          + " WHERE status = 'AVAILABLE' AND deleted_at IS NULL ORDER BY created_at, id")
+          .query(rs -> {
+            rebuilt.upsert(mapRow(rs));
+          });
+    } catch (DataAccessException e) {
+      changedDuringRebuild = null;
+      LOG.warn("Failed to build the inventory facet index: {}", e.getMessage());
+      return;
+    }
+
+    rebuilt.optimize();
+    // Swap before we stop recording: a refresh that no longer records its id
+    // is guaranteed to see the new index.
+    index = rebuilt;
+    changedDuringRebuild = null;
+    changed.forEach(this::refresh);
+
+    LOG.info("Inventory facet index built with {} vehicles ({} bytes of bitmaps, {} bytes of arrays).",
+        rebuilt.size(), rebuilt.bitmapSizeInBytes(), rebuilt.arraySizeInBytes());
+  }
+
+  /** Rebuilds this node's index and asks the other nodes to rebuild theirs. */
+  public void rebuildEverywhere() {
+    rebuild();
+    publish(REBUILD_PREFIX + nodeId);
+  }
+
+  public FacetResultDto facets(SearchRequestDto filters, int limit) {
+    InventoryFacetIndex.Result result = index.query(filters, Math.clamp(limit, 0, MAX_LIMIT));
+    List<VehicleSummaryDto> vehicles = vehicleSearchService.findSummaries(result.top());
+
+    return new FacetResultDto(
+        result.total(),
+        result.makes(),
+        result.models(),
+        result.bodyTypes(),
+        result.years(),
+        result.priceBands(),
+        vehicles);
+  }
+
+  @TransactionalEventListener
+  public void onVehicleChanged(VehicleChangedEvent event) {
+    refresh(event.id());
+    publish(event.id().toString());
+  }
+
+  @Override
+  public void onMessage(Message message, byte @Nullable [] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+
+    if (body.startsWith(REBUILD_PREFIX)) {
+      if (!body.equals(REBUILD_PREFIX + nodeId)) {
+        rebuild();
+      }
+      return;
+    }
+    try {
+      refresh(UUID.fromString(body));
+    } catch (IllegalArgumentException e) {
+      LOG.warn("Ignoring malformed inventory message '{}'.", body);
+    }
+  }
+
+  private void publish(String body) {
+    if (redisTemplate == null) {
+      return;
+    }
+
+    try {
+      redisTemplate.convertAndSend(CHANNEL, body);
+    } catch (DataAccessException e) {
+      LOG.warn("Failed to publish inventory change '{}': {}", body, e.getMessage());
+    }
+  }
+
+  void refresh(UUID id) {
+    Set<UUID> changed = changedDuringRebuild;
+    if (changed != null) {
+      changed.add(id);
+    }
+
+    try {
+      Optional<IndexedVehicle> vehicle = jdbcClient.sql("SELECT " + COLUMNS + " FROM vehicles WHERE id = :id")
+          .param("id", id)
+          .query((rs, rowNum) -> mapRow(rs))
+          .optional();
+
+      InventoryFacetIndex current = index;
+      vehicle.ifPresentOrElse(current::upsert, () -> current.remove(id));
+    } catch (DataAccessException e) {
+      LOG.warn("Failed to refresh vehicle '{}' in the facet index: {}", id, e.getMessage());
+    }
+  }
+
+  private static IndexedVehicle mapRow(ResultSet rs) throws SQLException {
+    return new IndexedVehicle(
+        rs.getObject("id", UUID.class),
+        rs.getString("make"),
+        rs.getString("model"),
+        rs.getInt("model_year"),
+        InventoryFacetIndex.toCents(rs.getBigDecimal("price")),
+        rs.getInt("mileage"),
+        rs.getString("body_type"),
+        rs.getObject("created_at", LocalDateTime.class).toInstant(ZoneOffset.UTC).toEpochMilli(),
+        VehicleStatus.AVAILABLE.name().equals(rs.getString("status")) && rs.getObject("deleted_at") == null);
+  }
+}
@@ -0,0 +1,183 @@
+package com.faisal.cardealer.features.search.services;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.faisal.cardealer.dto.PaginationPayload;
+import com.faisal.cardealer.features.search.dto.PaginationRequestDto;
+import com.faisal.cardealer.features.search.dto.SearchRequestDto;
+import com.faisal.cardealer.features.search.dto.VehicleSearchCursor;
+import com.faisal.cardealer.features.search.dto.VehicleSort;
+import com.faisal.cardealer.features.search.dto.VehicleSummaryDto;
+
+/**
+ * Inventory search over listed vehicles. The SQL for each combination of
+ * present filters, sort and cursor (a "shape") is built once and reused, so
+ * every request binds parameters into a fixed statement the driver can keep
+ * prepared. Only filters that are present appear in the WHERE clause, which
+ * lets the planner choose the matching composite or partial index instead of
+ * a generic {@code :param IS NULL OR ...} plan.
+ */
+@Service
+public class VehicleSearchService {
+  private static final String COLUMNS =
+      "id, vin, make, model, model_year, price, mileage, body_type, created_at";
+  private static final String LISTED = "status = 'AVAILABLE' AND deleted_at IS NULL";
+
+  private static final int MAKE = 1;
+  private static final int MODEL = 1 << 1;
+  private static final int YEAR_MIN = 1 << 2;
+  private static final int YEAR_MAX = 1 << 3;
+  private static final int PRICE_MIN = 1 << 4;
+  private static final int PRICE_MAX = 1 << 5;
+  private static final int MILEAGE_MAX = 1 << 6;
+  private static final int BODY_TYPE = 1 << 7;
+  private static final int CURSOR = 1 << 8;
+  private static final int SORT_SHIFT = 9;
+
+  private final JdbcClient jdbcClient;
+  private final Map<Integer, String> sqlByShape = new ConcurrentHashMap<>();
+
+  public VehicleSearchService(JdbcClient jdbcClient) {
+    this.jdbcClient = jdbcClient;
+  }
+
+  @Transactional(readOnly = true)
+  public PaginationPayload<VehicleSummaryDto> search(SearchRequestDto filters, PaginationRequestDto page) {
+    VehicleSort sort = filters.sort();
+    VehicleSearchCursor cursor = page.cursor() == null || page.cursor().isEmpty()
+        ? null
+        : VehicleSearchCursor.decode(page.cursor(), sort);
+
+    var params = new HashMap<String, Object>();
+    int shape = sort.ordinal() << SORT_SHIFT;
+
+    shape |= bind(params, MAKE, "make", filters.make());
+    shape |= bind(params, MODEL, "model", filters.model());
+    shape |= bind(params, YEAR_MIN, "yearMin", filters.yearMin());
+    shape |= bind(params, YEAR_MAX, "yearMax", filters.yearMax());
+    shape |= bind(params, PRICE_MIN, "priceMin", filters.priceMin());
+    shape |= bind(params, PRICE_MAX, "priceMax", filters.priceMax());
+    shape |= bind(params, MILEAGE_MAX, "mileageMax", filters.mileageMax());
+    shape |= bind(params, BODY_TYPE, "bodyType", filters.bodyType());
+
+    if (cursor != null) {
+      shape |= CURSOR;
+      params.put("cursorValue", cursor.value());
+      params.put("cursorId", cursor.id());
+    }
+
+    params.put("limit", page.size() + 1);
+
+    final int finalShape = shape;
+    String sql = sqlByShape.computeIfAbsent(finalShape, ignored -> buildSql(finalShape, sort));
+    List<VehicleSummaryDto> rows = jdbcClient.sql(sql)
+        .params(params)
+        .query(VehicleSearchService::mapRow)
+        .list();
+
+    boolean hasNext = rows.size() > page.size();
+    List<VehicleSummaryDto> vehicles = hasNext ? rows.subList(0, page.size()) : rows;
+    String nextCursor = hasNext ? VehicleSearchCursor.after(sort, vehicles.getLast()).encode() : null;
+
+    return new PaginationPayload<>(vehicles, null, null, page.size(), 0, hasNext, nextCursor);
+  }
+
+  /** Loads summaries for the given ids in one query, preserving their order. */
+  @Transactional(readOnly = true)
+  public List<VehicleSummaryDto> findSummaries(List<UUID> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+
+    Map<UUID, VehicleSummaryDto> byId = new HashMap<>();
+    jdbcClient.sql("SELECT " + COLUMNS + " FROM vehicles WHERE id IN (:ids)")
+        .param("ids", ids)
+        .query(VehicleSearchService::mapRow)
+        .list()
+        .forEach(vehicle -> byId.put(vehicle.id(), vehicle));
+
+    return ids.stream()
+        .map(byId::get)
+        .filter(Objects::nonNull)
+        .toList();
+  }
+
+  int cachedShapeCount() {
+    return sqlByShape.size();
+  }
+
+  private static int bind(Map<String, Object> params, int flag, String name, Object value) {
+    if (value == null || (value instanceof String text && text.isBlank())) {
+      return 0;
+    }
+    params.put(name, value);
+    return flag;
+  }
+
+  private static String buildSql(int shape, VehicleSort sort) {
+    var sql = new StringBuilder("SELECT ").append(COLUMNS).append(" FROM vehicles WHERE ").append(LISTED);
+
+    if ((shape & MAKE) != 0) {
+      sql.append(" AND make = :make");
+    }
+    if ((shape & MODEL) != 0) {
+      sql.append(" AND model = :model");
+    }
+    if ((shape & YEAR_MIN) != 0) {
+      sql.append(" AND model_year >= :yearMin");
+    }
+    if ((shape & YEAR_MAX) != 0) {
+      sql.append(" AND model_year <= :yearMax");
+    }
+    if ((shape & PRICE_MIN) != 0) {
+      sql.append(" AND price >= :priceMin");
+    }
+    if ((shape & PRICE_MAX) != 0) {
+      sql.append(" AND price <= :priceMax");
+    }
+    if ((shape & MILEAGE_MAX) != 0) {
+      sql.append(" AND mileage <= :mileageMax");
+    }
+    if ((shape & BODY_TYPE) != 0) {
+      sql.append(" AND body_type = :bodyType");
+    }
+
+    String direction = sort.ascending() ? "ASC" : "DESC";
+
+    if ((shape & CURSOR) != 0) {
+      sql.append(" AND (").append(sort.column()).append(", id) ")
+          .append(sort.ascending() ? '>' : '<')
+          .append(" (:cursorValue, :cursorId)");
+    }
+
+    return sql.append(" ORDER BY ").append(sort.column()).append(' ').append(direction)
+        .append(", id ").append(direction)
+        .append(" LIMIT :limit")
+        .toString();
+  }
+
+  static VehicleSummaryDto mapRow(ResultSet rs, int rowNum) throws SQLException {
+    return new VehicleSummaryDto(
+        rs.getObject("id", UUID.class),
+        rs.getString("vin"),
+        rs.getString("make"),
+        rs.getString("model"),
+        rs.getInt("model_year"),
+        rs.getBigDecimal("price"),
+        rs.getInt("mileage"),
+        rs.getString("body_type"),
+        rs.getObject("created_at", LocalDateTime.class));
+  }
+}
@@ -0,0 +1,159 @@
+package com.faisal.cardealer.features.search.services;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.faisal.cardealer.dto.PaginationPayload;
+import com.faisal.cardealer.features.search.dto.SuggestionDto;
+import com.faisal.cardealer.features.search.dto.TextSearchRequestDto;
+import com.faisal.cardealer.features.search.dto.VehicleSummaryDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Free-text vehicle search. Every query term must match the vehicle, either as
+ * a prefix against the generated {@code search_vector} column or, when the
+ * term is misspelt, by trigram word similarity against {@code search_text},
+ * so "camry 2019 hybird" still finds a 2019 Camry Hybrid. Results are ranked
+ * by how many terms match as prefixes plus trigram word similarity, and each
+ * per-term predicate is served by the partial GIN indexes.
+ */
+@Service
+public class VehicleTextSearchService {
+  private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+  private static final int MAX_TERMS = 8;
+  private static final int MAX_SUGGESTIONS = 20;
+  private static final String LISTED = "status = 'AVAILABLE' AND deleted_at IS NULL";
+
+  private final JdbcClient jdbcClient;
+  private final String wordSimilarityThreshold;
+  private final Cache<String, List<SuggestionDto>> suggestions;
+
+  public VehicleTextSearchService(
+      JdbcClient jdbcClient,
+      @Value("${search.text.word-similarity-threshold:0.4}") double wordSimilarityThreshold,
+      @Value("${search.suggest.cache.max-size:10000}") long maximumSize,
+      @Value("${search.suggest.cache.ttl:PT1M}") Duration ttl) {
+    this.jdbcClient = jdbcClient;
+    this.wordSimilarityThreshold = Double.toString(wordSimilarityThreshold);
+    this.suggestions = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(ttl)
+        .build();
+  }
+
+  @Transactional(readOnly = true)
+  public PaginationPayload<VehicleSummaryDto> search(TextSearchRequestDto request) {
+    List<String> terms = terms(request.q());
+
+    if (terms.isEmpty()) {
+      return new PaginationPayload<>(List.of(), null, null, request.size(), request.page(), false, null);
+    }
+
+    useWordSimilarityThreshold();
+    List<VehicleSummaryDto> rows = bindTerms(jdbcClient.sql(searchSql(terms.size())), terms)
+        .param("limit", request.size() + 1)
+        .param("offset", request.page() * request.size())
+        .query(VehicleSearchService::mapRow)
+        .list();
+
+    boolean hasNext = rows.size() > request.size();
+    List<VehicleSummaryDto> vehicles = hasNext ? rows.subList(0, request.size()) : rows;
+
+    return new PaginationPayload<>(vehicles, null, null, request.size(), request.page(), hasNext, null);
+  }
+
+  /**
+   * Make/model suggestions for a partially typed query, most listed first.
+   * Keyed by the normalised terms so "Cam", "cam " and "CAM" share an entry.
+   */
+  @Transactional(readOnly = true)
+  public List<SuggestionDto> suggest(String query, int limit) {
+    List<String> terms = terms(query);
+
+    if (terms.isEmpty()) {
+      return List.of();
+    }
+
+    String key = String.join(" ", terms);
+    List<SuggestionDto> cached = suggestions.get(key, ignored -> {
+      useWordSimilarityThreshold();
+      return bindTerms(jdbcClient.sql(suggestSql(terms.size())), terms)
+          .param("limit", MAX_SUGGESTIONS)
+          .query((rs, rowNum) -> new SuggestionDto(rs.getString("make"), rs.getString("model"), rs.getLong("listings")))
+          .list();
+    });
+
+    return cached.subList(0, Math.clamp(limit, 0, cached.size()));
+  }
+
+  /** Lower-cased word and number tokens; anything that could be a tsquery operator is dropped. */
+  static List<String> terms(String query) {
+    if (query == null) {
+      return List.of();
+    }
+
+    return Arrays.stream(NON_WORD.split(query.toLowerCase(Locale.ROOT)))
+        .filter(term -> !term.isEmpty())
+        .distinct()
+        .limit(MAX_TERMS)
+        .toList();
+  }
+
+  /** Any-term prefix query; its cover density rank grows with the number of terms that match. */
+  static String toPrefixQuery(List<String> terms) {
+    return terms.stream()
+        .map(term -> term + ":*")
+        .collect(Collectors.joining(" | "));
+  }
+
+  /** Listed vehicles matching every term, as a prefix or by trigram word similarity. */
+  static String matches(int termCount) {
+    var sql = new StringBuilder(LISTED);
+    for (int i = 0; i < termCount; i++) {
+      sql.append(" AND (search_vector @@ to_tsquery('simple', :prefix").append(i)
+          .append(") OR :term").append(i).append(" <% search_text)");
+    }
+    return sql.toString();
+  }
+
+  private static String searchSql(int termCount) {
+    return "SELECT id, vin, make, model, model_year, price, mileage, body_type, created_at,"
+        + " ts_rank_cd(search_vector, to_tsquery('simple', :tsquery)) + word_similarity(:text, search_text) AS rank"
+        + " FROM vehicles WHERE " + matches(termCount)
+        + " ORDER BY rank DESC, id LIMIT :limit OFFSET :offset";
+  }
+
+  private static String suggestSql(int termCount) {
+    return "SELECT make, model, COUNT(*) AS listings FROM vehicles WHERE " + matches(termCount)
+        + " GROUP BY make, model ORDER BY listings DESC, make, model LIMIT :limit";
+  }
+
+  private static JdbcClient.StatementSpec bindTerms(JdbcClient.StatementSpec statement, List<String> terms) {
+    statement.param("tsquery", toPrefixQuery(terms)).param("text", String.join(" ", terms));
+    for (int i = 0; i < terms.size(); i++) {
+      statement.param("prefix" + i, terms.get(i) + ":*").param("term" + i, terms.get(i));
+    }
+    return statement;
+  }
+
+  /**
+   * The default threshold of 0.6 misses single-letter typos in short words,
+   * e.g. "hybird" for "hybrid". Scoped to the current transaction.
+   */
+  private void useWordSimilarityThreshold() {
+    jdbcClient.sql("SELECT set_config('pg_trgm.word_similarity_threshold', :threshold, true)")
+        .param("threshold", wordSimilarityThreshold)
+        .query(String.class)
+        .single();
+  }
+}
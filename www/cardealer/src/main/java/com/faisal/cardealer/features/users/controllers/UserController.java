@@ -1,8 +1,12 @@
 package com.faisal.cardealer.features.users.controllers;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -10,18 +14,27 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.faisal.cardealer.annotations.RequiresPrivilege;
 import com.faisal.cardealer.dto.PaginationPayload;
 import com.faisal.cardealer.dto.ResponsePayload;
+import com.faisal.cardealer.exceptions.PreconditionRequiredException;
+import com.faisal.cardealer.features.users.dto.BulkDeleteUsersRequestDto;
 import com.faisal.cardealer.features.users.dto.UpdateUserRequestDto;
 import com.faisal.cardealer.features.users.dto.UserDto;
+import com.faisal.cardealer.features.users.dto.UserVersion;
 import com.faisal.cardealer.features.users.services.UserService;
-import com.faisal.cardealer.models.User;
+import com.faisal.cardealer.handlers.CacheControlPolicies;
+import com.faisal.cardealer.handlers.ETagHandler;
+import com.faisal.cardealer.handlers.JwtPrincipal;
 
 import jakarta.validation.Valid;
 
@@ -29,57 +42,114 @@ import jakarta.validation.Valid;
 @RequestMapping("/users")
 public class UserController {
   private final UserService userService;
+  private final CacheControlPolicies cacheControl;
+  private final boolean requireIfMatch;
 
-  public UserController(UserService userService) {
+  public UserController(
+      UserService userService,
+      CacheControlPolicies cacheControl,
+      @Value("${users.update.require-if-match:true}") boolean requireIfMatch) {
     this.userService = userService;
+    this.cacheControl = cacheControl;
+    this.requireIfMatch = requireIfMatch;
   }
 
+  /**
+   * Conditional requests are validated against the cached user version
+   * before the user is loaded; the timestamp in the payload is the user's
+   * last update so the body is stable for a given ETag.
+   */
   @GetMapping("/{id}")
-  @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
-  public ResponseEntity<ResponsePayload> getUserById(@PathVariable String id) {
+  @RequiresPrivilege("users:read")
+  public ResponseEntity<ResponsePayload> getUserById(@PathVariable UUID id, WebRequest webRequest) {
+    UserVersion current = userService.getUserVersion(id);
+    if (webRequest.checkNotModified(current.etag(), current.lastModified())) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .header(HttpHeaders.CACHE_CONTROL, cacheControl.users())
+          .build();
+    }
+
     UserDto user = userService.getUserById(id);
-    return ResponseEntity.ok(new ResponsePayload(
-        HttpStatus.OK.value(), true, "User retrieved successfully.", LocalDateTime.now().toString(), user));
+    UserVersion version = new UserVersion(user.version(), user.updatedAt());
+    return ResponseEntity.ok()
+        .eTag(version.etag())
+        .headers(headers -> {
+          if (version.lastModified() >= 0) {
+            headers.setLastModified(version.lastModified());
+          }
+        })
+        .header(HttpHeaders.CACHE_CONTROL, cacheControl.users())
+        .body(new ResponsePayload(
+            HttpStatus.OK.value(), true, "User retrieved successfully.", version.timestamp(), user));
   }
 
   @GetMapping
-  @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
+  @RequiresPrivilege("users:read")
   public ResponseEntity<ResponsePayload> getAllUsers(
       @RequestParam(defaultValue = "0") int page,
-      @RequestParam(defaultValue = "10") int size) {
-    PaginationPayload<UserDto> users = userService.getAllUsers(page, size);
+      @RequestParam(defaultValue = "10") int size,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "true") boolean includeTotal) {
+    PaginationPayload<UserDto> users = cursor != null
+        ? userService.getUsersAfter(cursor, size)
+        : userService.getAllUsers(page, size, includeTotal);
     return ResponseEntity.ok(new ResponsePayload(
         HttpStatus.OK.value(), true, "Users retrieved successfully.", LocalDateTime.now().toString(), users));
   }
 
+  /**
+   * Updates another user's account. Unless {@code users.update.require-if-match}
+   * is off, the request must carry {@code If-Match} so concurrent editors
+   * cannot silently overwrite each other.
+   */
   @PutMapping("/{id}")
-  @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
+  @RequiresPrivilege("users:update")
   public ResponseEntity<ResponsePayload> updateUser(
-      @PathVariable String id,
+      @PathVariable UUID id,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
       @Valid @RequestBody UpdateUserRequestDto request) {
-    UserDto updated = userService.updateUser(id, request);
-    return ResponseEntity.ok(new ResponsePayload(HttpStatus.OK.value(), true, "User updated successfully.",
-        LocalDateTime.now().toString(), updated));
+    if (requireIfMatch && (ifMatch == null || ifMatch.isBlank())) {
+      throw new PreconditionRequiredException("If-Match header is required. Fetch the user to get its ETag.");
+    }
+
+    UserDto updated = userService.updateUser(id, request, ETagHandler.parseIfMatch(ifMatch));
+    return ResponseEntity.ok()
+        .eTag(new UserVersion(updated.version(), updated.updatedAt()).etag())
+        .body(new ResponsePayload(
+            HttpStatus.OK.value(), true, "User updated successfully.", LocalDateTime.now().toString(), updated));
   }
 
   @DeleteMapping("/{id}")
-  @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
+  @RequiresPrivilege("users:delete")
   public ResponseEntity<ResponsePayload> deleteUser(
-      @PathVariable String id,
-      @AuthenticationPrincipal User currentUser) {
+      @PathVariable UUID id,
+      @AuthenticationPrincipal JwtPrincipal currentUser) {
     userService.deleteUser(id, currentUser.getId());
     return ResponseEntity.ok(new ResponsePayload(
         HttpStatus.OK.value(), true, "User deleted successfully.", LocalDateTime.now().toString(), Map.of("id", id)));
   }
 
+  @PostMapping("/bulk-delete")
+  @RequiresPrivilege("users:delete")
+  public ResponseEntity<ResponsePayload> deleteUsers(
+      @AuthenticationPrincipal JwtPrincipal currentUser,
+      @Valid @RequestBody BulkDeleteUsersRequestDto request) {
+    List<UUID> deleted = userService.deleteUsers(request.ids(), currentUser.getId());
+    return ResponseEntity.ok(new ResponsePayload(
+        HttpStatus.OK.value(), true, "Users deleted successfully.", LocalDateTime.now().toString(),
+        Map.of("ids", deleted, "deleted", deleted.size())));
+  }
+
   @PutMapping("/me")
   @PreAuthorize("isAuthenticated()")
   public ResponseEntity<ResponsePayload> updateOwnProfile(
-      @AuthenticationPrincipal User currentUser,
+      @AuthenticationPrincipal JwtPrincipal currentUser,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
       @Valid @RequestBody UpdateUserRequestDto request) {
-    UserDto updated = userService.updateUser(currentUser.getId(), request);
-    return ResponseEntity.ok(new ResponsePayload(
-        HttpStatus.OK.value(), true, "Profile updated successfully.",
-        LocalDateTime.now().toString(), updated));
+    UserDto updated = userService.updateUser(currentUser.getId(), request, ETagHandler.parseIfMatch(ifMatch));
+    return ResponseEntity.ok()
+        .eTag(new UserVersion(updated.version(), updated.updatedAt()).etag())
+        .body(new ResponsePayload(
+            HttpStatus.OK.value(), true, "Profile updated successfully.", LocalDateTime.now().toString(), updated));
   }
 }
@@ -0,0 +1,10 @@
+package com.faisal.cardealer.features.users.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.validation.constraints.NotEmpty;
+
+public record BulkDeleteUsersRequestDto(
+    @NotEmpty(message = "At least one user ID is required.") List<UUID> ids) {
+}
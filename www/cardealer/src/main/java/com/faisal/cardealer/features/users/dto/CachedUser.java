@@ -0,0 +1,55 @@
+package com.faisal.cardealer.features.users.dto;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import com.faisal.cardealer.models.Role;
+import com.faisal.cardealer.models.User;
+
+public record CachedUser(
+    UUID id,
+    String username,
+    String email,
+    String fullName,
+    String phoneNumber,
+    boolean active,
+    List<String> roles,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    long version) {
+  public CachedUser(UUID id, String username, String email, String fullName, String phoneNumber, boolean active,
+      List<String> roles, LocalDateTime createdAt, LocalDateTime updatedAt, long version) {
+    this.id = Objects.requireNonNull(id, "ID cannot be null");
+    this.username = username;
+    this.email = email;
+    this.fullName = fullName;
+    this.phoneNumber = phoneNumber;
+    this.active = active;
+    this.roles = List.copyOf(roles);
+    this.createdAt = createdAt;
+    this.updatedAt = updatedAt;
+    this.version = version;
+  }
+
+  public static CachedUser from(User user) {
+    return new CachedUser(
+        user.getId(),
+        user.getUserName(),
+        user.getEmail(),
+        user.getFullname(),
+        user.getPhoneNumber(),
+        user.isIsActive(),
+        user.getRoles().stream().map(Role::getName).toList(),
+        user.getCreatedAt(),
+        user.getUpdatedAt(),
+        user.getVersion());
+  }
+
+  public UserDto toDto() {
+    return new UserDto(id, username, email, fullName, phoneNumber, new HashSet<>(roles), createdAt, updatedAt,
+        version);
+  }
+}
@@ -0,0 +1,50 @@
+package com.faisal.cardealer.features.users.dto;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+import com.faisal.cardealer.exceptions.BadRequestException;
+
+/**
+ * Opaque keyset position in the active user listing, ordered by
+ * {@code (created_at, id)}. Encoded as URL-safe Base64 of the timestamp and
+ * the UUIDv7 id.
+ */
+public record UserCursor(LocalDateTime createdAt, UUID id) {
+  private static final int ENCODED_LENGTH = Long.BYTES + Integer.BYTES + 2 * Long.BYTES;
+
+  public UserCursor(LocalDateTime createdAt, UUID id) {
+    this.createdAt = Objects.requireNonNull(createdAt, "Created at cannot be null");
+    this.id = Objects.requireNonNull(id, "ID cannot be null");
+  }
+
+  public String encode() {
+    ByteBuffer buffer = ByteBuffer.allocate(ENCODED_LENGTH)
+        .putLong(createdAt.toEpochSecond(ZoneOffset.UTC))
+        .putInt(createdAt.getNano())
+        .putLong(id.getMostSignificantBits())
+        .putLong(id.getLeastSignificantBits());
+
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+  }
+
+  public static UserCursor decode(String cursor) {
+    try {
+      ByteBuffer buffer = ByteBuffer.wrap(Base64.getUrlDecoder().decode(cursor));
+
+      if (buffer.remaining() != ENCODED_LENGTH) {
+        throw new BadRequestException("Invalid cursor.");
+      }
+
+      LocalDateTime createdAt = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+      UUID id = new UUID(buffer.getLong(), buffer.getLong());
+      return new UserCursor(createdAt, id);
+    } catch (IllegalArgumentException | java.time.DateTimeException e) {
+      throw new BadRequestException("Invalid cursor.");
+    }
+  }
+}
@@ -3,21 +3,27 @@ package com.faisal.cardealer.features.users.dto;
 import java.time.LocalDateTime;
 import java.util.Objects;
 import java.util.Set;
+import java.util.UUID;
 
-public record UserDto(String id,
+import org.jspecify.annotations.Nullable;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+public record UserDto(UUID id,
     String username,
     String email,
     String fullName,
     String phoneNumber,
     Set<String> roles,
     LocalDateTime createdAt,
-    LocalDateTime updatedAt) {
-  public UserDto(String id,
+    @Nullable LocalDateTime updatedAt,
+    @JsonIgnore long version) {
+  public UserDto(UUID id,
       String username,
       String email,
       String fullName,
       String phoneNumber,
-      Set<String> roles, LocalDateTime createdAt, LocalDateTime updatedAt) {
+      Set<String> roles, LocalDateTime createdAt, @Nullable LocalDateTime updatedAt, long version) {
     this.id = Objects.requireNonNull(id, "ID cannot be null");
     this.username = Objects.requireNonNull(username, "Username cannot be null");
     this.email = Objects.requireNonNull(email, "Email cannot be null");
@@ -25,6 +31,7 @@ public record UserDto(String id,
     this.phoneNumber = Objects.requireNonNull(phoneNumber, "Phone number cannot be null");
     this.roles = Objects.requireNonNull(roles, "Roles cannot be null");
     this.createdAt = Objects.requireNonNull(createdAt, "Created at cannot be null");
-    this.updatedAt = Objects.requireNonNull(updatedAt, "Updated at cannot be null");
+    this.updatedAt = updatedAt;
+    this.version = version;
   }
 }
@@ -0,0 +1,4 @@
+package com.faisal.cardealer.features.users.dto;
+
+public record UserIdentity(String username, String email) {
+}
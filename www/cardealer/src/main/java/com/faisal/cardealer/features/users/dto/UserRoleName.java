@@ -0,0 +1,6 @@
+package com.faisal.cardealer.features.users.dto;
+
+import java.util.UUID;
+
+public record UserRoleName(UUID userId, String roleName) {
+}
@@ -0,0 +1,31 @@
+package com.faisal.cardealer.features.users.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.jspecify.annotations.Nullable;
+
+import com.faisal.cardealer.handlers.ETagHandler;
+
+/**
+ * The validators of a user representation: enough to answer a conditional
+ * request without loading the user.
+ */
+public record UserVersion(long version, @Nullable LocalDateTime updatedAt) {
+  public String etag() {
+    return ETagHandler.format(version, updatedAt);
+  }
+
+  /**
+   * Timestamp for the response payload: the last update, so the body stays
+   * stable for a given ETag, or the current time for rows that have none.
+   */
+  public String timestamp() {
+    return (updatedAt != null ? updatedAt : LocalDateTime.now()).toString();
+  }
+
+  /** Last modification in epoch milliseconds, or {@code -1} when unknown. */
+  public long lastModified() {
+    return updatedAt == null ? -1 : updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+  }
+}
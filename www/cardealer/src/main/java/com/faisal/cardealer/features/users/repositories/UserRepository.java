@@ -1,22 +1,44 @@
 package com.faisal.cardealer.features.users.repositories;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.faisal.cardealer.features.users.dto.UserIdentity;
+import com.faisal.cardealer.features.users.dto.UserRoleName;
+import com.faisal.cardealer.features.users.dto.UserVersion;
 import com.faisal.cardealer.models.User;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, String> {
+public interface UserRepository extends JpaRepository<User, UUID> {
 
-  @Query("SELECT u FROM User u WHERE u.email = :email AND u.deletedAt IS NULL")
+  @Query("SELECT u FROM User u LEFT JOIN FETCH u.roles WHERE u.email = :email AND u.deletedAt IS NULL")
   Optional<User> findActiveByEmail(@Param("email") String email);
 
+  @Query("SELECT u FROM User u LEFT JOIN FETCH u.roles WHERE u.id = :id AND u.deletedAt IS NULL")
+  Optional<User> findActiveWithRolesById(@Param("id") UUID id);
+
+  @Query("SELECT new com.faisal.cardealer.features.users.dto.UserVersion(u.version, u.updatedAt) FROM User u "
+      + "WHERE u.id = :id AND u.deletedAt IS NULL")
+  Optional<UserVersion> findActiveVersionById(@Param("id") UUID id);
+
+  @Query("SELECT new com.faisal.cardealer.features.users.dto.UserRoleName(u.id, r.name) "
+      + "FROM User u JOIN u.roles r WHERE u.id IN :ids")
+  List<UserRoleName> findRoleNamesByUserIds(@Param("ids") Collection<UUID> ids);
+
   @Query("SELECT u FROM User u WHERE u.username = :username AND u.deletedAt IS NULL")
   Optional<User> findActiveByUsername(@Param("username") String username);
 
@@ -26,6 +48,30 @@ public interface UserRepository extends JpaRepository<User, String> {
   @Query("SELECT COUNT(u) > 0 FROM User u WHERE u.email = :email AND u.deletedAt IS NULL")
   boolean existsActiveByEmail(@Param("email") String email);
 
+  @Query("SELECT new com.faisal.cardealer.features.users.dto.UserIdentity(u.username, u.email) FROM User u "
+      + "WHERE (u.username = :username OR u.email = :email) AND u.deletedAt IS NULL")
+  List<UserIdentity> findActiveIdentityConflicts(@Param("username") String username, @Param("email") String email);
+
   @Query("SELECT u FROM User u WHERE u.deletedAt IS NULL")
   Page<User> findAllActive(Pageable pageable);
+
+  @Query("SELECT u FROM User u WHERE u.deletedAt IS NULL")
+  Slice<User> findAllActiveSlice(Pageable pageable);
+
+  @Query("SELECT u FROM User u WHERE u.deletedAt IS NULL ORDER BY u.createdAt, u.id")
+  List<User> findActiveFirst(Limit limit);
+
+  @Query("SELECT u FROM User u WHERE u.deletedAt IS NULL AND (u.createdAt, u.id) > (:createdAt, :id) "
+      + "ORDER BY u.createdAt, u.id")
+  List<User> findActiveAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Limit limit);
+
+  /**
+   * Replaces a password hash in place, as long as it is still {@code current}.
+   * A bulk update leaves {@code version} and {@code updated_at} alone, so the
+   * user's ETag and cached representation stay valid.
+   */
+  @Transactional
+  @Modifying
+  @Query("UPDATE User u SET u.password = :hash WHERE u.id = :id AND u.password = :current")
+  int upgradePassword(@Param("id") UUID id, @Param("current") String current, @Param("hash") String hash);
 }
@@ -0,0 +1,195 @@
+package com.faisal.cardealer.features.users.services;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.faisal.cardealer.cache.CacheCodec;
+import com.faisal.cardealer.cache.TwoTierCache;
+import com.faisal.cardealer.cache.TwoTierCacheManager;
+import com.faisal.cardealer.features.users.dto.CachedUser;
+import com.faisal.cardealer.features.users.dto.UserVersion;
+import com.faisal.cardealer.features.users.repositories.UserRepository;
+import com.faisal.cardealer.models.User;
+
+@Service
+public class UserCacheService {
+  private final UserRepository userRepository;
+  private final TwoTierCache<CachedUser> cache;
+  private final TwoTierCache<UserVersion> versions;
+
+  public UserCacheService(
+      UserRepository userRepository,
+      TwoTierCacheManager cacheManager,
+      @Value("${cache.users.max-size:10000}") long maximumSize,
+      @Value("${cache.users.ttl:PT10M}") Duration ttl) {
+    this.userRepository = userRepository;
+    this.cache = cacheManager.create("users", new CachedUserCodec(), maximumSize, ttl);
+    this.versions = cacheManager.create("user-versions", new UserVersionCodec(), maximumSize, ttl);
+  }
+
+  public Optional<CachedUser> findById(UUID id) {
+    return cache.get(idKey(id), () -> userRepository.findActiveWithRolesById(id).map(CachedUser::from));
+  }
+
+  public Optional<CachedUser> findActiveByEmail(String email) {
+    return cache.get(emailKey(email), () -> userRepository.findActiveByEmail(email).map(CachedUser::from));
+  }
+
+  /**
+   * Validators of an active user for conditional reads. Taken from the
+   * cached user when this node holds it, otherwise from a version index
+   * whose loader reads two columns instead of the user and its roles.
+   */
+  public Optional<UserVersion> findVersionById(UUID id) {
+    CachedUser user = cache.getLocalCache().getIfPresent(idKey(id));
+    if (user != null) {
+      return Optional.of(new UserVersion(user.version(), user.updatedAt()));
+    }
+    return versions.get(idKey(id), () -> userRepository.findActiveVersionById(id));
+  }
+
+  public void evict(User user) {
+    evict(user.getId(), user.getEmail());
+  }
+
+  public void evict(UUID id, String email) {
+    evictAll(Map.of(id, email));
+  }
+
+  /** Evicts many users with one eviction per cache tier. */
+  public void evictAll(Map<UUID, String> emailsById) {
+    if (emailsById.isEmpty()) {
+      return;
+    }
+
+    var userKeys = new ArrayList<String>(emailsById.size() * 2);
+    var versionKeys = new ArrayList<String>(emailsById.size());
+    emailsById.forEach((id, email) -> {
+      userKeys.add(idKey(id));
+      userKeys.add(emailKey(email));
+      versionKeys.add(idKey(id));
+    });
+    cache.evict(userKeys.toArray(String[]::new));
+    versions.evict(versionKeys.toArray(String[]::new));
+  }
+
+  private static String idKey(UUID id) {
+    return "id:" + id;
+  }
+
+  private static String emailKey(String email) {
+    return "email:" + email;
+  }
+
+  private static final class CachedUserCodec implements CacheCodec<CachedUser> {
+    private static final byte VERSION = 3;
+
+    @Override
+    public byte[] encode(CachedUser user) throws IOException {
+      var bytes = new ByteArrayOutputStream(256);
+
+      try (var out = new DataOutputStream(bytes)) {
+        out.writeByte(VERSION);
+        out.writeLong(user.id().getMostSignificantBits());
+        out.writeLong(user.id().getLeastSignificantBits());
+        out.writeUTF(user.username());
+        out.writeUTF(user.email());
+        out.writeUTF(user.fullName());
+        out.writeUTF(user.phoneNumber());
+        out.writeBoolean(user.active());
+        writeTimestamp(out, user.createdAt());
+        writeTimestamp(out, user.updatedAt());
+        out.writeLong(user.version());
+        out.writeShort(user.roles().size());
+
+        for (String role : user.roles()) {
+          out.writeUTF(role);
+        }
+      }
+      return bytes.toByteArray();
+    }
+
+    @Override
+    public CachedUser decode(byte[] bytes) throws IOException {
+      try (var in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+        if (in.readByte() != VERSION) {
+          throw new IOException("Unsupported cached user version.");
+        }
+
+        UUID id = new UUID(in.readLong(), in.readLong());
+        String username = in.readUTF();
+        String email = in.readUTF();
+        String fullName = in.readUTF();
+        String phoneNumber = in.readUTF();
+        boolean active = in.readBoolean();
+        LocalDateTime createdAt = readTimestamp(in);
+        LocalDateTime updatedAt = readTimestamp(in);
+        long version = in.readLong();
+        int roleCount = in.readShort();
+        List<String> roles = new ArrayList<>(roleCount);
+
+        for (int i = 0; i < roleCount; i++) {
+          roles.add(in.readUTF());
+        }
+        return new CachedUser(id, username, email, fullName, phoneNumber, active, roles, createdAt, updatedAt,
+            version);
+      }
+    }
+
+    private static void writeTimestamp(DataOutputStream out, LocalDateTime timestamp) throws IOException {
+      out.writeBoolean(timestamp != null);
+
+      if (timestamp != null) {
+        out.writeLong(timestamp.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(timestamp.getNano());
+      }
+    }
+
+    private static LocalDateTime readTimestamp(DataInputStream in) throws IOException {
+      if (!in.readBoolean()) {
+        return null;
+      }
+      return LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+    }
+  }
+
+  private static final class UserVersionCodec implements CacheCodec<UserVersion> {
+    private static final byte VERSION = 1;
+
+    @Override
+    public byte[] encode(UserVersion value) throws IOException {
+      var bytes = new ByteArrayOutputStream(24);
+
+      try (var out = new DataOutputStream(bytes)) {
+        out.writeByte(VERSION);
+        out.writeLong(value.version());
+        CachedUserCodec.writeTimestamp(out, value.updatedAt());
+      }
+      return bytes.toByteArray();
+    }
+
+    @Override
+    public UserVersion decode(byte[] bytes) throws IOException {
+      try (var in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+        if (in.readByte() != VERSION) {
+          throw new IOException("Unsupported cached user version format.");
+        }
+        return new UserVersion(in.readLong(), CachedUserCodec.readTimestamp(in));
+      }
+    }
+  }
+}
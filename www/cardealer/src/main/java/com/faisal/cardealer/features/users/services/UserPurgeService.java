@@ -0,0 +1,110 @@
+package com.faisal.cardealer.features.users.services;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Removes users that have been soft-deleted for longer than the retention
+ * window, either archiving them to {@code users_archive} or deleting them
+ * outright. Each batch claims its rows with {@code FOR UPDATE SKIP LOCKED}
+ * and commits on its own, so row locks are held for one small batch at a
+ * time and nodes running the job concurrently split the work instead of
+ * waiting on each other.
+ */
+@Service
+public class UserPurgeService {
+  private static final Logger LOG = LoggerFactory.getLogger(UserPurgeService.class);
+  private static final String METRIC = "users.purged";
+
+  private static final String CLAIM =
+      "SELECT id FROM users WHERE deleted_at < :cutoff ORDER BY deleted_at LIMIT :limit FOR UPDATE SKIP LOCKED";
+  private static final String DELETE = "DELETE FROM users WHERE id IN (" + CLAIM + ")";
+  private static final String ARCHIVE =
+      "WITH purged AS (DELETE FROM users WHERE id IN (" + CLAIM + ")"
+          + " RETURNING id, username, email, fullname, phone_number, created_at, updated_at, deleted_at, deleted_by)"
+          + " INSERT INTO users_archive"
+          + " (id, username, email, fullname, phone_number, created_at, updated_at, deleted_at, deleted_by)"
+          + " SELECT id, username, email, fullname, phone_number, created_at, updated_at, deleted_at, deleted_by"
+          + " FROM purged ON CONFLICT (id) DO NOTHING";
+
+  private final JdbcClient jdbcClient;
+  private final TransactionTemplate transactionTemplate;
+  private final @Nullable MeterRegistry meterRegistry;
+  private final boolean enabled;
+  private final boolean archive;
+  private final Duration retention;
+  private final int batchSize;
+  private final int maxBatches;
+
+  public UserPurgeService(
+      JdbcClient jdbcClient,
+      PlatformTransactionManager transactionManager,
+      @Nullable MeterRegistry meterRegistry,
+      @Value("${users.purge.enabled:true}") boolean enabled,
+      @Value("${users.purge.archive:true}") boolean archive,
+      @Value("${users.purge.retention:P30D}") Duration retention,
+      @Value("${users.purge.batch-size:500}") int batchSize,
+      @Value("${users.purge.max-batches:200}") int maxBatches) {
+    this.jdbcClient = jdbcClient;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.meterRegistry = meterRegistry;
+    this.enabled = enabled;
+    this.archive = archive;
+    this.retention = retention;
+    this.batchSize = batchSize;
+    this.maxBatches = maxBatches;
+  }
+
+  @Scheduled(
+      initialDelayString = "${users.purge.initial-delay:PT5M}",
+      fixedDelayString = "${users.purge.interval:PT1H}")
+  public void scheduledPurge() {
+    if (enabled) {
+      purge();
+    }
+  }
+
+  /**
+   * Purges at most {@code max-batches} batches and returns the number of
+   * users removed. A run stops early once a batch comes back short.
+   */
+  public int purge() {
+    var cutoff = Timestamp.valueOf(LocalDateTime.now().minus(retention));
+    String sql = archive ? ARCHIVE : DELETE;
+    int total = 0;
+
+    for (int batch = 0; batch < maxBatches; batch++) {
+      Integer purged = transactionTemplate.execute(status -> jdbcClient.sql(sql)
+          .param("cutoff", cutoff)
+          .param("limit", batchSize)
+          .update());
+      int count = purged == null ? 0 : purged;
+      total += count;
+
+      if (count < batchSize) {
+        break;
+      }
+    }
+
+    if (total > 0) {
+      LOG.info("Purged {} users deleted before {}.", total, cutoff);
+      if (meterRegistry != null) {
+        meterRegistry.counter(METRIC, "mode", archive ? "archive" : "delete").increment(total);
+      }
+    }
+    return total;
+  }
+}
@@ -1,45 +1,102 @@
 package com.faisal.cardealer.features.users.services;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.faisal.cardealer.dto.PaginationPayload;
+import com.faisal.cardealer.exceptions.BadRequestException;
+import com.faisal.cardealer.exceptions.PreconditionFailedException;
 import com.faisal.cardealer.exceptions.ResourceNotFoundException;
+import com.faisal.cardealer.features.users.dto.CachedUser;
 import com.faisal.cardealer.features.users.dto.UpdateUserRequestDto;
+import com.faisal.cardealer.features.users.dto.UserCursor;
 import com.faisal.cardealer.features.users.dto.UserDto;
+import com.faisal.cardealer.features.users.dto.UserRoleName;
+import com.faisal.cardealer.features.users.dto.UserVersion;
 import com.faisal.cardealer.features.users.repositories.UserRepository;
+import com.faisal.cardealer.handlers.PrincipalEpochStore;
 import com.faisal.cardealer.models.Role;
 import com.faisal.cardealer.models.User;
 
 @Service
 public class UserService {
+  private static final Sort KEYSET_ORDER = Sort.by("createdAt", "id");
+  private static final int MAX_PAGE_SIZE = 100;
+  private static final String SOFT_DELETE =
+      "UPDATE users SET deleted_at = :now, deleted_by = :deletedBy, updated_at = :now, version = version + 1"
+          + " WHERE id IN (:ids) AND deleted_at IS NULL RETURNING id, email";
+
   private final UserRepository userRepository;
+  private final UserCacheService userCacheService;
+  private final PrincipalEpochStore principalEpochStore;
+  private final JdbcClient jdbcClient;
+  private final int maxBulkDelete;
 
-  public UserService(UserRepository userRepository) {
+  public UserService(UserRepository userRepository, UserCacheService userCacheService,
+      PrincipalEpochStore principalEpochStore, JdbcClient jdbcClient,
+      @Value("${users.bulk-delete.max-ids:1000}") int maxBulkDelete) {
     this.userRepository = userRepository;
+    this.userCacheService = userCacheService;
+    this.principalEpochStore = principalEpochStore;
+    this.jdbcClient = jdbcClient;
+    this.maxBulkDelete = maxBulkDelete;
   }
 
-  @Transactional(readOnly = true)
-  public UserDto getUserById(String id) {
-    User user = findActiveUserOrThrow(id);
-    return convertToUserDto(user);
+  public UserDto getUserById(UUID id) {
+    return userCacheService.findById(id)
+        .map(CachedUser::toDto)
+        .orElseThrow(() -> new ResourceNotFoundException("User not found."));
+  }
+
+  public UserVersion getUserVersion(UUID id) {
+    return userCacheService.findVersionById(id)
+        .orElseThrow(() -> new ResourceNotFoundException("User not found."));
   }
 
   @Transactional(readOnly = true)
-  public PaginationPayload<UserDto> getAllUsers(int page, int size) {
-    Page<User> result = userRepository.findAllActive(PageRequest.of(page, size));
+  public PaginationPayload<UserDto> getAllUsers(int page, int size, boolean includeTotal) {
+    checkPageSize(size);
+    var pageable = PageRequest.of(page, size, KEYSET_ORDER);
 
-    var data = result.getContent().stream()
-        .map(this::convertToUserDto)
-        .collect(Collectors.toList());
+    if (!includeTotal) {
+      Slice<User> result = userRepository.findAllActiveSlice(pageable);
+
+      return new PaginationPayload<>(
+          toUserDtos(result.getContent()),
+          null,
+          null,
+          result.getSize(),
+          result.getNumber(),
+          result.hasNext(),
+          null);
+    }
+
+    Page<User> result = userRepository.findAllActive(pageable);
 
     return new PaginationPayload<>(
-        data,
+        toUserDtos(result.getContent()),
         result.getTotalPages(),
         result.getTotalElements(),
         result.getSize(),
@@ -47,48 +104,223 @@ public class UserService {
         result.hasNext());
   }
 
+  @Transactional(readOnly = true)
+  public PaginationPayload<UserDto> getUsersAfter(String cursor, int size) {
+    checkPageSize(size);
+
+    var limit = Limit.of(size + 1);
+    List<User> rows = cursor == null || cursor.isBlank()
+        ? userRepository.findActiveFirst(limit)
+        : findActiveAfter(UserCursor.decode(cursor), limit);
+
+    boolean hasNext = rows.size() > size;
+    List<User> content = hasNext ? rows.subList(0, size) : rows;
+    String nextCursor = null;
+
+    if (hasNext) {
+      User last = content.get(content.size() - 1);
+      nextCursor = new UserCursor(last.getCreatedAt(), last.getId()).encode();
+    }
+
+    return new PaginationPayload<>(toUserDtos(content), null, null, size, 0, hasNext, nextCursor);
+  }
+
+  @Transactional
+  public UserDto updateUser(UUID id, UpdateUserRequestDto request) {
+    return updateUser(id, request, null);
+  }
+
+  /**
+   * Applies the non-blank fields of {@code request} with one conditional
+   * {@code UPDATE ... RETURNING} that only touches the changed columns and
+   * bumps the row version. With {@code expectedVersions} the update only
+   * applies when the stored version is one of them (an {@code If-Match}
+   * precondition); a lost race surfaces as {@link PreconditionFailedException}
+   * instead of silently overwriting the other writer.
+   */
+  @Transactional
+  public UserDto updateUser(UUID id, UpdateUserRequestDto request, @Nullable List<Long> expectedVersions) {
+    Map<String, String> changes = changedColumns(request);
+
+    if (changes.isEmpty()) {
+      UserDto current = getUserById(id);
+      if (expectedVersions != null && !expectedVersions.contains(current.version())) {
+        throw new PreconditionFailedException("User was modified by another request.");
+      }
+      return current;
+    }
+    if (expectedVersions != null && expectedVersions.isEmpty()) {
+      throw preconditionFailed(id);
+    }
+
+    var statement = jdbcClient.sql(updateSql(changes.keySet(), expectedVersions != null))
+        .param("id", id)
+        .param("now", Timestamp.valueOf(LocalDateTime.now()));
+    changes.forEach(statement::param);
+    if (expectedVersions != null) {
+      statement.param("versions", expectedVersions);
+    }
+
+    List<UpdatedUserRow> rows;
+    try {
+      rows = statement.query(UserService::mapUpdatedRow).list();
+    } catch (DuplicateKeyException e) {
+      throw new BadRequestException("Phone number is already in use.");
+    }
+    if (rows.isEmpty()) {
+      throw preconditionFailed(id);
+    }
+
+    UserDto updated = toUserDto(rows);
+    userCacheService.evict(updated.id(), updated.email());
+    principalEpochStore.bump(updated.id());
+    return updated;
+  }
+
+  @Transactional
+  public void deleteUser(UUID id, UUID deletedBy) {
+    if (deleteUsers(List.of(id), deletedBy).isEmpty()) {
+      throw new ResourceNotFoundException("User not found.");
+    }
+  }
+
+  /**
+   * Soft-deletes every active user in {@code ids} with one statement and
+   * returns the IDs that were deleted; unknown and already deleted IDs are
+   * skipped.
+   */
   @Transactional
-  public UserDto updateUser(String id, UpdateUserRequestDto request) {
-    User user = findActiveUserOrThrow(id);
+  public List<UUID> deleteUsers(Collection<UUID> ids, UUID deletedBy) {
+    if (ids.size() > maxBulkDelete) {
+      throw new BadRequestException("At most " + maxBulkDelete + " users can be deleted at once.");
+    }
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+
+    Map<UUID, String> deleted = jdbcClient.sql(SOFT_DELETE)
+        .param("ids", Set.copyOf(ids))
+        .param("deletedBy", deletedBy)
+        .param("now", Timestamp.valueOf(LocalDateTime.now()))
+        .query((rs, rowNum) -> Map.entry(rs.getObject("id", UUID.class), rs.getString("email")))
+        .stream()
+        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+    userCacheService.evictAll(deleted);
+    deleted.keySet().forEach(principalEpochStore::bump);
+    return List.copyOf(deleted.keySet());
+  }
+
+  /**
+   * Builds the partial update for {@code columns}; the user's roles are
+   * joined onto the returned row so the response needs no second query.
+   */
+  static String updateSql(Set<String> columns, boolean conditional) {
+    var sql = new StringBuilder("WITH updated AS (UPDATE users SET ");
+    for (String column : columns) {
+      sql.append(column).append(" = :").append(column).append(", ");
+    }
+    sql.append("updated_at = :now, version = version + 1 WHERE id = :id AND deleted_at IS NULL");
+    if (conditional) {
+      sql.append(" AND version IN (:versions)");
+    }
+    return sql.append(" RETURNING id, username, email, fullname, phone_number, created_at, updated_at, version) ")
+        .append("SELECT u.*, r.name AS role_name FROM updated u ")
+        .append("LEFT JOIN user_roles ur ON ur.user_id = u.id ")
+        .append("LEFT JOIN roles r ON r.id = ur.role_id")
+        .toString();
+  }
+
+  private static void checkPageSize(int size) {
+    if (size < 1 || size > MAX_PAGE_SIZE) {
+      throw new BadRequestException("Page size must be between 1 and " + MAX_PAGE_SIZE + ".");
+    }
+  }
 
+  private static Map<String, String> changedColumns(UpdateUserRequestDto request) {
+    var changes = new LinkedHashMap<String, String>();
     if (request.fullName() != null && !request.fullName().isBlank()) {
-      user.setFullname(request.fullName());
+      changes.put("fullname", request.fullName());
     }
     if (request.phoneNumber() != null && !request.phoneNumber().isBlank()) {
-      user.setPhoneNumber(request.phoneNumber());
+      changes.put("phone_number", request.phoneNumber());
     }
+    return changes;
+  }
 
-    User saved = userRepository.save(user);
-    return convertToUserDto(saved);
+  private RuntimeException preconditionFailed(UUID id) {
+    boolean exists = jdbcClient.sql("SELECT COUNT(*) FROM users WHERE id = :id AND deleted_at IS NULL")
+        .param("id", id)
+        .query(Long.class)
+        .single() > 0;
+    return exists
+        ? new PreconditionFailedException("User was modified by another request.")
+        : new ResourceNotFoundException("User not found.");
   }
 
-  @Transactional
-  public void deleteUser(String id, String deletedBy) {
-    User user = findActiveUserOrThrow(id);
-    user.setDeletedAt(LocalDateTime.now());
-    user.setDeletedBy(deletedBy);
-    userRepository.save(user);
+  private static UpdatedUserRow mapUpdatedRow(ResultSet rs, int rowNum) throws SQLException {
+    return new UpdatedUserRow(
+        rs.getObject("id", UUID.class),
+        rs.getString("username"),
+        rs.getString("email"),
+        rs.getString("fullname"),
+        rs.getString("phone_number"),
+        rs.getTimestamp("created_at").toLocalDateTime(),
+        rs.getTimestamp("updated_at").toLocalDateTime(),
+        rs.getLong("version"),
+        rs.getString("role_name"));
   }
 
-  private User findActiveUserOrThrow(String id) {
-    User user = userRepository.findById(id)
-        .orElseThrow(() -> new ResourceNotFoundException("User not found."));
+  private static UserDto toUserDto(List<UpdatedUserRow> rows) {
+    UpdatedUserRow row = rows.getFirst();
+    var roles = new HashSet<String>();
+    rows.forEach(each -> {
+      if (each.roleName() != null) {
+        roles.add(each.roleName());
+      }
+    });
+    return new UserDto(row.id(), row.username(), row.email(), row.fullName(), row.phoneNumber(), roles,
+        row.createdAt(), row.updatedAt(), row.version());
+  }
 
-    if (user.getDeletedAt() != null) {
-      throw new ResourceNotFoundException("User not found.");
+  private record UpdatedUserRow(UUID id, String username, String email, String fullName, String phoneNumber,
+      LocalDateTime createdAt, LocalDateTime updatedAt, long version, @Nullable String roleName) {
+  }
+
+  private List<User> findActiveAfter(UserCursor cursor, Limit limit) {
+    return userRepository.findActiveAfter(cursor.createdAt(), cursor.id(), limit);
+  }
+
+  private List<UserDto> toUserDtos(List<User> users) {
+    if (users.isEmpty()) {
+      return List.of();
     }
-    return user;
+
+    Map<UUID, Set<String>> rolesByUserId = userRepository
+        .findRoleNamesByUserIds(users.stream().map(User::getId).toList())
+        .stream()
+        .collect(Collectors.groupingBy(UserRoleName::userId,
+            Collectors.mapping(UserRoleName::roleName, Collectors.toSet())));
+
+    return users.stream()
+        .map(user -> convertToUserDto(user, rolesByUserId.getOrDefault(user.getId(), Set.of())))
+        .collect(Collectors.toList());
+  }
+
+  public UserDto convertToUserDto(User user) {
+    return convertToUserDto(user, user.getRoles().stream().map(Role::getName).collect(Collectors.toSet()));
   }
 
-  private UserDto convertToUserDto(User user) {
+  private UserDto convertToUserDto(User user, Set<String> roles) {
     return new UserDto(
         user.getId(),
         user.getUserName(),
         user.getEmail(),
         user.getFullname(),
         user.getPhoneNumber(),
-        user.getRoles().stream().map(Role::getName).collect(Collectors.toSet()),
+        roles,
         user.getCreatedAt(),
-        user.getUpdatedAt());
+        user.getUpdatedAt(),
+        user.getVersion());
   }
 }
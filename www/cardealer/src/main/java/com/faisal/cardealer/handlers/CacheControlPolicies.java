@@ -0,0 +1,32 @@
+package com.faisal.cardealer.handlers;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code Cache-Control} values for cacheable reads, one per endpoint. The
+ * defaults let private caches keep a copy but revalidate it on every use,
+ * which conditional requests turn into a cheap {@code 304}.
+ */
+@Component
+public class CacheControlPolicies {
+  private final String users;
+  private final String profile;
+
+  public CacheControlPolicies(
+      @Value("${http.cache-control.users:private, no-cache}") String users,
+      @Value("${http.cache-control.profile:private, no-cache}") String profile) {
+    this.users = users;
+    this.profile = profile;
+  }
+
+  /** {@code GET /users/{id}}. */
+  public String users() {
+    return users;
+  }
+
+  /** {@code GET /auth/me}. */
+  public String profile() {
+    return profile;
+  }
+}
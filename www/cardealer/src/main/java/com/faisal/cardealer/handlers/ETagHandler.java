@@ -0,0 +1,59 @@
+package com.faisal.cardealer.handlers;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Strong entity tags derived from a row's optimistic-lock version and its
+ * last update time. The tag starts with the decimal version, so
+ * {@code If-Match} values can be turned back into versions and checked in
+ * the {@code UPDATE} itself; the timestamp suffix keeps tags distinct if a
+ * row is ever recreated with a version that was already handed out.
+ */
+public final class ETagHandler {
+  private ETagHandler() {
+  }
+
+  public static String format(long version, @Nullable LocalDateTime updatedAt) {
+    if (updatedAt == null) {
+      return "\"" + version + "\"";
+    }
+    long micros = updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + updatedAt.getNano() / 1_000;
+    return "\"" + version + "-" + Long.toString(micros, 36) + "\"";
+  }
+
+  /**
+   * Versions listed in an {@code If-Match} header, or {@code null} when the
+   * header is absent or {@code *} and the update is unconditional. Weak and
+   * malformed tags never match (RFC 9110 section 13.1.1), so a header made
+   * only of those yields an empty list.
+   */
+  public static @Nullable List<Long> parseIfMatch(@Nullable String header) {
+    if (header == null || header.isBlank() || header.strip().equals("*")) {
+      return null;
+    }
+
+    var versions = new ArrayList<Long>();
+    for (String tag : header.split(",")) {
+      String value = tag.strip();
+      if (value.length() < 3 || value.charAt(0) != '"' || value.charAt(value.length() - 1) != '"') {
+        continue;
+      }
+
+      int end = value.indexOf('-', 1);
+      if (end < 0) {
+        end = value.length() - 1;
+      }
+      try {
+        versions.add(Long.parseLong(value, 1, end, 10));
+      } catch (NumberFormatException e) {
+        // Not a tag this service issued.
+      }
+    }
+    return versions;
+  }
+}
@@ -6,6 +6,6 @@ import org.hibernate.id.IdentifierGenerator;
 public class IdGenerator implements IdentifierGenerator {
   @Override
   public Object generate(SharedSessionContractImplementor session, Object object) {
-    return UUIDv7Handler.generate().toString();
+    return UUIDv7Handler.generate();
   }
 }
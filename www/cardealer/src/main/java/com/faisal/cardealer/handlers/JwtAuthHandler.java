@@ -2,33 +2,46 @@ package com.faisal.cardealer.handlers;
 
 import java.net.InetAddress;
 import java.net.UnknownHostException;
-import java.security.InvalidKeyException;
 import java.security.SecureRandom;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.time.temporal.ChronoUnit;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
+import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import com.faisal.cardealer.models.User;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 
+import jakarta.annotation.PostConstruct;
+
 @Component
 public class JwtAuthHandler {
+  public static final String NAME_CLAIM = "name";
+  public static final String EMAIL_CLAIM = "email";
+  public static final String ROLES_CLAIM = "roles";
+  public static final String EPOCH_CLAIM = "epoch";
+  public static final String TOKEN_TYPE_CLAIM = "typ";
+  public static final String FAMILY_CLAIM = "fam";
+  public static final String GENERATION_CLAIM = "gen";
+  public static final String REFRESH_TOKEN_TYPE = "refresh";
+
   @Value("${jwt.private.key}")
   private RSAPrivateKey privateKey;
 
@@ -41,80 +54,114 @@ public class JwtAuthHandler {
   @Value("${jwt.refresh.token.expiration}")
   private int refreshTokenExpirationMs;
 
-  private static final Logger LOG = LoggerFactory.getLogger(JwtAuthHandler.class);
+  @Value("${jwt.claims.cache.max-size:10000}")
+  private long claimsCacheMaxSize = 10_000;
+
+  @Value("${jwt.claims.cache.rejection-ttl:PT30S}")
+  private Duration claimsCacheRejectionTtl = Duration.ofSeconds(30);
+
+  @Value("${jwt.issuer:}")
+  private String configuredIssuer;
+
+  private final PrincipalEpochStore principalEpochStore;
+  private JwtParser jwtParser;
+  private JwtClaimsCache claimsCache;
+  private String issuer;
+  private final Clock clock = Clock.systemUTC();
 
-  public JwtAuthHandler() {
+  private static final Logger LOG = LoggerFactory.getLogger(JwtAuthHandler.class);
+  private static final String DEFAULT_ISSUER = "cardealer";
+  private static final int TOKEN_ID_BYTES = 16;
+  private static final SecureRandom RANDOM = new SecureRandom();
+  private static final Base64.Encoder TOKEN_ID_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+  @Autowired
+  public JwtAuthHandler(PrincipalEpochStore principalEpochStore) {
+    this.principalEpochStore = principalEpochStore;
   }
 
   public JwtAuthHandler(
       RSAPrivateKey privateKey,
       RSAPublicKey publicKey,
       int jwtExpirationMs,
-      int refreshTokenExpirationMs) {
+      int refreshTokenExpirationMs,
+      PrincipalEpochStore principalEpochStore) {
+    this.principalEpochStore = principalEpochStore;
     this.privateKey = privateKey;
     this.publicKey = publicKey;
     this.jwtExpirationMs = jwtExpirationMs;
     this.refreshTokenExpirationMs = refreshTokenExpirationMs;
+    init();
+  }
+
+  @PostConstruct
+  void init() {
+    this.jwtParser = Jwts.parser()
+        .verifyWith(publicKey)
+        .build();
+    this.claimsCache = new JwtClaimsCache(claimsCacheMaxSize, claimsCacheRejectionTtl);
+    this.issuer = resolveIssuer(configuredIssuer);
   }
 
-  private String createJwt(User user) throws InvalidKeyException, UnknownHostException {
+  private String createJwt(User user, Instant now, String jwtId) {
     List<String> userRoles = user.getRoles()
         .stream()
         .map(role -> role.getName())
         .collect(Collectors.toList());
 
-    byte[] bytes = new byte[16];
-    SecureRandom random = new SecureRandom(bytes);
-    var jwtId = Integer.toHexString(random.nextInt());
-
-    ZoneId zoneId = ZoneId.of("Asia/Jakarta");
-    LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Jakarta"));
-
-    var exp = Date.from(now.plus(jwtExpirationMs, ChronoUnit.MILLIS).atZone(zoneId).toInstant());
-    var iss = Date.from(now.atZone(zoneId).toInstant());
-    var nbf = Date.from(now.atZone(zoneId).toInstant());
-    var hostName = InetAddress.getLocalHost().getHostName();
-
     var customClaims = new HashMap<String, Object>();
-    customClaims.put("name", user.getFullname());
-    customClaims.put("roles", userRoles);
+    customClaims.put(NAME_CLAIM, user.getFullname());
+    customClaims.put(EMAIL_CLAIM, user.getEmail());
+    customClaims.put(ROLES_CLAIM, userRoles);
+    customClaims.put(EPOCH_CLAIM, principalEpochStore.current(user.getId()));
 
     return Jwts.builder()
         .claims(customClaims)
-        .issuer(hostName)
-        .subject(user.getId())
-        .expiration(exp)
-        .notBefore(nbf)
-        .issuedAt(iss)
+        .issuer(issuer)
+        .subject(user.getId().toString())
+        .expiration(Date.from(now.plusMillis(jwtExpirationMs)))
+        .notBefore(Date.from(now))
+        .issuedAt(Date.from(now))
         .id(jwtId)
         .signWith(privateKey)
         .compact();
   }
 
-  private String createRefreshToken(User user) throws InvalidKeyException, UnknownHostException {
-    byte[] bytes = new byte[16];
-    SecureRandom random = new SecureRandom(bytes);
-    var refreshTokenId = Integer.toHexString(random.nextInt());
-
-    ZoneId zoneId = ZoneId.of("Asia/Jakarta");
-    LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Jakarta"));
-
-    var exp = Date.from(now.plus(refreshTokenExpirationMs, ChronoUnit.MILLIS).atZone(zoneId).toInstant());
-    var iss = Date.from(now.atZone(zoneId).toInstant());
-    var nbf = Date.from(now.atZone(zoneId).toInstant());
-    var hostName = InetAddress.getLocalHost().getHostName();
-
+  private String createRefreshToken(User user, Instant now, String refreshTokenId, String familyId, long generation) {
     return Jwts.builder()
-        .issuer(hostName)
-        .subject(user.getEmail())
-        .expiration(exp)
-        .notBefore(nbf)
-        .issuedAt(iss)
+        .claim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE)
+        .claim(FAMILY_CLAIM, familyId)
+        .claim(GENERATION_CLAIM, generation)
+        .issuer(issuer)
+        .subject(user.getId().toString())
+        .expiration(Date.from(now.plusMillis(refreshTokenExpirationMs)))
+        .notBefore(Date.from(now))
+        .issuedAt(Date.from(now))
         .id(refreshTokenId)
         .signWith(privateKey)
         .compact();
   }
 
+  /** 128-bit random token ID, base64url without padding. */
+  private static String newTokenId() {
+    byte[] bytes = new byte[TOKEN_ID_BYTES];
+    RANDOM.nextBytes(bytes);
+    return TOKEN_ID_ENCODER.encodeToString(bytes);
+  }
+
+  private static String resolveIssuer(String configuredIssuer) {
+    if (configuredIssuer != null && !configuredIssuer.isBlank()) {
+      return configuredIssuer;
+    }
+
+    try {
+      return InetAddress.getLocalHost().getHostName();
+    } catch (UnknownHostException e) {
+      LOG.warn("Could not resolve local host name for the JWT issuer, using '{}': {}", DEFAULT_ISSUER, e.getMessage());
+      return DEFAULT_ISSUER;
+    }
+  }
+
   public String extractUsername(String token) {
     return extractClaim(token, Claims::getSubject);
   }
@@ -129,45 +176,91 @@ public class JwtAuthHandler {
   }
 
   public Claims decodeToken(String token) {
+    return claimsCache.get(token, this::verifyToken);
+  }
+
+  private Claims verifyToken(String token) {
     try {
-      return Jwts.parser()
-          .verifyWith(publicKey)
-          .build()
+      return jwtParser
           .parseSignedClaims(token)
           .getPayload();
     } catch (JwtException e) {
-      LOG.error(e.getMessage(), e);
+      LOG.debug("Rejected JWT: {}", e.getMessage());
 
       throw new RuntimeException("Invalid or expired token.", e);
     }
   }
 
   public String generateToken(User user) {
-    try {
-      return createJwt(user);
-    } catch (InvalidKeyException | UnknownHostException e) {
-      LOG.error(e.getMessage(), e);
+    return createJwt(user, clock.instant(), newTokenId());
+  }
 
-      throw new RuntimeException(e.getMessage());
-    }
+  public String generateRefreshToken(User user, String familyId, long generation) {
+    return createRefreshToken(user, clock.instant(), newTokenId(), familyId, generation);
   }
 
-  public String generateRefreshToken(User user) {
-    try {
-      return createRefreshToken(user);
-    } catch (InvalidKeyException | UnknownHostException e) {
-      LOG.error(e.getMessage(), e);
+  /**
+   * Mints the access and refresh token together from one clock read, so both
+   * share their issue time. The access token carries the profile, role and
+   * epoch claims; the refresh token only its type, {@code familyId} and the
+   * user's session {@code generation}.
+   */
+  public JwtTokenPair generateTokenPair(User user, String familyId, long generation) {
+    Instant now = clock.instant();
+    String refreshTokenId = newTokenId();
+
+    return new JwtTokenPair(
+        createJwt(user, now, newTokenId()),
+        createRefreshToken(user, now, refreshTokenId, familyId, generation),
+        refreshTokenId,
+        now.plusMillis(refreshTokenExpirationMs));
+  }
 
-      throw new RuntimeException(e.getMessage());
-    }
+  public static String newFamilyId() {
+    return newTokenId();
+  }
+
+  public JwtClaimsCache getClaimsCache() {
+    return claimsCache;
   }
 
   public boolean isTokenExpired(String token) {
-    return extractExpiration(token).before(new Date());
+    return isTokenExpired(decodeToken(token));
+  }
+
+  public boolean isTokenExpired(Claims claims) {
+    return claims.getExpiration().toInstant().isBefore(clock.instant());
+  }
+
+  public boolean isTokenValid(String token, User user) {
+    return isTokenValid(decodeToken(token), user);
   }
 
-  public boolean isTokenValid(String token, UserDetails userDetails) {
-    final String email = extractUsername(token);
-    return (email.equals(userDetails.getUsername()) && !isTokenExpired(token));
+  public boolean isTokenValid(Claims claims, User user) {
+    return user.getId().equals(extractUserId(claims)) && !isTokenExpired(claims);
+  }
+
+  public boolean isRefreshToken(Claims claims) {
+    return REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class))
+        && claims.get(FAMILY_CLAIM, String.class) != null
+        && claims.get(GENERATION_CLAIM, Long.class) != null
+        && claims.getId() != null;
+  }
+
+  public boolean isAccessTokenValid(Claims claims) {
+    final Long epoch = claims.get(EPOCH_CLAIM, Long.class);
+    final UUID userId = extractUserId(claims);
+    return epoch != null
+        && userId != null
+        && !isTokenExpired(claims)
+        && principalEpochStore.isCurrent(userId, epoch);
+  }
+
+  public UUID extractUserId(Claims claims) {
+    try {
+      return claims.getSubject() == null ? null : UUID.fromString(claims.getSubject());
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
   }
 }
@@ -3,14 +3,18 @@ package com.faisal.cardealer.handlers;
 import java.io.IOException;
 
 import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.faisal.cardealer.exceptions.UnauthorizedException;
+import com.faisal.cardealer.features.roles.services.RbacService;
+import com.faisal.cardealer.features.users.services.UserCacheService;
+
+import io.jsonwebtoken.Claims;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -19,14 +23,20 @@ import jakarta.servlet.http.HttpServletResponse;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
-  private final UserDetailsService userDetailsService;
+  private final UserCacheService userCacheService;
   private final JwtAuthHandler jwtAuthHandler;
+  private final RbacService rbacService;
+  private final boolean statelessPrincipal;
 
   public JwtAuthenticationFilter(
-      UserDetailsService userDetailsService,
-      JwtAuthHandler jwtAuthHandler) {
-    this.userDetailsService = userDetailsService;
+      UserCacheService userCacheService,
+      JwtAuthHandler jwtAuthHandler,
+      RbacService rbacService,
+      @Value("${jwt.principal.stateless:true}") boolean statelessPrincipal) {
+    this.userCacheService = userCacheService;
     this.jwtAuthHandler = jwtAuthHandler;
+    this.rbacService = rbacService;
+    this.statelessPrincipal = statelessPrincipal;
   }
 
   @Override
@@ -43,16 +53,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     final String jwt = header.substring(7);
-    final String userEmail = jwtAuthHandler.extractUsername(jwt);
-
-    if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-      var userDetails = userDetailsService.loadUserByUsername(userEmail);
+    final Claims claims = jwtAuthHandler.decodeToken(jwt);
+    final String userId = claims.getSubject();
 
-      if (!jwtAuthHandler.isTokenValid(jwt, userDetails)) {
-        throw new UnauthorizedException("Invalid or expired refresh token.");
+    if (userId != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+      if (!jwtAuthHandler.isAccessTokenValid(claims)) {
+        throw new UnauthorizedException("Invalid or expired access token.");
       }
 
-      var token = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+      var principal = statelessPrincipal ? JwtPrincipal.fromClaims(claims, rbacService.snapshot()) : loadPrincipal(claims);
+      var token = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
 
       token.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
@@ -60,4 +70,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
     filterChain.doFilter(request, response);
   }
+
+  private JwtPrincipal loadPrincipal(Claims claims) {
+    var user = userCacheService.findActiveByEmail(claims.get(JwtAuthHandler.EMAIL_CLAIM, String.class))
+        .filter(cachedUser -> cachedUser.id().equals(jwtAuthHandler.extractUserId(claims)))
+        .orElseThrow(() -> new UnauthorizedException("Invalid or expired access token."));
+
+    return JwtPrincipal.fromCachedUser(user, rbacService.snapshot());
+  }
 }
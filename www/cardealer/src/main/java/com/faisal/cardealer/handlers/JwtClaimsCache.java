@@ -0,0 +1,108 @@
+package com.faisal.cardealer.handlers;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.jspecify.annotations.NonNull;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.PrematureJwtException;
+
+/**
+ * Holds claims of tokens whose signature has already been verified, keyed by a
+ * SHA-256 digest of the token so raw tokens are never kept in memory. Entries
+ * live until the token's {@code exp} and are evicted by size. Rejected tokens
+ * are remembered for {@code rejectionTtl}, so a forged or expired token
+ * replayed in a loop, or checked by several filters, is verified only once.
+ */
+public class JwtClaimsCache {
+  private final Cache<String, Claims> cache;
+  private final Cache<String, String> rejected;
+
+  public JwtClaimsCache(long maximumSize) {
+    this(maximumSize, Duration.ofSeconds(30));
+  }
+
+  public JwtClaimsCache(long maximumSize, Duration rejectionTtl) {
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfter(new UntilTokenExpiry())
+        .recordStats()
+        .build();
+    this.rejected = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(rejectionTtl)
+        .build();
+  }
+
+  public Claims get(String token, Function<String, Claims> verifier) {
+    String key = digest(token);
+    String rejection = rejected.getIfPresent(key);
+
+    if (rejection != null) {
+      throw new RuntimeException(rejection);
+    }
+
+    try {
+      return cache.get(key, ignored -> verifier.apply(token));
+    } catch (RuntimeException e) {
+      // A token that is not valid yet may become valid in a moment; do not remember it.
+      if (!(e.getCause() instanceof PrematureJwtException)) {
+        rejected.put(key, String.valueOf(e.getMessage()));
+      }
+      throw e;
+    }
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll();
+    rejected.invalidateAll();
+  }
+
+  public Cache<String, Claims> getCache() {
+    return cache;
+  }
+
+  private static String digest(String token) {
+    try {
+      var sha256 = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static final class UntilTokenExpiry implements Expiry<String, Claims> {
+    @Override
+    public long expireAfterCreate(@NonNull String key, @NonNull Claims claims, long currentTime) {
+      Date expiration = claims.getExpiration();
+
+      if (expiration == null) {
+        return 0;
+      }
+      return Math.max(0, TimeUnit.MILLISECONDS.toNanos(expiration.getTime() - System.currentTimeMillis()));
+    }
+
+    @Override
+    public long expireAfterUpdate(@NonNull String key, @NonNull Claims claims, long currentTime,
+        long currentDuration) {
+      return currentDuration;
+    }
+
+    @Override
+    public long expireAfterRead(@NonNull String key, @NonNull Claims claims, long currentTime,
+        long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package com.faisal.cardealer.handlers;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.faisal.cardealer.features.roles.services.RbacSnapshot;
+import com.faisal.cardealer.features.users.dto.CachedUser;
+import com.faisal.cardealer.models.Role;
+import com.faisal.cardealer.models.User;
+
+import io.jsonwebtoken.Claims;
+
+public record JwtPrincipal(
+    UUID id,
+    String email,
+    String fullName,
+    List<String> roles,
+    Set<GrantedAuthority> authorities) implements UserDetails {
+  public JwtPrincipal(UUID id, String email, String fullName, List<String> roles,
+      Set<GrantedAuthority> authorities) {
+    this.id = Objects.requireNonNull(id, "ID cannot be null");
+    this.email = email;
+    this.fullName = fullName;
+    this.roles = List.copyOf(roles);
+    this.authorities = Set.copyOf(authorities);
+  }
+
+  public static JwtPrincipal fromClaims(Claims claims) {
+    return fromClaims(claims, RbacSnapshot.EMPTY);
+  }
+
+  public static JwtPrincipal fromClaims(Claims claims, RbacSnapshot rbac) {
+    List<?> claimedRoles = claims.get(JwtAuthHandler.ROLES_CLAIM, List.class);
+    List<String> roles = claimedRoles == null
+        ? List.of()
+        : claimedRoles.stream().map(String::valueOf).toList();
+
+    return new JwtPrincipal(
+        UUID.fromString(claims.getSubject()),
+        claims.get(JwtAuthHandler.EMAIL_CLAIM, String.class),
+        claims.get(JwtAuthHandler.NAME_CLAIM, String.class),
+        roles,
+        rbac.grants(roles).authorities());
+  }
+
+  public static JwtPrincipal fromUser(User user) {
+    List<String> roles = user.getRoles().stream().map(Role::getName).toList();
+
+    return new JwtPrincipal(user.getId(), user.getEmail(), user.getFullname(), roles, toAuthorities(roles));
+  }
+
+  public static JwtPrincipal fromCachedUser(CachedUser user) {
+    return fromCachedUser(user, RbacSnapshot.EMPTY);
+  }
+
+  public static JwtPrincipal fromCachedUser(CachedUser user, RbacSnapshot rbac) {
+    return new JwtPrincipal(
+        user.id(), user.email(), user.fullName(), user.roles(), rbac.grants(user.roles()).authorities());
+  }
+
+  private static Set<GrantedAuthority> toAuthorities(List<String> roles) {
+    return roles.stream()
+        .map(role -> new SimpleGrantedAuthority("ROLE_" + role.toUpperCase()))
+        .collect(Collectors.toSet());
+  }
+
+  public UUID getId() {
+    return id;
+  }
+
+  @Override
+  public Collection<? extends GrantedAuthority> getAuthorities() {
+    return authorities;
+  }
+
+  @Override
+  public String getPassword() {
+    return null;
+  }
+
+  @Override
+  public String getUsername() {
+    return email;
+  }
+}
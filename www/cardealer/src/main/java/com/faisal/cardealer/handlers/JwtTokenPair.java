@@ -0,0 +1,6 @@
+package com.faisal.cardealer.handlers;
+
+import java.time.Instant;
+
+public record JwtTokenPair(String accessToken, String refreshToken, String refreshTokenId, Instant refreshExpiresAt) {
+}
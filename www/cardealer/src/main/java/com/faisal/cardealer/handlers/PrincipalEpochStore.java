@@ -0,0 +1,162 @@
+package com.faisal.cardealer.handlers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+/**
+ * Versioned "principal epoch" per user. Every access token carries the epoch
+ * that was current when it was minted; bumping the epoch invalidates all
+ * tokens issued before it. Reads are served from memory, Redis is the shared
+ * source of truth and bumps are fanned out to other nodes over pub/sub.
+ *
+ * <p>Revocations must not lapse: cached epochs are refreshed rather than
+ * expired, so a failed Redis read keeps the last known value, and an epoch
+ * that cannot be read at all rejects the token instead of assuming zero.
+ * Without Redis, bumped epochs are kept in memory for the life of the node.
+ */
+@Component
+public class PrincipalEpochStore implements MessageListener {
+  public static final String CHANNEL = "cardealer:principal-epoch";
+  private static final String KEY_PREFIX = "principal:epoch:";
+  private static final Logger LOG = LoggerFactory.getLogger(PrincipalEpochStore.class);
+
+  private final @Nullable StringRedisTemplate redisTemplate;
+  private final LoadingCache<UUID, Long> epochs;
+  /** Authoritative epochs when Redis is absent; only bumped users have an entry. */
+  private final Map<UUID, Long> localEpochs = new ConcurrentHashMap<>();
+  /** Bumps that Redis has not recorded yet; the user's tokens are rejected until it does. */
+  private final Set<UUID> unpublished = ConcurrentHashMap.newKeySet();
+
+  public PrincipalEpochStore(
+      @Nullable StringRedisTemplate redisTemplate,
+      @Value("${jwt.principal.epoch.cache.max-size:100000}") long maximumSize,
+      @Value("${jwt.principal.epoch.cache.ttl:PT5M}") Duration ttl) {
+    this.redisTemplate = redisTemplate;
+    this.epochs = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .refreshAfterWrite(ttl)
+        .build(this::load);
+  }
+
+  /**
+   * Epoch to embed in a newly minted token. When it cannot be read, zero is
+   * returned: a token minted too low is only ever rejected, never wrongly
+   * accepted.
+   */
+  public long current(UUID userId) {
+    Long epoch = lookup(userId);
+    return epoch == null ? 0L : epoch;
+  }
+
+  public boolean isCurrent(UUID userId, long epoch) {
+    Long current = lookup(userId);
+    return current != null && epoch >= current;
+  }
+
+  /**
+   * Invalidates every token issued to the user so far. Inside a transaction
+   * the bump is deferred until after commit, so a rolled-back change does
+   * not sign the user out.
+   */
+  public void bump(UUID userId) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          bumpNow(userId);
+        }
+      });
+      return;
+    }
+    bumpNow(userId);
+  }
+
+  @Override
+  public void onMessage(Message message, byte @Nullable [] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    int separator = body.lastIndexOf(':');
+
+    if (separator <= 0) {
+      return;
+    }
+
+    try {
+      epochs.asMap().merge(
+          UUID.fromString(body.substring(0, separator)), Long.parseLong(body.substring(separator + 1)), Math::max);
+    } catch (IllegalArgumentException e) {
+      LOG.warn("Ignoring malformed principal epoch message '{}'.", body);
+    }
+  }
+
+  private void bumpNow(UUID userId) {
+    if (redisTemplate == null) {
+      localEpochs.merge(userId, 1L, Long::sum);
+      return;
+    }
+
+    unpublished.add(userId);
+    publish(userId);
+  }
+
+  /** The user's epoch, or {@code null} when it cannot be determined. */
+  private @Nullable Long lookup(UUID userId) {
+    if (redisTemplate == null) {
+      return localEpochs.getOrDefault(userId, 0L);
+    }
+    if (unpublished.contains(userId) && !publish(userId)) {
+      return null;
+    }
+
+    try {
+      return epochs.get(userId);
+    } catch (DataAccessException e) {
+      LOG.warn("Failed to read principal epoch for user '{}': {}", userId, e.getMessage());
+      return null;
+    }
+  }
+
+  private boolean publish(UUID userId) {
+    Long incremented;
+    try {
+      incremented = redisTemplate.opsForValue().increment(KEY_PREFIX + userId);
+    } catch (DataAccessException e) {
+      LOG.warn("Failed to record principal epoch for user '{}': {}", userId, e.getMessage());
+      return false;
+    }
+    unpublished.remove(userId);
+
+    if (incremented != null) {
+      epochs.asMap().merge(userId, incremented, Math::max);
+      try {
+        redisTemplate.convertAndSend(CHANNEL, userId + ":" + incremented);
+      } catch (DataAccessException e) {
+        LOG.warn("Failed to publish principal epoch for user '{}': {}", userId, e.getMessage());
+      }
+    }
+    return true;
+  }
+
+  private Long load(UUID userId) {
+    String value = redisTemplate.opsForValue().get(KEY_PREFIX + userId);
+    return value == null ? 0L : Long.parseLong(value);
+  }
+}
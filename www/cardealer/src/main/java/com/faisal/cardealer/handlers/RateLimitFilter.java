@@ -0,0 +1,158 @@
+package com.faisal.cardealer.handlers;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.faisal.cardealer.ratelimit.ClientAddressResolver;
+import com.faisal.cardealer.ratelimit.LocalRateLimiter;
+import com.faisal.cardealer.ratelimit.RateLimitRule;
+import com.faisal.cardealer.ratelimit.RedisRateLimiter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Applies the first {@link RateLimitRule} whose pattern matches the request
+ * path. Runs ahead of {@link JwtAuthenticationFilter}, so principal keys are
+ * taken from the bearer token through the claims cache and fall back to the
+ * client address when there is no usable token. Behind a reverse proxy the
+ * client address comes from {@code rate-limit.client-ip.header}, trusted only
+ * when sent by one of {@code rate-limit.client-ip.trusted-proxies}. With
+ * {@code rate-limit.redis.enabled} the limit is shared across nodes; if Redis
+ * is unreachable the local bucket still applies.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+  private static final String METRIC = "http.server.requests.rate_limited";
+  private static final Logger LOG = LoggerFactory.getLogger(RateLimitFilter.class);
+
+  private final List<RateLimitRule> rules;
+  private final LocalRateLimiter localRateLimiter;
+  private final @Nullable RedisRateLimiter redisRateLimiter;
+  private final JwtAuthHandler jwtAuthHandler;
+  private final ClientAddressResolver clientAddressResolver;
+  private final MeterRegistry meterRegistry;
+  private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+  public RateLimitFilter(
+      JwtAuthHandler jwtAuthHandler,
+      @Nullable StringRedisTemplate redisTemplate,
+      @Nullable MeterRegistry meterRegistry,
+      @Value("${rate-limit.rules:/auth/**=ip:20/PT1M,/users/**=principal:100/PT1S}") String rules,
+      @Value("${rate-limit.redis.enabled:false}") boolean redisEnabled,
+      @Value("${rate-limit.local.shards:16}") int shards,
+      @Value("${rate-limit.local.max-keys:100000}") long maximumKeys,
+      @Value("${rate-limit.client-ip.header:X-Forwarded-For}") String clientIpHeader,
+      @Value("${rate-limit.client-ip.trusted-proxies:127.0.0.1/32,::1/128,10.0.0.0/8,172.16.0.0/12,192.168.0.0/16}")
+      String trustedProxies) {
+    this.rules = RateLimitRule.parse(rules);
+    this.jwtAuthHandler = jwtAuthHandler;
+    this.clientAddressResolver = new ClientAddressResolver(clientIpHeader, trustedProxies);
+    this.meterRegistry = meterRegistry != null ? meterRegistry : new SimpleMeterRegistry();
+    this.redisRateLimiter = redisEnabled && redisTemplate != null ? new RedisRateLimiter(redisTemplate) : null;
+    this.localRateLimiter = new LocalRateLimiter(shards, maximumKeys, longestPeriod(this.rules));
+  }
+
+  @Override
+  protected void doFilterInternal(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull FilterChain filterChain)
+      throws ServletException, IOException {
+    RateLimitRule rule = match(request.getRequestURI().substring(request.getContextPath().length()));
+
+    if (rule == null) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    String key = rule.pattern() + '|' + resolveKey(rule, request);
+    long waitNanos = localRateLimiter.tryAcquire(rule, key);
+    String scope = "local";
+
+    if (waitNanos == 0 && redisRateLimiter != null) {
+      try {
+        waitNanos = redisRateLimiter.tryAcquire(rule, key);
+        scope = "global";
+      } catch (DataAccessException e) {
+        LOG.warn("Global rate limit check failed, using the local limit only: {}", e.getMessage());
+      }
+    }
+
+    if (waitNanos > 0) {
+      meterRegistry.counter(METRIC, "rule", rule.pattern(), "scope", scope).increment();
+      reject(response, waitNanos);
+      return;
+    }
+
+    filterChain.doFilter(request, response);
+  }
+
+  public MeterRegistry getMeterRegistry() {
+    return meterRegistry;
+  }
+
+  private @Nullable RateLimitRule match(String path) {
+    for (RateLimitRule rule : rules) {
+      if (pathMatcher.match(rule.pattern(), path)) {
+        return rule;
+      }
+    }
+    return null;
+  }
+
+  private String resolveKey(RateLimitRule rule, HttpServletRequest request) {
+    if (rule.keyType() == RateLimitRule.KeyType.PRINCIPAL) {
+      String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+
+      if (header != null && header.startsWith("Bearer ")) {
+        try {
+          UUID userId = jwtAuthHandler.extractUserId(jwtAuthHandler.decodeToken(header.substring(7)));
+
+          if (userId != null) {
+            return "user:" + userId;
+          }
+        } catch (RuntimeException e) {
+          // Invalid tokens are rejected by the JWT filter; limit them by address meanwhile.
+        }
+      }
+    }
+    return "ip:" + clientAddressResolver.resolve(request);
+  }
+
+  private static void reject(HttpServletResponse response, long waitNanos) throws IOException {
+    long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+
+    response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+    response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.getWriter().write("{\"status\":429,\"success\":false,\"message\":\"Too many requests, please retry later.\","
+        + "\"timestamps\":\"" + LocalDateTime.now() + "\",\"resource\":{\"retry_after\":" + retryAfterSeconds + "}}");
+  }
+
+  private static Duration longestPeriod(List<RateLimitRule> rules) {
+    return rules.stream().map(RateLimitRule::period).max(Duration::compareTo).orElse(Duration.ofMinutes(1));
+  }
+}
@@ -1,16 +1,45 @@
 package com.faisal.cardealer.handlers;
 
-import java.security.SecureRandom;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RFC 9562 version 7 UUIDs. The 48-bit Unix millisecond timestamp is followed
+ * by a 12-bit counter in {@code rand_a} (method 1 of section 6.2), so IDs are
+ * strictly increasing within the JVM even when many are created in the same
+ * millisecond. When the counter overflows it carries into the timestamp, as
+ * the RFC allows. {@code rand_b} comes from a thread-local random source.
+ */
+public final class UUIDv7Handler {
+  private static final int COUNTER_BITS = 12;
+  private static final long VERSION = 0x7000L;
+  private static final long VARIANT = 0x8000000000000000L;
+  private static final long RAND_B_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+  /** Last issued {@code (unix_ts_ms << 12) | counter}. */
+  private static final AtomicLong LAST = new AtomicLong();
+
+  private UUIDv7Handler() {
+  }
 
-public class UUIDv7Handler {
   public static UUID generate() {
-    long timestamp = System.currentTimeMillis();
-    var random = new SecureRandom();
+    long state = nextState(System.currentTimeMillis() << COUNTER_BITS);
 
-    long mostSigBits = (timestamp << 16);
-    long leastSigBits = random.nextLong();
+    long mostSigBits = ((state >>> COUNTER_BITS) << 16) | VERSION | (state & 0xFFFL);
+    long leastSigBits = (ThreadLocalRandom.current().nextLong() & RAND_B_MASK) | VARIANT;
 
     return new UUID(mostSigBits, leastSigBits);
   }
+
+  private static long nextState(long now) {
+    while (true) {
+      long last = LAST.get();
+      long next = now > last ? now : last + 1;
+
+      if (LAST.compareAndSet(last, next)) {
+        return next;
+      }
+    }
+  }
 }
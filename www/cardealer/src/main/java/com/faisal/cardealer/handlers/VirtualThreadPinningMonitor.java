@@ -0,0 +1,82 @@
+package com.faisal.cardealer.handlers;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Streams {@code jdk.VirtualThreadPinned} JFR events while virtual threads
+ * are enabled. Every pin longer than the threshold is timed and logged with
+ * the top of its stack, which is enough to tell a driver or pool lock apart
+ * from our own code.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+  private static final String EVENT = "jdk.VirtualThreadPinned";
+  private static final int LOGGED_FRAMES = 8;
+  private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+  private final Duration threshold;
+  private final Timer pinned;
+  private @Nullable RecordingStream stream;
+
+  public VirtualThreadPinningMonitor(
+      @Nullable MeterRegistry meterRegistry,
+      @Value("${monitoring.virtual-threads.pinned-threshold:PT0.02S}") Duration threshold) {
+    this.threshold = threshold;
+    this.pinned = Timer.builder("jvm.threads.virtual.pinned")
+        .description("Time virtual threads spent pinned to their carrier")
+        .register(meterRegistry != null ? meterRegistry : new SimpleMeterRegistry());
+  }
+
+  @PostConstruct
+  public void start() {
+    var recording = new RecordingStream();
+    recording.enable(EVENT).withThreshold(threshold).withStackTrace();
+    recording.onEvent(EVENT, this::record);
+    recording.startAsync();
+    stream = recording;
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (stream != null) {
+      stream.close();
+    }
+  }
+
+  private void record(RecordedEvent event) {
+    pinned.record(event.getDuration());
+
+    if (LOG.isWarnEnabled()) {
+      String frames = event.getStackTrace() == null ? "<no stack trace>"
+          : event.getStackTrace().getFrames().stream()
+              .limit(LOGGED_FRAMES)
+              .map(VirtualThreadPinningMonitor::describe)
+              .collect(Collectors.joining("\n\tat ", "\n\tat ", ""));
+
+      LOG.warn("Virtual thread '{}' pinned for {} ms{}", event.getThread() == null ? "?" : event.getThread().getJavaName(),
+          event.getDuration().toMillis(), frames);
+    }
+  }
+
+  private static String describe(RecordedFrame frame) {
+    return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+  }
+}
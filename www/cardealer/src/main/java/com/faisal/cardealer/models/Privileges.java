@@ -16,6 +16,7 @@ import jakarta.persistence.Index;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
 @Entity
@@ -25,7 +26,8 @@ import jakarta.persistence.Table;
 })
 public class Privileges {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "privileges_id_seq")
+  @SequenceGenerator(name = "privileges_id_seq", sequenceName = "privileges_id_seq", allocationSize = 50)
   private Long id;
 
   @Column(name = "name", length = 50, nullable = false, unique = true)
@@ -4,10 +4,11 @@ import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.Objects;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.TimeZoneColumn;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -21,24 +22,20 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
-import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 @Entity
-@Table(name = "users", indexes = {
-    @Index(name = "idx_users_username", columnList = "username"),
-    @Index(name = "idx_users_email", columnList = "email"),
-    @Index(name = "idx_users_phone_number", columnList = "phone_number")
-})
+@Table(name = "users")
 public class User implements UserDetails {
   @Id
   @UUIDv7
   @GeneratedValue
-  @Column(name = "id", length = 36, nullable = false)
-  private String id;
+  @Column(name = "id", nullable = false)
+  private UUID id;
 
   @Column(name = "username", length = 100, nullable = false, unique = true)
   private String username;
@@ -46,7 +43,7 @@ public class User implements UserDetails {
   @Column(name = "email", length = 100, nullable = false, unique = true)
   private String email;
 
-  @Column(name = "password", length = 100, nullable = false)
+  @Column(name = "password", length = 255, nullable = false)
   private String password;
 
   @Column(name = "fullname", length = 150, nullable = false)
@@ -59,16 +56,23 @@ public class User implements UserDetails {
   private boolean is_active;
 
   @CreationTimestamp
-  private LocalDateTime created_at;
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private LocalDateTime createdAt;
 
   @UpdateTimestamp
-  private LocalDateTime updated_at;
+  @Column(name = "updated_at")
+  private LocalDateTime updatedAt;
 
-  @TimeZoneColumn(name = "deleted_at")
-  private LocalDateTime deleted_at;
+  @Column(name = "deleted_at", nullable = true)
+  private LocalDateTime deletedAt;
 
-  @Column(name = "deleted_by", length = 36, nullable = true)
-  private String deleted_by;
+  @Column(name = "deleted_by", nullable = true)
+  private UUID deletedBy;
+
+  @Version
+  @ColumnDefault("0")
+  @Column(name = "version", nullable = false)
+  private long version;
 
   @ManyToMany(fetch = FetchType.LAZY, cascade = {
       CascadeType.PERSIST,
@@ -80,7 +84,7 @@ public class User implements UserDetails {
   public User() {
   }
 
-  public User(String id,
+  public User(UUID id,
       String username,
       String email,
       String password,
@@ -90,7 +94,7 @@ public class User implements UserDetails {
       LocalDateTime created_at,
       LocalDateTime updated_at,
       LocalDateTime deleted_at,
-      String deleted_by) {
+      UUID deleted_by) {
     this.id = Objects.requireNonNull(id, "User ID cannot be null");
     this.username = Objects.requireNonNull(username, "Username cannot be null");
     this.email = Objects.requireNonNull(email, "Email cannot be null");
@@ -98,17 +102,17 @@ public class User implements UserDetails {
     this.fullname = Objects.requireNonNull(fullname, "Full name cannot be null");
     this.phone_number = Objects.requireNonNull(phone_number, "Phone number cannot be null");
     this.is_active = is_active;
-    this.created_at = created_at;
-    this.updated_at = updated_at;
-    this.deleted_at = deleted_at;
-    this.deleted_by = deleted_by;
+    this.createdAt = created_at;
+    this.updatedAt = updated_at;
+    this.deletedAt = deleted_at;
+    this.deletedBy = deleted_by;
   }
 
-  public String getId() {
+  public UUID getId() {
     return id;
   }
 
-  public void setId(String id) {
+  public void setId(UUID id) {
     this.id = id;
   }
 
@@ -161,35 +165,43 @@ public class User implements UserDetails {
   }
 
   public LocalDateTime getCreatedAt() {
-    return created_at;
+    return createdAt;
   }
 
   public void setCreatedAt(LocalDateTime created_at) {
-    this.created_at = created_at;
+    this.createdAt = created_at;
   }
 
   public LocalDateTime getUpdatedAt() {
-    return updated_at;
+    return updatedAt;
   }
 
   public void setUpdatedAt(LocalDateTime updated_at) {
-    this.updated_at = updated_at;
+    this.updatedAt = updated_at;
+  }
+
+  public long getVersion() {
+    return version;
+  }
+
+  public void setVersion(long version) {
+    this.version = version;
   }
 
   public LocalDateTime getDeletedAt() {
-    return deleted_at;
+    return deletedAt;
   }
 
   public void setDeletedAt(LocalDateTime deleted_at) {
-    this.deleted_at = deleted_at;
+    this.deletedAt = deleted_at;
   }
 
-  public String getDeletedBy() {
-    return deleted_by;
+  public UUID getDeletedBy() {
+    return deletedBy;
   }
 
-  public void setDeletedBy(String deleted_by) {
-    this.deleted_by = deleted_by;
+  public void setDeletedBy(UUID deleted_by) {
+    this.deletedBy = deleted_by;
   }
 
   public Set<Role> getRoles() {
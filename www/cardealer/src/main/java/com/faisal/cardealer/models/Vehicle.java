@@ -0,0 +1,163 @@
+package com.faisal.cardealer.models;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import com.faisal.cardealer.annotations.UUIDv7;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "vehicles")
+public class Vehicle {
+  @Id
+  @UUIDv7
+  @GeneratedValue
+  @Column(name = "id", nullable = false)
+  private UUID id;
+
+  @Column(name = "vin", length = 17, nullable = false, unique = true)
+  private String vin;
+
+  @Column(name = "make", length = 50, nullable = false)
+  private String make;
+
+  @Column(name = "model", length = 80, nullable = false)
+  private String model;
+
+  @Column(name = "model_year", nullable = false)
+  private short year;
+
+  @Column(name = "price", precision = 12, scale = 2, nullable = false)
+  private BigDecimal price;
+
+  @Column(name = "mileage", nullable = false)
+  private int mileage;
+
+  @Column(name = "body_type", length = 30, nullable = false)
+  private String bodyType;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "status", length = 20, nullable = false)
+  private VehicleStatus status = VehicleStatus.AVAILABLE;
+
+  @CreationTimestamp
+  @Column(name = "created_at", updatable = false)
+  private LocalDateTime createdAt;
+
+  @UpdateTimestamp
+  @Column(name = "updated_at")
+  private LocalDateTime updatedAt;
+
+  @Column(name = "deleted_at", nullable = true)
+  private LocalDateTime deletedAt;
+
+  public Vehicle() {
+  }
+
+  public UUID getId() {
+    return id;
+  }
+
+  public void setId(UUID id) {
+    this.id = id;
+  }
+
+  public String getVin() {
+    return vin;
+  }
+
+  public void setVin(String vin) {
+    this.vin = vin;
+  }
+
+  public String getMake() {
+    return make;
+  }
+
+  public void setMake(String make) {
+    this.make = make;
+  }
+
+  public String getModel() {
+    return model;
+  }
+
+  public void setModel(String model) {
+    this.model = model;
+  }
+
+  public short getYear() {
+    return year;
+  }
+
+  public void setYear(short year) {
+    this.year = year;
+  }
+
+  public BigDecimal getPrice() {
+    return price;
+  }
+
+  public void setPrice(BigDecimal price) {
+    this.price = price;
+  }
+
+  public int getMileage() {
+    return mileage;
+  }
+
+  public void setMileage(int mileage) {
+    this.mileage = mileage;
+  }
+
+  public String getBodyType() {
+    return bodyType;
+  }
+
+  public void setBodyType(String bodyType) {
+    this.bodyType = bodyType;
+  }
+
+  public VehicleStatus getStatus() {
+    return status;
+  }
+
+  public void setStatus(VehicleStatus status) {
+    this.status = status;
+  }
+
+  public LocalDateTime getCreatedAt() {
+    return createdAt;
+  }
+
+  public void setCreatedAt(LocalDateTime createdAt) {
+    this.createdAt = createdAt;
+  }
+
+  public LocalDateTime getUpdatedAt() {
+    return updatedAt;
+  }
+
+  public void setUpdatedAt(LocalDateTime updatedAt) {
+    this.updatedAt = updatedAt;
+  }
+
+  public LocalDateTime getDeletedAt() {
+    return deletedAt;
+  }
+
+  public void setDeletedAt(LocalDateTime deletedAt) {
+    this.deletedAt = deletedAt;
+  }
+}
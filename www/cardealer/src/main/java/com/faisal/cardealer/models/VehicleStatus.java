@@ -0,0 +1,7 @@
+package com.faisal.cardealer.models;
+
+public enum VehicleStatus {
+  AVAILABLE,
+  RESERVED,
+  SOLD
+}
@@ -0,0 +1,73 @@
+package com.faisal.cardealer.ratelimit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Resolves the client address of a request that may have passed through
+ * reverse proxies. The forwarding header, e.g. {@code X-Forwarded-For}, is
+ * only read when the connection comes from a trusted proxy, and is walked
+ * from the right, skipping trusted proxies, so a client cannot choose its own
+ * rate limit key by sending the header itself. Trusted proxies are given as
+ * comma-separated addresses or CIDR ranges.
+ */
+public class ClientAddressResolver {
+  private final @Nullable String header;
+  private final List<IpAddressMatcher> trustedProxies;
+
+  public ClientAddressResolver(@Nullable String header, String trustedProxies) {
+    this.header = header == null || header.isBlank() ? null : header.strip();
+    this.trustedProxies = new ArrayList<>();
+
+    for (String proxy : trustedProxies.split(",")) {
+      if (!proxy.isBlank()) {
+        this.trustedProxies.add(new IpAddressMatcher(proxy.strip()));
+      }
+    }
+  }
+
+  public String resolve(HttpServletRequest request) {
+    String client = request.getRemoteAddr();
+
+    if (header == null || !isTrusted(client)) {
+      return client;
+    }
+
+    var hops = new ArrayList<String>();
+    for (String value : Collections.list(request.getHeaders(header))) {
+      for (String hop : value.split(",")) {
+        if (!hop.isBlank()) {
+          hops.add(hop.strip());
+        }
+      }
+    }
+
+    for (int i = hops.size() - 1; i >= 0; i--) {
+      client = hops.get(i);
+      if (!isTrusted(client)) {
+        break;
+      }
+    }
+    return client;
+  }
+
+  private boolean isTrusted(String address) {
+    for (IpAddressMatcher proxy : trustedProxies) {
+      try {
+        if (proxy.matches(address)) {
+          return true;
+        }
+      } catch (IllegalArgumentException e) {
+        // Not an IP address, e.g. "unknown" or an obfuscated identifier.
+        return false;
+      }
+    }
+    return false;
+  }
+}
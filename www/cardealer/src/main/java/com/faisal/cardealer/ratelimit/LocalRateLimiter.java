@@ -0,0 +1,63 @@
+package com.faisal.cardealer.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * In-process limiter using the generic cell rate algorithm: each key keeps a
+ * single "theoretical arrival time" that is advanced with a CAS, so checks
+ * never lock. Keys are spread over independent Caffeine shards so that hot
+ * keys on one shard do not contend with eviction on the others.
+ */
+public class LocalRateLimiter {
+  private final Cache<String, AtomicLong>[] shards;
+  private final LongSupplier nanoClock;
+
+  public LocalRateLimiter(int shardCount, long maximumKeys, Duration idleTimeout) {
+    this(shardCount, maximumKeys, idleTimeout, System::nanoTime);
+  }
+
+  @SuppressWarnings("unchecked")
+  LocalRateLimiter(int shardCount, long maximumKeys, Duration idleTimeout, LongSupplier nanoClock) {
+    this.shards = new Cache[Math.max(1, shardCount)];
+    this.nanoClock = nanoClock;
+
+    for (int i = 0; i < shards.length; i++) {
+      shards[i] = Caffeine.newBuilder()
+          .maximumSize(Math.max(1, maximumKeys / shards.length))
+          .expireAfterAccess(idleTimeout)
+          .build();
+    }
+  }
+
+  /**
+   * Takes one token for {@code key} under {@code rule}.
+   *
+   * @return 0 if the request is allowed, otherwise the nanoseconds to wait
+   */
+  public long tryAcquire(RateLimitRule rule, String key) {
+    AtomicLong tat = shards[Math.floorMod(key.hashCode(), shards.length)]
+        .get(key, ignored -> new AtomicLong(Long.MIN_VALUE));
+    long interval = rule.emissionIntervalNanos();
+    long tolerance = rule.burstToleranceNanos();
+
+    while (true) {
+      long now = nanoClock.getAsLong();
+      long current = tat.get();
+      long start = current == Long.MIN_VALUE || current - now < 0 ? now : current;
+      long wait = start - now - tolerance;
+
+      if (wait > 0) {
+        return wait;
+      }
+
+      if (tat.compareAndSet(current, start + interval)) {
+        return 0;
+      }
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package com.faisal.cardealer.ratelimit;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A limit of {@code capacity} requests per {@code period} for every key that
+ * hits {@code pattern}. Rules are written as
+ * {@code <pattern>=<ip|principal>:<capacity>/<ISO-8601 period>} and separated
+ * by commas, e.g. {@code /auth/**=ip:10/PT1M,/users/**=principal:100/PT1S}.
+ */
+public record RateLimitRule(String pattern, KeyType keyType, long capacity, Duration period) {
+  public enum KeyType {
+    IP,
+    PRINCIPAL
+  }
+
+  public RateLimitRule {
+    if (capacity < 1 || period.isNegative() || period.isZero()) {
+      throw new IllegalArgumentException("Rate limit for '" + pattern + "' must allow at least one request per period.");
+    }
+  }
+
+  /** Time between two requests at the sustained rate. */
+  public long emissionIntervalNanos() {
+    return Math.max(1, period.toNanos() / capacity);
+  }
+
+  /** How far ahead of now the bucket may run, i.e. the burst size minus one request. */
+  public long burstToleranceNanos() {
+    return emissionIntervalNanos() * (capacity - 1);
+  }
+
+  public static List<RateLimitRule> parse(String spec) {
+    var rules = new ArrayList<RateLimitRule>();
+
+    if (spec == null || spec.isBlank()) {
+      return rules;
+    }
+
+    for (String entry : spec.split(",")) {
+      String trimmed = entry.trim();
+      int equals = trimmed.lastIndexOf('=');
+      int colon = trimmed.indexOf(':', equals);
+      int slash = trimmed.indexOf('/', colon);
+
+      if (equals <= 0 || colon < 0 || slash < 0) {
+        throw new IllegalArgumentException("Invalid rate limit rule '" + trimmed + "'.");
+      }
+
+      rules.add(new RateLimitRule(
+          trimmed.substring(0, equals).trim(),
+          KeyType.valueOf(trimmed.substring(equals + 1, colon).trim().toUpperCase(Locale.ROOT)),
+          Long.parseLong(trimmed.substring(colon + 1, slash).trim()),
+          Duration.parse(trimmed.substring(slash + 1).trim())));
+    }
+    return rules;
+  }
+}
@@ -0,0 +1,40 @@
+package com.faisal.cardealer.ratelimit;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+/**
+ * Cluster-wide counterpart of {@link LocalRateLimiter}. The GCRA state lives
+ * in one Redis key per bucket and is updated atomically by a Lua script, so
+ * every node sees the same budget.
+ */
+public class RedisRateLimiter {
+  private static final String KEY_PREFIX = "ratelimit:";
+
+  private final StringRedisTemplate redisTemplate;
+  private final DefaultRedisScript<Long> script;
+
+  public RedisRateLimiter(StringRedisTemplate redisTemplate) {
+    this.redisTemplate = redisTemplate;
+    this.script = new DefaultRedisScript<>();
+    this.script.setLocation(new ClassPathResource("scripts/rate_limit_gcra.lua"));
+    this.script.setResultType(Long.class);
+  }
+
+  /**
+   * @return 0 if the request is allowed, otherwise the nanoseconds to wait
+   */
+  public long tryAcquire(RateLimitRule rule, String key) {
+    Long waitMs = redisTemplate.execute(
+        script,
+        List.of(KEY_PREFIX + key),
+        Long.toString(Math.max(1, TimeUnit.NANOSECONDS.toMillis(rule.emissionIntervalNanos()))),
+        Long.toString(TimeUnit.NANOSECONDS.toMillis(rule.burstToleranceNanos())));
+
+    return waitMs == null || waitMs <= 0 ? 0 : TimeUnit.MILLISECONDS.toNanos(waitMs);
+  }
+}
@@ -0,0 +1,13 @@
+-- Roles and privileges take ids from their sequences in blocks of 50 so
+-- Hibernate can batch inserts; the increment must match allocationSize.
+ALTER SEQUENCE roles_id_seq INCREMENT BY 50;
+ALTER SEQUENCE privileges_id_seq INCREMENT BY 50;
+
+-- The join tables declared their foreign keys as bigserial, which gave them
+-- unused sequences and defaults. Ids always come from the referenced row.
+ALTER TABLE user_roles ALTER COLUMN role_id DROP DEFAULT;
+ALTER TABLE role_privileges ALTER COLUMN role_id DROP DEFAULT;
+ALTER TABLE role_privileges ALTER COLUMN privilege_id DROP DEFAULT;
+DROP SEQUENCE IF EXISTS user_roles_role_id_seq;
+DROP SEQUENCE IF EXISTS role_privileges_role_id_seq;
+DROP SEQUENCE IF EXISTS role_privileges_privilege_id_seq;
@@ -0,0 +1,24 @@
+-- Privileges behind the /users endpoints. ADMIN and SUPER_ADMIN keep the
+-- access they had through role checks, so both roles are created if the
+-- database has not been seeded with them yet. Role names are compared
+-- case-insensitively, as they are when authorities are built.
+INSERT INTO roles (name, description)
+SELECT v.name, v.description
+FROM (VALUES
+    ('ADMIN', 'Administrator'),
+    ('SUPER_ADMIN', 'Super administrator')) AS v(name, description)
+WHERE NOT EXISTS (SELECT 1 FROM roles r WHERE upper(r.name) = v.name);
+
+INSERT INTO privileges (name, category, description) VALUES
+    ('users:read', 'users', 'View user accounts'),
+    ('users:update', 'users', 'Update user accounts'),
+    ('users:delete', 'users', 'Delete user accounts')
+ON CONFLICT (name) DO NOTHING;
+
+INSERT INTO role_privileges (role_id, privilege_id)
+SELECT r.id, p.id
+FROM roles r
+CROSS JOIN privileges p
+WHERE upper(r.name) IN ('ADMIN', 'SUPER_ADMIN')
+  AND p.name IN ('users:read', 'users:update', 'users:delete')
+ON CONFLICT DO NOTHING;
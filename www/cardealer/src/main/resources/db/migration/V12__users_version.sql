@@ -0,0 +1,3 @@
+-- Optimistic locking: every update bumps the version, and conditional
+-- updates (If-Match) only apply to the version the client last saw.
+ALTER TABLE users ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,23 @@
+-- Soft-deleted rows are only read by the purge job, oldest first. Keeping
+-- them out of every other index means tombstones do not slow active lookups.
+CREATE INDEX idx_users_deleted_at ON users(deleted_at) WHERE deleted_at IS NOT NULL;
+
+-- The UNIQUE constraints already index these columns; the plain copies only
+-- doubled the write and vacuum cost of every row, deleted or not.
+DROP INDEX IF EXISTS idx_users_username;
+DROP INDEX IF EXISTS idx_users_email;
+DROP INDEX IF EXISTS idx_users_phone_number;
+
+-- Purged users, without credentials, for audits after the retention window.
+CREATE TABLE users_archive (
+    id uuid PRIMARY KEY,
+    username VARCHAR(100) NOT NULL,
+    email VARCHAR(100) NOT NULL,
+    fullname VARCHAR(150) NOT NULL,
+    phone_number VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP,
+    deleted_at TIMESTAMP NOT NULL,
+    deleted_by uuid NULL,
+    purged_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
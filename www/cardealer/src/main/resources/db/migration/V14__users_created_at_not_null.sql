@@ -0,0 +1,5 @@
+-- Keyset pagination orders by (created_at, id). A NULL created_at never
+-- compares greater than a cursor, so such rows were skipped, and one at the
+-- end of a page had no cursor to encode. Every insert path sets the column.
+UPDATE users SET created_at = COALESCE(updated_at, CURRENT_TIMESTAMP) WHERE created_at IS NULL;
+ALTER TABLE users ALTER COLUMN created_at SET NOT NULL;
@@ -0,0 +1,43 @@
+-- Privileges behind the /export, /import and /inventory endpoints. Each role
+-- keeps the access it had through role checks, so the roles are created if
+-- the database has not been seeded with them yet. Role names are compared
+-- case-insensitively, as they are when authorities are built.
+INSERT INTO roles (name, description)
+SELECT v.name, v.description
+FROM (VALUES
+    ('SALES', 'Sales'),
+    ('MANAGER', 'Manager'),
+    ('ADMIN', 'Administrator'),
+    ('SUPER_ADMIN', 'Super administrator')) AS v(name, description)
+WHERE NOT EXISTS (SELECT 1 FROM roles r WHERE upper(r.name) = v.name);
+
+INSERT INTO privileges (name, category, description) VALUES
+    ('users:export', 'users', 'Export user accounts'),
+    ('users:import', 'users', 'Import user accounts'),
+    ('inventory:export', 'inventory', 'Export vehicles'),
+    ('inventory:import', 'inventory', 'Import vehicles'),
+    ('inventory:write', 'inventory', 'Create and update vehicles'),
+    ('inventory:delete', 'inventory', 'Delete vehicles')
+ON CONFLICT (name) DO NOTHING;
+
+INSERT INTO role_privileges (role_id, privilege_id)
+SELECT r.id, p.id
+FROM roles r
+JOIN (VALUES
+    ('users:export', 'ADMIN'),
+    ('users:export', 'SUPER_ADMIN'),
+    ('users:import', 'ADMIN'),
+    ('users:import', 'SUPER_ADMIN'),
+    ('inventory:export', 'ADMIN'),
+    ('inventory:export', 'SUPER_ADMIN'),
+    ('inventory:import', 'ADMIN'),
+    ('inventory:import', 'SUPER_ADMIN'),
+    ('inventory:write', 'SALES'),
+    ('inventory:write', 'MANAGER'),
+    ('inventory:write', 'ADMIN'),
+    ('inventory:write', 'SUPER_ADMIN'),
+    ('inventory:delete', 'MANAGER'),
+    ('inventory:delete', 'ADMIN'),
+    ('inventory:delete', 'SUPER_ADMIN')) AS g(privilege, role) ON upper(r.name) = g.role
+JOIN privileges p ON p.name = g.privilege
+ON CONFLICT DO NOTHING;
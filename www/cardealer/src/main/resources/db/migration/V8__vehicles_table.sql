@@ -0,0 +1,29 @@
+CREATE TABLE vehicles (
+    id uuid PRIMARY KEY,
+    vin VARCHAR(17) UNIQUE NOT NULL,
+    make VARCHAR(50) NOT NULL,
+    model VARCHAR(80) NOT NULL,
+    model_year SMALLINT NOT NULL,
+    price NUMERIC(12, 2) NOT NULL,
+    mileage INTEGER NOT NULL,
+    body_type VARCHAR(30) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'AVAILABLE',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    deleted_at TIMESTAMP NULL
+);
+
+-- Search only ever reads listed stock, so every search index is partial on it.
+-- Each index ends with id so keyset pagination can continue from (sort value, id).
+CREATE INDEX idx_vehicles_listed_make_model_price ON vehicles(make, model, price, id)
+    WHERE status = 'AVAILABLE' AND deleted_at IS NULL;
+CREATE INDEX idx_vehicles_listed_body_type_price ON vehicles(body_type, price, id)
+    WHERE status = 'AVAILABLE' AND deleted_at IS NULL;
+CREATE INDEX idx_vehicles_listed_price ON vehicles(price, id)
+    WHERE status = 'AVAILABLE' AND deleted_at IS NULL;
+CREATE INDEX idx_vehicles_listed_model_year ON vehicles(model_year, id)
+    WHERE status = 'AVAILABLE' AND deleted_at IS NULL;
+CREATE INDEX idx_vehicles_listed_mileage ON vehicles(mileage, id)
+    WHERE status = 'AVAILABLE' AND deleted_at IS NULL;
+CREATE INDEX idx_vehicles_listed_created_at ON vehicles(created_at, id)
+    WHERE status = 'AVAILABLE' AND deleted_at IS NULL;
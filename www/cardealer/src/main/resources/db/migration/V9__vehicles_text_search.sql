@@ -0,0 +1,22 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- The 'simple' configuration does no stemming, which suits make and model
+-- names; weights rank make/model hits above year and body type hits.
+ALTER TABLE vehicles
+    ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', make), 'A') ||
+        setweight(to_tsvector('simple', model), 'A') ||
+        setweight(to_tsvector('simple', model_year::text), 'B') ||
+        setweight(to_tsvector('simple', body_type), 'C')
+    ) STORED;
+
+-- Lower-cased text for typo-tolerant trigram matching.
+ALTER TABLE vehicles
+    ADD COLUMN search_text TEXT GENERATED ALWAYS AS (
+        lower(make || ' ' || model || ' ' || model_year::text || ' ' || body_type)
+    ) STORED;
+
+CREATE INDEX idx_vehicles_listed_search_vector ON vehicles USING GIN (search_vector)
+    WHERE status = 'AVAILABLE' AND deleted_at IS NULL;
+CREATE INDEX idx_vehicles_listed_search_text_trgm ON vehicles USING GIN (search_text gin_trgm_ops)
+    WHERE status = 'AVAILABLE' AND deleted_at IS NULL;
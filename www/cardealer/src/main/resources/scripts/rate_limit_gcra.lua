@@ -0,0 +1,23 @@
+-- GCRA check shared by all nodes.
+-- KEYS[1]  bucket key
+-- ARGV[1]  emission interval (ms)
+-- ARGV[2]  burst tolerance (ms)
+-- Returns 0 when allowed, otherwise the milliseconds to wait.
+local now = redis.call('TIME')
+local now_ms = tonumber(now[1]) * 1000 + math.floor(tonumber(now[2]) / 1000)
+local interval = tonumber(ARGV[1])
+local tolerance = tonumber(ARGV[2])
+
+local tat = tonumber(redis.call('GET', KEYS[1]))
+if tat == nil or tat < now_ms then
+  tat = now_ms
+end
+
+local wait = tat - now_ms - tolerance
+if wait > 0 then
+  return wait
+end
+
+local next_tat = tat + interval
+redis.call('SET', KEYS[1], next_tat, 'PX', next_tat - now_ms)
+return 0
@@ -0,0 +1,73 @@
+package com.faisal.cardealer.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+class TwoTierCacheTests {
+  private final TwoTierCache<String> cache = new TwoTierCacheManager(null, null)
+      .create("test", new StringCodec(), 100, Duration.ofMinutes(5));
+
+  @Test
+  void cachesLoadedValues() {
+    var loads = new AtomicInteger();
+
+    cache.get("key", () -> Optional.of("v" + loads.incrementAndGet()));
+
+    assertThat(cache.get("key", () -> Optional.of("v" + loads.incrementAndGet()))).contains("v1");
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  void loadOverlappingAnEvictionIsNotWrittenBack() throws Exception {
+    var row = new AtomicReference<>("old");
+    var loading = new CountDownLatch(1);
+    var evicted = new CountDownLatch(1);
+
+    CompletableFuture<Optional<String>> slowRead = CompletableFuture.supplyAsync(() -> cache.get("key", () -> {
+      String value = row.get();
+      loading.countDown();
+      await(evicted);
+      return Optional.of(value);
+    }));
+
+    await(loading);
+    row.set("new");
+    cache.evict("key");
+    evicted.countDown();
+
+    assertThat(slowRead.get(5, TimeUnit.SECONDS)).contains("old");
+    assertThat(cache.getLocalCache().getIfPresent("key")).isNull();
+    assertThat(cache.get("key", () -> Optional.of(row.get()))).contains("new");
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static final class StringCodec implements CacheCodec<String> {
+    @Override
+    public byte[] encode(String value) {
+      return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String decode(byte[] bytes) {
+      return new String(bytes, StandardCharsets.UTF_8);
+    }
+  }
+}
@@ -0,0 +1,142 @@
+package com.faisal.cardealer.features.auth.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import com.faisal.cardealer.cache.TwoTierCacheManager;
+import com.faisal.cardealer.configuration.ApplicationConfig;
+import com.faisal.cardealer.features.auth.dto.LoginRequestDto;
+import com.faisal.cardealer.features.auth.dto.RegisterRequestDto;
+import com.faisal.cardealer.features.roles.repositories.RoleRepository;
+import com.faisal.cardealer.features.roles.services.RoleCacheService;
+import com.faisal.cardealer.features.users.controllers.UserController;
+import com.faisal.cardealer.features.users.dto.UpdateUserRequestDto;
+import com.faisal.cardealer.features.users.repositories.UserRepository;
+import com.faisal.cardealer.features.users.services.UserCacheService;
+import com.faisal.cardealer.features.users.services.UserService;
+import com.faisal.cardealer.handlers.JwtAuthHandler;
+import com.faisal.cardealer.handlers.PrincipalEpochStore;
+import com.faisal.cardealer.models.Role;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import({ UserService.class, UserCacheService.class, TwoTierCacheManager.class, PrincipalEpochStore.class })
+class AuthServicePostgresTests {
+
+  @Container
+  @ServiceConnection
+  static final PostgreSQLContainer POSTGRES = new PostgreSQLContainer("postgres:17-alpine");
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private RoleRepository roleRepository;
+
+  @Autowired
+  private UserCacheService userCacheService;
+
+  @Autowired
+  private UserService userService;
+
+  @Autowired
+  private PrincipalEpochStore principalEpochStore;
+
+  @Autowired
+  private JdbcClient jdbcClient;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private PasswordHashingService passwordHashingService;
+  private AuthService authService;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    var generator = KeyPairGenerator.getInstance("RSA");
+    generator.initialize(2048);
+    var keyPair = generator.generateKeyPair();
+    var jwtAuthHandler = new JwtAuthHandler(
+        (RSAPrivateKey) keyPair.getPrivate(), (RSAPublicKey) keyPair.getPublic(), 60_000, 120_000,
+        principalEpochStore);
+
+    passwordHashingService = new PasswordHashingService(
+        new ApplicationConfig(null).passwordEncoder("argon2", 4, 16, 32, 1, 1024, 1),
+        null, 1, 4, Duration.ofSeconds(5), Duration.ofSeconds(1));
+    authService = new AuthService(
+        userRepository,
+        roleRepository,
+        new RoleCacheService(roleRepository, new TwoTierCacheManager(null, null), 10, Duration.ofMinutes(1)),
+        userCacheService,
+        passwordHashingService,
+        new RefreshTokenService(jwtAuthHandler, new InMemoryRefreshTokenStore(), 120_000),
+        principalEpochStore,
+        transactionManager);
+  }
+
+  @AfterEach
+  void tearDown() {
+    passwordHashingService.shutdown();
+  }
+
+  @Test
+  void upgradingALegacyHashOnLoginKeepsTheETagValid() {
+    UUID id = UUID.randomUUID();
+    String legacy = new BCryptPasswordEncoder(4).encode("Secret123");
+    jdbcClient.sql("INSERT INTO users (id, username, email, password, fullname, phone_number)"
+        + " VALUES (:id, 'alice', 'alice@example.com', :password, 'Alice', '081234567801')")
+        .param("id", id)
+        .param("password", legacy)
+        .update();
+    String etag = userService.getUserVersion(id).etag();
+
+    authService.login(new LoginRequestDto("alice@example.com", "Secret123"));
+
+    assertThat(jdbcClient.sql("SELECT password FROM users WHERE id = :id").param("id", id)
+        .query(String.class).single()).startsWith("{argon2}");
+    assertThat(userRepository.findActiveVersionById(id).orElseThrow().etag()).isEqualTo(etag);
+    assertThat(userService.getUserVersion(id).etag()).isEqualTo(etag);
+
+    var response = new UserController(userService, null, true)
+        .updateUser(id, etag, new UpdateUserRequestDto("Alice Smith", null));
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getHeaders().getFirst(HttpHeaders.ETAG)).isNotEqualTo(etag);
+  }
+
+  @Test
+  void registerStoresTheHashedPasswordAndDefaultRole() {
+    jdbcClient.sql("INSERT INTO roles (id, name, description) VALUES (901, 'USER', 'Default role')").update();
+
+    var response = authService.register(
+        new RegisterRequestDto("bob", "bob@example.com", "Secret123", "Bob", "081234567802"));
+
+    assertThat(response.tokens()).containsKeys("access_token", "refresh_token");
+    var user = userRepository.findActiveByEmail("bob@example.com").orElseThrow();
+    assertThat(user.getPassword()).startsWith("{argon2}");
+    assertThat(user.getRoles()).extracting(Role::getName).containsExactly("USER");
+  }
+}
@@ -0,0 +1,118 @@
+package com.faisal.cardealer.features.auth.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.faisal.cardealer.configuration.ApplicationConfig;
+import com.faisal.cardealer.exceptions.ServiceUnavailableException;
+
+class PasswordHashingServiceTests {
+  @Test
+  void rejectsWithRetryAfterWhenQueueIsFull() throws Exception {
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    var service = new PasswordHashingService(
+        new BlockingEncoder(started, release), null, 1, 1, Duration.ofSeconds(5), Duration.ofSeconds(2));
+
+    try {
+      var running = CompletableFuture.supplyAsync(() -> service.encode("first"));
+      assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+      var queued = CompletableFuture.supplyAsync(() -> service.encode("second"));
+      awaitQueued(service);
+
+      assertThatThrownBy(() -> service.encode("third"))
+          .isInstanceOfSatisfying(ServiceUnavailableException.class, e -> assertThat(
+              e.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2"));
+
+      release.countDown();
+      assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+      assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("second");
+      assertThat(service.getMeterRegistry().get("auth.password.hashing.rejected").counter().count()).isEqualTo(1);
+      assertThat(service.getMeterRegistry().get("auth.password.hashing").tag("operation", "encode").timer().count())
+          .isEqualTo(2);
+    } finally {
+      release.countDown();
+      service.shutdown();
+    }
+  }
+
+  @Test
+  void countsTimeoutsApartFromRejections() throws Exception {
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    var service = new PasswordHashingService(
+        new BlockingEncoder(started, release), null, 1, 1, Duration.ofMillis(50), Duration.ofSeconds(2));
+
+    try {
+      assertThatThrownBy(() -> service.encode("slow"))
+          .isInstanceOfSatisfying(ServiceUnavailableException.class, e -> assertThat(
+              e.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2"));
+
+      assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+      assertThat(service.getMeterRegistry().get("auth.password.hashing.timeout").tag("operation", "encode")
+          .counter().count()).isEqualTo(1);
+      assertThat(service.getMeterRegistry().find("auth.password.hashing.rejected").counter()).isNull();
+    } finally {
+      release.countDown();
+      service.shutdown();
+    }
+  }
+
+  @Test
+  void legacyBcryptHashesVerifyAndAreUpgradedToConfiguredAlgorithm() {
+    PasswordEncoder encoder = new ApplicationConfig(null).passwordEncoder("argon2", 4, 16, 32, 1, 1024, 1);
+    var service = new PasswordHashingService(encoder, null, 1, 4, Duration.ofSeconds(5), Duration.ofSeconds(1));
+
+    try {
+      String legacy = new BCryptPasswordEncoder(4).encode("secret");
+
+      assertThat(service.matches("secret", legacy)).isTrue();
+      assertThat(service.needsUpgrade(legacy)).isTrue();
+
+      String upgraded = service.encode("secret");
+
+      assertThat(upgraded).startsWith("{argon2}");
+      assertThat(service.matches("secret", upgraded)).isTrue();
+      assertThat(service.needsUpgrade(upgraded)).isFalse();
+    } finally {
+      service.shutdown();
+    }
+  }
+
+  private static void awaitQueued(PasswordHashingService service) throws InterruptedException {
+    for (int i = 0; i < 500; i++) {
+      if (service.getMeterRegistry().get("executor.queued").gauge().value() >= 1) {
+        return;
+      }
+      Thread.sleep(10);
+    }
+  }
+
+  private record BlockingEncoder(CountDownLatch started, CountDownLatch release) implements PasswordEncoder {
+    @Override
+    public String encode(CharSequence rawPassword) {
+      started.countDown();
+      try {
+        release.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return rawPassword.toString();
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+      return rawPassword.toString().equals(encodedPassword);
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package com.faisal.cardealer.features.auth.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.faisal.cardealer.exceptions.UnauthorizedException;
+import com.faisal.cardealer.handlers.JwtAuthHandler;
+import com.faisal.cardealer.handlers.PrincipalEpochStore;
+import com.faisal.cardealer.models.User;
+
+class RefreshTokenServiceTests {
+  private JwtAuthHandler jwtAuthHandler;
+  private RefreshTokenService refreshTokenService;
+  private User user;
+  private Function<UUID, Optional<User>> userLoader;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+    generator.initialize(2048);
+    KeyPair keyPair = generator.generateKeyPair();
+
+    jwtAuthHandler = new JwtAuthHandler(
+        (RSAPrivateKey) keyPair.getPrivate(), (RSAPublicKey) keyPair.getPublic(), 60_000, 120_000,
+        new PrincipalEpochStore(null, 1_000, Duration.ofMinutes(5)));
+    refreshTokenService = new RefreshTokenService(jwtAuthHandler, new InMemoryRefreshTokenStore(), 120_000);
+
+    user = new User();
+    user.setId(UUID.fromString("0190f5c4-7b3a-7000-8000-000000000002"));
+    user.setEmail("john@example.com");
+    user.setFullname("John Doe");
+    user.setRoles(Set.of());
+    userLoader = id -> id.equals(user.getId()) ? Optional.of(user) : Optional.empty();
+  }
+
+  @Test
+  void rotatesRefreshTokenOnce() {
+    var issued = refreshTokenService.issue(user);
+    var rotated = refreshTokenService.rotate(issued.refreshToken(), userLoader);
+
+    assertThat(rotated.refreshToken()).isNotEqualTo(issued.refreshToken());
+    assertThat(jwtAuthHandler.extractUserId(jwtAuthHandler.decodeToken(rotated.refreshToken())))
+        .isEqualTo(user.getId());
+    assertThat(refreshTokenService.rotate(rotated.refreshToken(), userLoader)).isNotNull();
+  }
+
+  @Test
+  void reusingARotatedTokenRevokesTheWholeFamily() {
+    var issued = refreshTokenService.issue(user);
+    var rotated = refreshTokenService.rotate(issued.refreshToken(), userLoader);
+
+    assertThatThrownBy(() -> refreshTokenService.rotate(issued.refreshToken(), userLoader))
+        .isInstanceOf(UnauthorizedException.class);
+    assertThatThrownBy(() -> refreshTokenService.rotate(rotated.refreshToken(), userLoader))
+        .isInstanceOf(UnauthorizedException.class);
+
+    var otherLogin = refreshTokenService.issue(user);
+    assertThat(refreshTokenService.rotate(otherLogin.refreshToken(), userLoader)).isNotNull();
+  }
+
+  @Test
+  void revokeAllInvalidatesEveryFamily() {
+    var first = refreshTokenService.issue(user);
+    var second = refreshTokenService.issue(user);
+
+    refreshTokenService.revokeAll(user.getId());
+
+    assertThatThrownBy(() -> refreshTokenService.rotate(first.refreshToken(), userLoader))
+        .isInstanceOf(UnauthorizedException.class);
+    assertThatThrownBy(() -> refreshTokenService.rotate(second.refreshToken(), userLoader))
+        .isInstanceOf(UnauthorizedException.class);
+    assertThat(refreshTokenService.rotate(refreshTokenService.issue(user).refreshToken(), userLoader)).isNotNull();
+  }
+
+  @Test
+  void accessTokensAreNotAcceptedAsRefreshTokens() {
+    var issued = refreshTokenService.issue(user);
+
+    assertThatThrownBy(() -> refreshTokenService.rotate(issued.accessToken(), userLoader))
+        .isInstanceOf(UnauthorizedException.class);
+  }
+}
@@ -0,0 +1,64 @@
+package com.faisal.cardealer.features.export.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.BiConsumer;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import com.faisal.cardealer.features.export.dto.ExportFormat;
+
+class ExportControllerTests {
+  private static final String ROW = "vin,make,model\n";
+
+  @Test
+  void completedExportIsAWholeGzipMember() throws IOException {
+    var out = new ByteArrayOutputStream();
+
+    ExportController.write(ExportFormat.CSV, out, true, rows(1_000, false));
+
+    try (var in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+      assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(ROW.repeat(1_000));
+    }
+  }
+
+  @Test
+  void cursorFailureMidwayLeavesNoGzipTrailer() {
+    var out = new ByteArrayOutputStream();
+
+    assertThatThrownBy(() -> ExportController.write(ExportFormat.CSV, out, true, rows(20_000, true)))
+        .isInstanceOf(QueryTimeoutException.class);
+
+    assertThatThrownBy(() -> {
+      try (var in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+        in.readAllBytes();
+      }
+    }).isInstanceOf(EOFException.class);
+  }
+
+  private static BiConsumer<ExportFormat, OutputStream> rows(int count, boolean failHalfway) {
+    return (format, out) -> {
+      try {
+        for (int i = 0; i < count; i++) {
+          if (failHalfway && i == count / 2) {
+            out.flush();
+            throw new QueryTimeoutException("Cursor timed out.");
+          }
+          out.write(ROW.getBytes(StandardCharsets.UTF_8));
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    };
+  }
+}
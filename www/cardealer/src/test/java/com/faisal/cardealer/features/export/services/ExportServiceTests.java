@@ -0,0 +1,86 @@
+package com.faisal.cardealer.features.export.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.faisal.cardealer.features.export.dto.ExportFormat;
+import com.faisal.cardealer.models.Vehicle;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "export.fetch-size=2"
+})
+@Import(ExportService.class)
+class ExportServiceTests {
+
+  @Autowired
+  private ExportService exportService;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @BeforeEach
+  void setUp() {
+    String[] models = { "Camry, \"Hybrid\"", "=HYPERLINK(\"x\")", "Yaris" };
+
+    for (int i = 0; i < models.length; i++) {
+      var vehicle = new Vehicle();
+      vehicle.setVin(String.format("VIN%014d", i));
+      vehicle.setMake("Toyota");
+      vehicle.setModel(models[i]);
+      vehicle.setYear((short) 2019);
+      vehicle.setPrice(new BigDecimal("250000000.50"));
+      vehicle.setMileage(1_000 * i);
+      vehicle.setBodyType("SEDAN");
+      entityManager.persist(vehicle);
+    }
+
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @Test
+  void writesQuotedCsvWithHeader() {
+    var out = new ByteArrayOutputStream();
+
+    long rows = exportService.exportVehicles(ExportFormat.CSV, out);
+    String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+
+    assertThat(rows).isEqualTo(3);
+    assertThat(lines).hasSize(4);
+    assertThat(lines[0]).isEqualToIgnoringCase(
+        "id,vin,make,model,model_year,price,mileage,body_type,status,created_at,updated_at");
+    assertThat(String.join("\n", lines))
+        .contains(",\"Camry, \"\"Hybrid\"\"\",")
+        .contains(",\"'=HYPERLINK(\"\"x\"\")\",")
+        .contains(",250000000.50,");
+  }
+
+  @Test
+  void writesOneJsonObjectPerLine() {
+    var out = new ByteArrayOutputStream();
+
+    long rows = exportService.exportVehicles(ExportFormat.NDJSON, out);
+    String body = out.toString(StandardCharsets.UTF_8);
+
+    assertThat(rows).isEqualTo(3);
+    assertThat(body).endsWith("}\n");
+    assertThat(body.split("\n")).hasSize(3).allSatisfy(line -> assertThat(line)
+        .startsWith("{")
+        .endsWith("}")
+        .containsIgnoringCase("\"make\":\"Toyota\"")
+        .containsIgnoringCase("\"price\":250000000.50"));
+  }
+}
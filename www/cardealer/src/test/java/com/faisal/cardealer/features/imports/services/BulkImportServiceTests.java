@@ -0,0 +1,155 @@
+package com.faisal.cardealer.features.imports.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.faisal.cardealer.cache.TwoTierCacheManager;
+import com.faisal.cardealer.features.imports.dto.ImportErrorDto;
+import com.faisal.cardealer.features.imports.dto.ImportJobDto;
+import com.faisal.cardealer.features.imports.dto.ImportStatus;
+import com.faisal.cardealer.features.roles.repositories.RoleRepository;
+import com.faisal.cardealer.features.roles.services.RoleCacheService;
+import com.faisal.cardealer.features.search.services.InventoryFacetService;
+
+import jakarta.validation.Validation;
+
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BulkImportServiceTests {
+  private static final String HEADER = "username,email,password,full_name,phone_number\n";
+
+  @Autowired
+  private DataSource dataSource;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private RoleRepository roleRepository;
+
+  @TempDir
+  private Path directory;
+
+  private JdbcClient jdbcClient;
+  private BulkImportService importService;
+
+  @BeforeEach
+  void setUp() {
+    jdbcClient = JdbcClient.create(dataSource);
+    jdbcClient.sql("INSERT INTO roles (id, name, description) VALUES (1, 'USER', 'Default role')").update();
+    jdbcClient.sql("INSERT INTO users (id, username, email, password, fullname, phone_number, is_active, created_at)"
+        + " VALUES (:id, 'taken', 'taken@example.com', 'secret', 'Taken', '081234567800', TRUE, CURRENT_TIMESTAMP)")
+        .param("id", UUID.randomUUID())
+        .update();
+
+    var roleCacheService = new RoleCacheService(
+        roleRepository, new TwoTierCacheManager(null, null), 10, Duration.ofMinutes(1));
+    importService = new BulkImportService(
+        jdbcClient,
+        dataSource,
+        transactionManager,
+        Validation.buildDefaultValidatorFactory().getValidator(),
+        new BCryptPasswordEncoder(4),
+        roleCacheService,
+        new InventoryFacetService(jdbcClient, null, null, null),
+        500, 100, 2, 1, 4, Duration.ofMinutes(1));
+  }
+
+  @AfterEach
+  void tearDown() {
+    importService.shutdown();
+    jdbcClient.sql("ALTER TABLE users DROP CONSTRAINT IF EXISTS users_blocked_username").update();
+    jdbcClient.sql("DELETE FROM user_roles").update();
+    jdbcClient.sql("DELETE FROM users").update();
+    jdbcClient.sql("DELETE FROM roles").update();
+  }
+
+  @Test
+  void rejectsInvalidAndDuplicateRowsAndImportsTheRest() throws Exception {
+    ImportJobDto job = awaitCompletion(importService.importUsers(csv(HEADER
+        + "alice,alice@example.com,Secret123,Alice,081234567801\n"
+        + "x,not-an-email,short,Bob,123\n"
+        + "taken,someone@example.com,Secret123,Someone,081234567803\n"
+        + "carol,alice@example.com,Secret123,Carol,081234567804\n"
+        + "carol,carol@example.com,Secret123,Carol,081234567805\n"
+        + "dave,dave@example.com,Secret123,Dave,081234567800\n")));
+
+    assertThat(job.status()).isEqualTo(ImportStatus.COMPLETED);
+    assertThat(job.processed()).isEqualTo(6);
+    assertThat(job.imported()).isEqualTo(2);
+    assertThat(job.failed()).isEqualTo(4);
+    assertThat(job.errors()).extracting(ImportErrorDto::line).containsExactlyInAnyOrder(3L, 4L, 5L, 7L);
+    assertThat(job.errors()).filteredOn(error -> error.line() == 3)
+        .singleElement()
+        .satisfies(error -> assertThat(error.message()).contains("Username", "Email", "Password", "Phone number"));
+    assertThat(job.errors()).filteredOn(error -> error.line() != 3).extracting(ImportErrorDto::message)
+        .containsExactlyInAnyOrder(
+            "Username 'taken' is already taken.",
+            "Email 'alice@example.com' is already registered.",
+            "Phone number '081234567800' is already registered.");
+
+    assertThat(usernames()).containsExactlyInAnyOrder("taken", "alice", "carol");
+    assertThat(jdbcClient.sql("SELECT COUNT(*) FROM user_roles WHERE role_id = 1").query(Long.class).single())
+        .isEqualTo(2);
+  }
+
+  @Test
+  void retriesRowByRowWhenTheBatchHitsAConflict() throws Exception {
+    // Stands in for a concurrent writer taking a key after the duplicate check.
+    jdbcClient.sql("ALTER TABLE users ADD CONSTRAINT users_blocked_username CHECK (username <> 'blocked')")
+        .update();
+
+    ImportJobDto job = awaitCompletion(importService.importUsers(csv(HEADER
+        + "alice,alice@example.com,Secret123,Alice,081234567801\n"
+        + "blocked,blocked@example.com,Secret123,Blocked,081234567802\n"
+        + "carol,carol@example.com,Secret123,Carol,081234567803\n")));
+
+    assertThat(job.status()).isEqualTo(ImportStatus.COMPLETED);
+    assertThat(job.imported()).isEqualTo(2);
+    assertThat(job.failed()).isEqualTo(1);
+    assertThat(job.errors()).containsExactly(new ImportErrorDto(3, "Conflicts with an existing user."));
+    assertThat(usernames()).containsExactlyInAnyOrder("taken", "alice", "carol");
+  }
+
+  private Path csv(String content) throws IOException {
+    return Files.writeString(directory.resolve(UUID.randomUUID() + ".csv"), content);
+  }
+
+  private ImportJobDto awaitCompletion(ImportJobDto job) throws InterruptedException {
+    long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+    ImportJobDto current = job;
+    while (current.status() == ImportStatus.QUEUED || current.status() == ImportStatus.RUNNING) {
+      assertThat(System.nanoTime()).as("import job finished in time").isLessThan(deadline);
+      Thread.sleep(20);
+      current = importService.findJob(job.id()).orElseThrow();
+    }
+    return current;
+  }
+
+  private List<String> usernames() {
+    return jdbcClient.sql("SELECT username FROM users").query(String.class).list();
+  }
+}
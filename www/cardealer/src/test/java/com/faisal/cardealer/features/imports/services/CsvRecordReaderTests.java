@@ -0,0 +1,46 @@
+package com.faisal.cardealer.features.imports.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+class CsvRecordReaderTests {
+
+  @Test
+  void readsQuotedFieldsAndTracksRecordLines() throws IOException {
+    String csv = "vin,model\r\n"
+        + "\r\n"
+        + "A1,\"Camry, \"\"Hybrid\"\"\"\r\n"
+        + "A2,\"two\nlines\"\n"
+        + "A3,";
+
+    try (var reader = new CsvRecordReader(new StringReader(csv))) {
+      assertThat(reader.next()).containsExactly("vin", "model");
+      assertThat(reader.line()).isEqualTo(1);
+
+      assertThat(reader.next()).containsExactly("A1", "Camry, \"Hybrid\"");
+      assertThat(reader.line()).isEqualTo(3);
+
+      assertThat(reader.next()).containsExactly("A2", "two\nlines");
+      assertThat(reader.line()).isEqualTo(4);
+
+      assertThat(reader.next()).containsExactly("A3", "");
+      assertThat(reader.line()).isEqualTo(6);
+
+      assertThat(reader.next()).isNull();
+    }
+  }
+
+  @Test
+  void rejectsUnterminatedQuote() {
+    var reader = new CsvRecordReader(new StringReader("a,\"open\nstill open"));
+
+    assertThatThrownBy(reader::next)
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("line 1");
+  }
+}
@@ -0,0 +1,78 @@
+package com.faisal.cardealer.features.roles.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+import com.faisal.cardealer.annotations.RequiresPrivilege;
+import com.faisal.cardealer.handlers.JwtPrincipal;
+
+class PrivilegeAuthorizationManagerTests {
+  private final AtomicReference<RbacSnapshot> snapshot = new AtomicReference<>(new RbacSnapshot(1, Map.of(
+      "ADMIN", List.of("users:read", "users:update", "users:delete"),
+      "SUPPORT", List.of("users:read"))));
+  private final PrivilegeAuthorizationManager manager = new PrivilegeAuthorizationManager(snapshot::get, null);
+
+  @Test
+  void grantsWhenAnyRoleHoldsThePrivilege() throws Exception {
+    assertThat(authorize("SUPPORT", "read")).isTrue();
+    assertThat(authorize("SUPPORT", "delete")).isFalse();
+    assertThat(authorize("ADMIN", "delete")).isTrue();
+    assertThat(authorize("USER", "read")).isFalse();
+  }
+
+  @Test
+  void requiresEveryPrivilegeWhenAllIsSet() throws Exception {
+    assertThat(authorize("ADMIN", "readAndDelete")).isTrue();
+    assertThat(authorize("SUPPORT", "readAndDelete")).isFalse();
+  }
+
+  @Test
+  void fallsBackToClassLevelRuleAndFollowsSnapshotSwaps() throws Exception {
+    assertThat(authorize("SUPPORT", "inherited")).isTrue();
+
+    snapshot.set(new RbacSnapshot(2, Map.of("SUPPORT", List.of("users:update"))));
+
+    assertThat(authorize("SUPPORT", "inherited")).isFalse();
+    assertThat(authorize("SUPPORT", "update")).isTrue();
+  }
+
+  private boolean authorize(String role, String method) throws Exception {
+    var invocation = new SimpleMethodInvocation(new Endpoints(), Endpoints.class.getMethod(method));
+    var principal = new JwtPrincipal(UUID.randomUUID(), "jane@example.com", "Jane", List.of(role), Set.of());
+    Authentication authentication = UsernamePasswordAuthenticationToken.authenticated(principal, null, Set.of());
+
+    return manager.authorize(() -> authentication, invocation).isGranted();
+  }
+
+  @RequiresPrivilege("users:read")
+  static class Endpoints {
+    public void inherited() {
+    }
+
+    @RequiresPrivilege("users:read")
+    public void read() {
+    }
+
+    @RequiresPrivilege("users:update")
+    public void update() {
+    }
+
+    @RequiresPrivilege("users:delete")
+    public void delete() {
+    }
+
+    @RequiresPrivilege(value = { "users:read", "users:delete" }, all = true)
+    public void readAndDelete() {
+    }
+  }
+}
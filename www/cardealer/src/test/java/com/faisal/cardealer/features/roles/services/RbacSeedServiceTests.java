@@ -0,0 +1,111 @@
+package com.faisal.cardealer.features.roles.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.faisal.cardealer.features.roles.dto.PrivilegeDefinitionDto;
+import com.faisal.cardealer.features.roles.dto.RoleDefinitionDto;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+    "spring.jpa.properties.hibernate.order_inserts=true",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(RbacSeedService.class)
+class RbacSeedServiceTests {
+  private static final int PRIVILEGES = 200;
+  private static final int ROLES = 100;
+  private static final int GRANTS_PER_ROLE = 10;
+
+  @Autowired
+  private RbacSeedService rbacSeedService;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+  }
+
+  @Test
+  void seedsGraphInBatches() {
+    var result = rbacSeedService.seed(privileges(), roles());
+
+    assertThat(result.privileges()).isEqualTo(PRIVILEGES);
+    assertThat(result.roles()).isEqualTo(ROLES);
+    assertThat(result.grants()).isEqualTo(ROLES * GRANTS_PER_ROLE);
+    assertThat(count("SELECT COUNT(*) FROM role_privileges")).isEqualTo(ROLES * GRANTS_PER_ROLE);
+
+    // One statement per batch instead of one per row: 1,300 rows in well under 100 statements.
+    assertThat(statistics.getEntityInsertCount()).isEqualTo(PRIVILEGES + ROLES);
+    assertThat(statistics.getPrepareStatementCount()).isLessThan(100);
+  }
+
+  @Test
+  void skipsExistingPrivilegesAndRoles() {
+    rbacSeedService.seed(privileges(), roles());
+
+    var result = rbacSeedService.seed(privileges(), roles());
+
+    assertThat(result.privileges()).isZero();
+    assertThat(result.roles()).isZero();
+    assertThat(count("SELECT COUNT(*) FROM roles")).isEqualTo(ROLES);
+  }
+
+  @Test
+  void matchesExistingRolesIgnoringCase() {
+    var privilege = new PrivilegeDefinitionDto("users:read", "users", "Read users");
+    rbacSeedService.seed(List.of(privilege), List.of(new RoleDefinitionDto("admin", "Admin", Set.of("users:read"))));
+
+    var result = rbacSeedService.seed(List.of(privilege), List.of(
+        new RoleDefinitionDto("ADMIN", "Admin", Set.of("users:read")),
+        new RoleDefinitionDto("Sales", "Sales", Set.of("users:read")),
+        new RoleDefinitionDto("SALES", "Sales", Set.of("users:read"))));
+
+    assertThat(result.roles()).isEqualTo(1);
+    assertThat(count("SELECT COUNT(*) FROM roles")).isEqualTo(2);
+  }
+
+  private long count(String sql) {
+    return ((Number) entityManager.createNativeQuery(sql).getSingleResult()).longValue();
+  }
+
+  private static List<PrivilegeDefinitionDto> privileges() {
+    return IntStream.range(0, PRIVILEGES)
+        .mapToObj(i -> new PrivilegeDefinitionDto("privilege." + i, "category." + i % 10, "Privilege " + i))
+        .toList();
+  }
+
+  private static List<RoleDefinitionDto> roles() {
+    return IntStream.range(0, ROLES)
+        .mapToObj(i -> new RoleDefinitionDto("ROLE_" + i, "Role " + i, IntStream.range(0, GRANTS_PER_ROLE)
+            .mapToObj(j -> "privilege." + (i + j * 17) % PRIVILEGES)
+            .collect(Collectors.toCollection(LinkedHashSet::new))))
+        .toList();
+  }
+}
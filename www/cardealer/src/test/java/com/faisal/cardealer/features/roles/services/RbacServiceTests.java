@@ -0,0 +1,48 @@
+package com.faisal.cardealer.features.roles.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class RbacServiceTests {
+  private JdbcClient jdbcClient;
+
+  @BeforeEach
+  void setUp() {
+    jdbcClient = JdbcClient.create(
+        new DriverManagerDataSource("jdbc:h2:mem:rbac-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1"));
+  }
+
+  @Test
+  void failsStartupWhenTheSnapshotNeverLoads() {
+    var rbacService = new RbacService(jdbcClient, null, null, 3, Duration.ZERO);
+
+    assertThatThrownBy(rbacService::initialize)
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("after 3 attempts");
+    assertThat(rbacService.snapshot().roleCount()).isZero();
+  }
+
+  @Test
+  void initializeLoadsTheRoleGraph() throws InterruptedException {
+    jdbcClient.sql("CREATE TABLE roles (id BIGINT PRIMARY KEY, name VARCHAR(50))").update();
+    jdbcClient.sql("CREATE TABLE privileges (id BIGINT PRIMARY KEY, name VARCHAR(100))").update();
+    jdbcClient.sql("CREATE TABLE role_privileges (role_id BIGINT, privilege_id BIGINT)").update();
+    jdbcClient.sql("INSERT INTO roles VALUES (1, 'ADMIN')").update();
+    jdbcClient.sql("INSERT INTO privileges VALUES (1, 'users:read')").update();
+    jdbcClient.sql("INSERT INTO role_privileges VALUES (1, 1)").update();
+    var rbacService = new RbacService(jdbcClient, null, null, 3, Duration.ZERO);
+
+    rbacService.initialize();
+
+    assertThat(rbacService.snapshot().hasPrivilege(List.of("ADMIN"), "users:read")).isTrue();
+  }
+}
@@ -0,0 +1,47 @@
+package com.faisal.cardealer.features.roles.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+
+class RbacSnapshotTests {
+  private final RbacSnapshot snapshot = new RbacSnapshot(1, Map.of(
+      "SALES", List.of("inventory.read", "inventory.write"),
+      "MANAGER", List.of("inventory.read", "inventory.delete", "reports.read"),
+      "USER", List.of()));
+
+  @Test
+  void answersPrivilegesFromCombinedRoles() {
+    assertThat(snapshot.hasPrivilege(List.of("SALES"), "inventory.write")).isTrue();
+    assertThat(snapshot.hasPrivilege(List.of("SALES"), "inventory.delete")).isFalse();
+    assertThat(snapshot.hasPrivilege(List.of("sales", "MANAGER"), "inventory.delete")).isTrue();
+    assertThat(snapshot.hasPrivilege(List.of("USER"), "inventory.read")).isFalse();
+    assertThat(snapshot.hasPrivilege(List.of("SALES"), "unknown.privilege")).isFalse();
+    assertThat(snapshot.privilegeCount()).isEqualTo(4);
+  }
+
+  @Test
+  void sharesInternedAuthoritiesBetweenPrincipals() {
+    var first = snapshot.grants(List.of("SALES", "MANAGER"));
+    var second = snapshot.grants(new ArrayList<>(List.of("SALES", "MANAGER")));
+
+    assertThat(second).isSameAs(first);
+    assertThat(first.authorities()).extracting(GrantedAuthority::getAuthority)
+        .containsExactlyInAnyOrder("ROLE_SALES", "ROLE_MANAGER");
+    assertThat(snapshot.grants(List.of("SALES")).authorities())
+        .isSameAs(snapshot.grants(List.of("SALES")).authorities());
+  }
+
+  @Test
+  void unknownRolesKeepTheirRoleAuthority() {
+    var grants = RbacSnapshot.EMPTY.grants(List.of("admin"));
+
+    assertThat(grants.authorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_ADMIN");
+    assertThat(RbacSnapshot.EMPTY.hasPrivilege(List.of("admin"), "inventory.read")).isFalse();
+  }
+}
@@ -0,0 +1,121 @@
+package com.faisal.cardealer.features.search.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.faisal.cardealer.features.search.dto.IndexedVehicle;
+import com.faisal.cardealer.features.search.dto.SearchRequestDto;
+import com.faisal.cardealer.features.search.dto.VehicleSort;
+
+class InventoryFacetIndexTests {
+  private static final String[] MAKES = { "Toyota", "Honda", "Ford", "BMW" };
+  private static final String[] BODY_TYPES = { "SEDAN", "SUV", "HATCHBACK" };
+
+  private final InventoryFacetIndex index = new InventoryFacetIndex();
+  private final List<IndexedVehicle> vehicles = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    for (int i = 0; i < 10_000; i++) {
+      String make = MAKES[i % MAKES.length];
+      var vehicle = new IndexedVehicle(
+          new UUID(0L, i),
+          make,
+          make + "-" + (i % 7),
+          2005 + i % 20,
+          500_000L + (i * 7_919L) % 9_000_000L,
+          (i * 31) % 200_000,
+          BODY_TYPES[i % BODY_TYPES.length],
+          1_700_000_000_000L + i * 1_000L,
+          i % 10 != 0);
+      vehicles.add(vehicle);
+      index.upsert(vehicle);
+    }
+    index.optimize();
+  }
+
+  @Test
+  void countsMatchBruteForceOnBothCountingPaths() {
+    var broad = new SearchRequestDto(null, null, 2010, 2020, null, null, null, null, VehicleSort.PRICE_ASC);
+    var narrow = new SearchRequestDto("Honda", null, 2010, 2012, new BigDecimal("20000"), new BigDecimal("60000.50"),
+        150_000, "SUV", VehicleSort.MILEAGE_ASC);
+
+    for (SearchRequestDto filters : List.of(broad, narrow)) {
+      List<IndexedVehicle> expected = vehicles.stream().filter(matching(filters)).toList();
+      InventoryFacetIndex.Result result = index.query(filters, 10);
+
+      assertThat(result.total()).isEqualTo(expected.size());
+      assertThat(result.makes()).isEqualTo(counts(expected, IndexedVehicle::make));
+      assertThat(result.bodyTypes()).isEqualTo(counts(expected, IndexedVehicle::bodyType));
+      assertThat(result.years().values().stream().mapToInt(Integer::intValue).sum()).isEqualTo(expected.size());
+      assertThat(result.priceBands().values().stream().mapToInt(Integer::intValue).sum()).isEqualTo(expected.size());
+      assertThat(result.top()).containsExactlyElementsOf(expected.stream()
+          .sorted(Comparator.comparingLong((IndexedVehicle vehicle) -> sortKey(filters.sort(), vehicle))
+              .thenComparing(IndexedVehicle::id))
+          .limit(10)
+          .map(IndexedVehicle::id)
+          .toList());
+    }
+
+    assertThat(index.query(narrow, 0).models()).isNotEmpty().allSatisfy((model, count) -> assertThat(model).startsWith("Honda"));
+    assertThat(index.query(broad, 0).models()).isEmpty();
+  }
+
+  @Test
+  void appliesUpdatesAndRemovalsIncrementally() {
+    var toyotas = new SearchRequestDto("Toyota", null, null, null, null, null, null, null, null);
+    int before = index.query(toyotas, 0).total();
+
+    IndexedVehicle first = vehicles.get(1);
+    index.upsert(new IndexedVehicle(first.id(), "Toyota", "Toyota-0", 2024, 2_500_000L, 10, "SUV",
+        first.createdAtMillis(), true));
+    index.remove(vehicles.get(4).id());
+
+    InventoryFacetIndex.Result result = index.query(toyotas, 1);
+    assertThat(result.total()).isEqualTo(before);
+    assertThat(result.makes()).containsOnlyKeys("Toyota");
+    assertThat(index.query(new SearchRequestDto(null, null, null, null, null, null, null, null, null), 1).top())
+        .containsExactly(vehicles.getLast().id());
+    assertThat(index.size()).isEqualTo(8_999);
+    assertThat(index.query(new SearchRequestDto("Tesla", null, null, null, null, null, null, null, null), 5).total())
+        .isZero();
+  }
+
+  private static Predicate<IndexedVehicle> matching(SearchRequestDto filters) {
+    return vehicle -> vehicle.listed()
+        && (filters.make() == null || filters.make().equals(vehicle.make()))
+        && (filters.bodyType() == null || filters.bodyType().equals(vehicle.bodyType()))
+        && (filters.yearMin() == null || vehicle.year() >= filters.yearMin())
+        && (filters.yearMax() == null || vehicle.year() <= filters.yearMax())
+        && (filters.priceMin() == null || vehicle.priceCents() >= InventoryFacetIndex.toCents(filters.priceMin()))
+        && (filters.priceMax() == null || vehicle.priceCents() <= InventoryFacetIndex.toCents(filters.priceMax()))
+        && (filters.mileageMax() == null || vehicle.mileage() <= filters.mileageMax());
+  }
+
+  private static Map<String, Integer> counts(
+      List<IndexedVehicle> vehicles, Function<IndexedVehicle, String> facet) {
+    return vehicles.stream().collect(Collectors.groupingBy(facet, Collectors.summingInt(vehicle -> 1)));
+  }
+
+  private static long sortKey(VehicleSort sort, IndexedVehicle vehicle) {
+    return switch (sort) {
+      case NEWEST -> -vehicle.createdAtMillis();
+      case PRICE_ASC -> vehicle.priceCents();
+      case PRICE_DESC -> -vehicle.priceCents();
+      case YEAR_DESC -> -vehicle.year();
+      case MILEAGE_ASC -> vehicle.mileage();
+    };
+  }
+}
@@ -0,0 +1,103 @@
+package com.faisal.cardealer.features.search.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.faisal.cardealer.exceptions.BadRequestException;
+import com.faisal.cardealer.features.search.dto.PaginationRequestDto;
+import com.faisal.cardealer.features.search.dto.SearchRequestDto;
+import com.faisal.cardealer.features.search.dto.VehicleSort;
+import com.faisal.cardealer.features.search.dto.VehicleSummaryDto;
+import com.faisal.cardealer.models.Vehicle;
+import com.faisal.cardealer.models.VehicleStatus;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import(VehicleSearchService.class)
+class VehicleSearchServiceTests {
+  private static final String[] MAKES = { "Toyota", "Honda", "Suzuki" };
+
+  @Autowired
+  private VehicleSearchService vehicleSearchService;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @BeforeEach
+  void setUp() {
+    for (int i = 0; i < 45; i++) {
+      var vehicle = new Vehicle();
+      vehicle.setVin(String.format("VIN%014d", i));
+      vehicle.setMake(MAKES[i % MAKES.length]);
+      vehicle.setModel("Model " + (i % 5));
+      vehicle.setYear((short) (2010 + i % 12));
+      vehicle.setPrice(BigDecimal.valueOf(100_000_000L + (i % 9) * 10_000_000L));
+      vehicle.setMileage(5_000 * (i % 20));
+      vehicle.setBodyType(i % 2 == 0 ? "SUV" : "SEDAN");
+      vehicle.setStatus(i % 15 == 12 ? VehicleStatus.SOLD : VehicleStatus.AVAILABLE);
+      entityManager.persist(vehicle);
+    }
+
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @Test
+  void keysetPagesCoverEveryMatchInPriceOrderWithoutDuplicates() {
+    var filters = new SearchRequestDto("Toyota", null, null, null, null, null, null, null, VehicleSort.PRICE_ASC);
+    var seen = new ArrayList<VehicleSummaryDto>();
+    String cursor = null;
+
+    do {
+      var page = vehicleSearchService.search(filters, new PaginationRequestDto(4, cursor));
+      seen.addAll(page.data());
+      cursor = page.nextCursor();
+    } while (cursor != null);
+
+    assertThat(seen).hasSize(12).allMatch(vehicle -> vehicle.make().equals("Toyota"));
+    assertThat(seen).extracting(VehicleSummaryDto::id).doesNotHaveDuplicates();
+    assertThat(seen).extracting(VehicleSummaryDto::price).isSortedAccordingTo(BigDecimal::compareTo);
+  }
+
+  @Test
+  void appliesRangeFiltersAndReusesSqlPerShape() {
+    var filters = new SearchRequestDto(null, null, 2015, 2018, new BigDecimal("120000000"), null, 60_000, "SUV",
+        VehicleSort.YEAR_DESC);
+
+    List<VehicleSummaryDto> vehicles = List.copyOf(
+        vehicleSearchService.search(filters, new PaginationRequestDto(50, null)).data());
+    vehicleSearchService.search(filters, new PaginationRequestDto(10, null));
+
+    assertThat(vehicles).isNotEmpty().allSatisfy(vehicle -> {
+      assertThat(vehicle.year()).isBetween(2015, 2018);
+      assertThat(vehicle.price()).isGreaterThanOrEqualTo(new BigDecimal("120000000"));
+      assertThat(vehicle.mileage()).isLessThanOrEqualTo(60_000);
+      assertThat(vehicle.bodyType()).isEqualTo("SUV");
+    });
+    assertThat(vehicleSearchService.cachedShapeCount()).isEqualTo(1);
+  }
+
+  @Test
+  void rejectsCursorFromAnotherSort() {
+    var byPrice = new SearchRequestDto(null, null, null, null, null, null, null, null, VehicleSort.PRICE_ASC);
+    String cursor = vehicleSearchService.search(byPrice, new PaginationRequestDto(2, null)).nextCursor();
+    var byMileage = new SearchRequestDto(null, null, null, null, null, null, null, null, VehicleSort.MILEAGE_ASC);
+
+    assertThatThrownBy(() -> vehicleSearchService.search(byMileage, new PaginationRequestDto(2, cursor)))
+        .isInstanceOf(BadRequestException.class);
+  }
+}
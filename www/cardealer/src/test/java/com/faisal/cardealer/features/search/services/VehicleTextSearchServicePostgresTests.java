@@ -0,0 +1,78 @@
+package com.faisal.cardealer.features.search.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.jdbc.test.autoconfigure.JdbcTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import com.faisal.cardealer.features.search.dto.SuggestionDto;
+import com.faisal.cardealer.features.search.dto.TextSearchRequestDto;
+import com.faisal.cardealer.features.search.dto.VehicleSummaryDto;
+
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import(VehicleTextSearchService.class)
+class VehicleTextSearchServicePostgresTests {
+
+  @Container
+  @ServiceConnection
+  static final PostgreSQLContainer POSTGRES = new PostgreSQLContainer("postgres:17-alpine");
+
+  @Autowired
+  private VehicleTextSearchService searchService;
+
+  @Autowired
+  private JdbcClient jdbcClient;
+
+  @BeforeEach
+  void setUp() {
+    insert("JTDKARFU0K3000001", "Toyota", "Camry Hybrid", 2019, "sedan");
+    insert("JTDKARFU0K3000002", "Toyota", "Camry", 2019, "sedan");
+    insert("JTDKARFU0K3000003", "Toyota", "Prius", 2019, "hatchback");
+  }
+
+  @Test
+  void findsVehicleWhenOneTermIsMisspelt() {
+    var result = searchService.search(new TextSearchRequestDto("camry 2019 hybird", 10, 0));
+
+    assertThat(result.data()).extracting(VehicleSummaryDto::model).first().isEqualTo("Camry Hybrid");
+    assertThat(result.data()).extracting(VehicleSummaryDto::model).doesNotContain("Prius");
+  }
+
+  @Test
+  void requiresEveryTermToMatch() {
+    var result = searchService.search(new TextSearchRequestDto("prius 2019", 10, 0));
+
+    assertThat(result.data()).extracting(VehicleSummaryDto::model).containsExactly("Prius");
+  }
+
+  @Test
+  void suggestsMisspeltModels() {
+    assertThat(searchService.suggest("toyota hybird", 5)).extracting(SuggestionDto::model)
+        .containsExactly("Camry Hybrid");
+  }
+
+  private void insert(String vin, String make, String model, int year, String bodyType) {
+    jdbcClient.sql("INSERT INTO vehicles (id, vin, make, model, model_year, price, mileage, body_type)"
+        + " VALUES (:id, :vin, :make, :model, :year, 25000, 10000, :bodyType)")
+        .param("id", UUID.randomUUID())
+        .param("vin", vin)
+        .param("make", make)
+        .param("model", model)
+        .param("year", year)
+        .param("bodyType", bodyType)
+        .update();
+  }
+}
@@ -0,0 +1,32 @@
+package com.faisal.cardealer.features.search.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class VehicleTextSearchServiceTests {
+
+  @Test
+  void normalisesQueryIntoPrefixTerms() {
+    var terms = VehicleTextSearchService.terms("  Camry 2019 HYBIRD camry ");
+
+    assertThat(terms).containsExactly("camry", "2019", "hybird");
+    assertThat(VehicleTextSearchService.toPrefixQuery(terms)).isEqualTo("camry:* | 2019:* | hybird:*");
+  }
+
+  @Test
+  void requiresEveryTermAsPrefixOrTrigramMatch() {
+    assertThat(VehicleTextSearchService.matches(2)).isEqualTo("status = 'AVAILABLE' AND deleted_at IS NULL"
+        + " AND (search_vector @@ to_tsquery('simple', :prefix0) OR :term0 <% search_text)"
+        + " AND (search_vector @@ to_tsquery('simple', :prefix1) OR :term1 <% search_text)");
+  }
+
+  @Test
+  void dropsTsqueryOperators() {
+    var terms = VehicleTextSearchService.terms("civic & !(type-r | :*) <-> 'x'");
+
+    assertThat(terms).containsExactly("civic", "type", "r", "x");
+    assertThat(VehicleTextSearchService.terms("&|!():*")).isEmpty();
+    assertThat(VehicleTextSearchService.terms(null)).isEmpty();
+  }
+}
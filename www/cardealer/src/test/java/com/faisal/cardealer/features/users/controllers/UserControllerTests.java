@@ -0,0 +1,25 @@
+package com.faisal.cardealer.features.users.controllers;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.faisal.cardealer.exceptions.PreconditionRequiredException;
+import com.faisal.cardealer.features.users.dto.UpdateUserRequestDto;
+
+class UserControllerTests {
+  private final UserController controller = new UserController(null, null, true);
+  private final UpdateUserRequestDto request = new UpdateUserRequestDto("New Name", null);
+
+  @Test
+  void updateWithoutIfMatchIsRejectedBeforeTouchingTheUser() {
+    UUID id = UUID.randomUUID();
+
+    assertThatThrownBy(() -> controller.updateUser(id, null, request))
+        .isInstanceOf(PreconditionRequiredException.class);
+    assertThatThrownBy(() -> controller.updateUser(id, " ", request))
+        .isInstanceOf(PreconditionRequiredException.class);
+  }
+}
@@ -0,0 +1,25 @@
+package com.faisal.cardealer.features.users.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+class UserVersionTests {
+  @Test
+  void usesTheLastUpdateAsPayloadTimestamp() {
+    var updatedAt = LocalDateTime.of(2026, 3, 4, 5, 6, 7);
+
+    assertThat(new UserVersion(2, updatedAt).timestamp()).isEqualTo(updatedAt.toString());
+  }
+
+  @Test
+  void toleratesRowsWithoutUpdateTime() {
+    var version = new UserVersion(0, null);
+
+    assertThat(LocalDateTime.parse(version.timestamp())).isBeforeOrEqualTo(LocalDateTime.now());
+    assertThat(version.lastModified()).isEqualTo(-1);
+    assertThat(version.etag()).isEqualTo("\"0\"");
+  }
+}
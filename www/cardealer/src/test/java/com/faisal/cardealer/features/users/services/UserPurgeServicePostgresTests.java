@@ -0,0 +1,136 @@
+package com.faisal.cardealer.features.users.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.jdbc.test.autoconfigure.JdbcTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserPurgeServicePostgresTests {
+
+  @Container
+  @ServiceConnection
+  static final PostgreSQLContainer POSTGRES = new PostgreSQLContainer("postgres:17-alpine");
+
+  @Autowired
+  private JdbcClient jdbcClient;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+  private int users;
+
+  @AfterEach
+  void tearDown() {
+    jdbcClient.sql("DELETE FROM users_archive").update();
+    jdbcClient.sql("DELETE FROM users").update();
+  }
+
+  @Test
+  void purgesOnlyUsersDeletedBeforeTheRetentionWindow() {
+    UUID expired = insertUser(now.minusDays(31));
+    UUID recent = insertUser(now.minusDays(29));
+    UUID active = insertUser(null);
+
+    int purged = purgeService(false, 500, 200).purge();
+
+    assertThat(purged).isEqualTo(1);
+    assertThat(userIds()).containsExactlyInAnyOrder(recent, active).doesNotContain(expired);
+    assertThat(jdbcClient.sql("SELECT COUNT(*) FROM users_archive").query(Long.class).single()).isZero();
+  }
+
+  @Test
+  void stopsAfterMaxBatchesOldestFirst() {
+    for (int day = 40; day > 35; day--) {
+      insertUser(now.minusDays(day));
+    }
+    UUID newestExpired = insertUser(now.minusDays(35));
+    var purgeService = purgeService(false, 2, 2);
+
+    assertThat(purgeService.purge()).isEqualTo(4);
+    assertThat(userIds()).hasSize(2).contains(newestExpired);
+
+    assertThat(purgeService.purge()).isEqualTo(2);
+    assertThat(userIds()).isEmpty();
+  }
+
+  @Test
+  void archivesEveryColumnExceptTheCredentials() {
+    UUID deletedBy = UUID.randomUUID();
+    LocalDateTime deletedAt = now.minusDays(45);
+    UUID id = insertUser(deletedAt);
+    jdbcClient.sql("UPDATE users SET deleted_by = :deletedBy, created_at = :createdAt, updated_at = :updatedAt"
+        + " WHERE id = :id")
+        .param("deletedBy", deletedBy)
+        .param("createdAt", Timestamp.valueOf(now.minusDays(90)))
+        .param("updatedAt", Timestamp.valueOf(now.minusDays(45)))
+        .param("id", id)
+        .update();
+
+    assertThat(purgeService(true, 500, 200).purge()).isEqualTo(1);
+
+    Map<String, Object> archived = jdbcClient.sql("SELECT * FROM users_archive WHERE id = :id")
+        .param("id", id)
+        .query()
+        .singleRow();
+    assertThat(archived)
+        .containsEntry("username", "user0")
+        .containsEntry("email", "user0@example.com")
+        .containsEntry("fullname", "User 0")
+        .containsEntry("phone_number", "081200000000")
+        .containsEntry("created_at", Timestamp.valueOf(now.minusDays(90)))
+        .containsEntry("updated_at", Timestamp.valueOf(now.minusDays(45)))
+        .containsEntry("deleted_at", Timestamp.valueOf(deletedAt))
+        .containsEntry("deleted_by", deletedBy)
+        .doesNotContainKey("password");
+    assertThat(archived.get("purged_at")).isNotNull();
+    assertThat(userIds()).isEmpty();
+  }
+
+  private UserPurgeService purgeService(boolean archive, int batchSize, int maxBatches) {
+    return new UserPurgeService(
+        jdbcClient, transactionManager, null, true, archive, Duration.ofDays(30), batchSize, maxBatches);
+  }
+
+  private UUID insertUser(LocalDateTime deletedAt) {
+    UUID id = UUID.randomUUID();
+    int n = users++;
+    jdbcClient.sql("INSERT INTO users (id, username, email, password, fullname, phone_number, deleted_at)"
+        + " VALUES (:id, :username, :email, 'secret', :fullname, :phone, :deletedAt)")
+        .param("id", id)
+        .param("username", "user" + n)
+        .param("email", "user" + n + "@example.com")
+        .param("fullname", "User " + n)
+        .param("phone", String.format("08120000%04d", n))
+        .param("deletedAt", deletedAt == null ? null : Timestamp.valueOf(deletedAt))
+        .update();
+    return id;
+  }
+
+  private List<UUID> userIds() {
+    return jdbcClient.sql("SELECT id FROM users").query(UUID.class).list();
+  }
+}
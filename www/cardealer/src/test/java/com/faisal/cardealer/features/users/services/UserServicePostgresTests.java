@@ -0,0 +1,180 @@
+package com.faisal.cardealer.features.users.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import com.faisal.cardealer.cache.TwoTierCacheManager;
+import com.faisal.cardealer.dto.ResponsePayload;
+import com.faisal.cardealer.exceptions.PreconditionFailedException;
+import com.faisal.cardealer.exceptions.ResourceNotFoundException;
+import com.faisal.cardealer.features.users.controllers.UserController;
+import com.faisal.cardealer.features.users.dto.BulkDeleteUsersRequestDto;
+import com.faisal.cardealer.features.users.dto.UpdateUserRequestDto;
+import com.faisal.cardealer.features.users.dto.UserDto;
+import com.faisal.cardealer.features.users.repositories.UserRepository;
+import com.faisal.cardealer.handlers.JwtPrincipal;
+import com.faisal.cardealer.handlers.PrincipalEpochStore;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import({ UserService.class, UserCacheService.class, TwoTierCacheManager.class, PrincipalEpochStore.class })
+class UserServicePostgresTests {
+
+  @Container
+  @ServiceConnection
+  static final PostgreSQLContainer POSTGRES = new PostgreSQLContainer("postgres:17-alpine");
+
+  @Autowired
+  private UserService userService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private JdbcClient jdbcClient;
+
+  private final UUID admin = UUID.randomUUID();
+  private UUID alice;
+  private UUID bob;
+  private UUID deleted;
+
+  @BeforeEach
+  void setUp() {
+    alice = insertUser("alice", false);
+    bob = insertUser("bob", false);
+    deleted = insertUser("carol", true);
+  }
+
+  @Test
+  void bulkDeleteReportsOnlyTheUsersItDeleted() {
+    var controller = new UserController(userService, null, true);
+    var principal = new JwtPrincipal(admin, "admin@example.com", "Admin", List.of("ADMIN"), Set.of());
+
+    var response = controller.deleteUsers(principal,
+        new BulkDeleteUsersRequestDto(List.of(alice, deleted, UUID.randomUUID(), alice)));
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    ResponsePayload body = response.getBody();
+    assertThat(body).isNotNull();
+    assertThat(body.resource()).isEqualTo(Map.of("ids", List.of(alice), "deleted", 1));
+
+    assertThat(jdbcClient.sql("SELECT deleted_by FROM users WHERE id = :id").param("id", alice)
+        .query(UUID.class).single()).isEqualTo(admin);
+    assertThat(jdbcClient.sql("SELECT deleted_at IS NULL FROM users WHERE id = :id").param("id", bob)
+        .query(Boolean.class).single()).isTrue();
+    assertThat(jdbcClient.sql("SELECT deleted_by IS NULL FROM users WHERE id = :id").param("id", deleted)
+        .query(Boolean.class).single()).isTrue();
+  }
+
+  @Test
+  void deletingAnAlreadyDeletedUserIsNotFound() {
+    userService.deleteUser(alice, admin);
+
+    assertThatThrownBy(() -> userService.deleteUser(alice, admin)).isInstanceOf(ResourceNotFoundException.class);
+    assertThatThrownBy(() -> userService.deleteUser(deleted, admin)).isInstanceOf(ResourceNotFoundException.class);
+    assertThat(ResourceNotFoundException.class.getAnnotation(ResponseStatus.class).value())
+        .isEqualTo(HttpStatus.NOT_FOUND);
+  }
+
+  @Test
+  void updateWithMatchingIfMatchReturnsTheUpdatedUser() {
+    grantRole(alice, "SALES");
+    long version = userService.getUserVersion(alice).version();
+    var controller = new UserController(userService, null, true);
+
+    var response = controller.updateUser(
+        alice, userService.getUserVersion(alice).etag(), new UpdateUserRequestDto("Alice Smith", null));
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    ResponsePayload body = response.getBody();
+    assertThat(body).isNotNull();
+    assertThat(body.resource()).isInstanceOfSatisfying(UserDto.class, user -> {
+      assertThat(user.fullName()).isEqualTo("Alice Smith");
+      assertThat(user.roles()).containsExactly("SALES");
+      assertThat(user.version()).isEqualTo(version + 1);
+    });
+    assertThat(response.getHeaders().getETag())
+        .isEqualTo(userRepository.findActiveVersionById(alice).orElseThrow().etag());
+  }
+
+  @Test
+  void updateWithStaleVersionIsPreconditionFailed() {
+    long version = userService.getUserVersion(alice).version();
+    userService.updateUser(alice, new UpdateUserRequestDto("Alice Smith", null), List.of(version));
+
+    assertThatThrownBy(() -> userService.updateUser(
+        alice, new UpdateUserRequestDto("Alice Jones", null), List.of(version)))
+        .isInstanceOf(PreconditionFailedException.class);
+    assertThat(PreconditionFailedException.class.getAnnotation(ResponseStatus.class).value())
+        .isEqualTo(HttpStatus.PRECONDITION_FAILED);
+    assertThat(jdbcClient.sql("SELECT fullname FROM users WHERE id = :id").param("id", alice)
+        .query(String.class).single()).isEqualTo("Alice Smith");
+  }
+
+  @Test
+  void updatingASoftDeletedUserIsNotFound() {
+    var request = new UpdateUserRequestDto("Carol Smith", null);
+
+    assertThatThrownBy(() -> userService.updateUser(deleted, request, List.of(0L)))
+        .isInstanceOf(ResourceNotFoundException.class);
+    assertThatThrownBy(() -> userService.updateUser(deleted, request, null))
+        .isInstanceOf(ResourceNotFoundException.class);
+  }
+
+  @Test
+  void updateReturnsAUserWithSeveralRolesAsOneDto() {
+    grantRole(bob, "SALES");
+    grantRole(bob, "MANAGER");
+
+    UserDto updated = userService.updateUser(bob, new UpdateUserRequestDto("Bob Smith", null), null);
+
+    assertThat(updated.id()).isEqualTo(bob);
+    assertThat(updated.fullName()).isEqualTo("Bob Smith");
+    assertThat(updated.roles()).containsExactlyInAnyOrder("SALES", "MANAGER");
+  }
+
+  private UUID insertUser(String username, boolean deleted) {
+    UUID id = UUID.randomUUID();
+    jdbcClient.sql("INSERT INTO users (id, username, email, password, fullname, phone_number, deleted_at)"
+        + " VALUES (:id, :username, :email, 'secret', :username, :phone, "
+        + (deleted ? "CURRENT_TIMESTAMP" : "NULL") + ")")
+        .param("id", id)
+        .param("username", username)
+        .param("email", username + "@example.com")
+        .param("phone", "0812" + Math.abs(username.hashCode() % 100_000_000))
+        .update();
+    return id;
+  }
+
+  private void grantRole(UUID userId, String role) {
+    Long roleId = jdbcClient.sql("INSERT INTO roles (name, description) VALUES (:name, :name)"
+        + " ON CONFLICT (name) DO UPDATE SET description = EXCLUDED.description RETURNING id")
+        .param("name", role)
+        .query(Long.class)
+        .single();
+    jdbcClient.sql("INSERT INTO user_roles (user_id, role_id) VALUES (:userId, :roleId)")
+        .param("userId", userId)
+        .param("roleId", roleId)
+        .update();
+  }
+}
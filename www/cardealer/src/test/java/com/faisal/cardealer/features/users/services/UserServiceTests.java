@@ -0,0 +1,139 @@
+package com.faisal.cardealer.features.users.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Set;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.faisal.cardealer.cache.TwoTierCacheManager;
+import com.faisal.cardealer.exceptions.BadRequestException;
+import com.faisal.cardealer.handlers.PrincipalEpochStore;
+import com.faisal.cardealer.models.Role;
+import com.faisal.cardealer.models.User;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({ UserService.class, UserCacheService.class, TwoTierCacheManager.class, PrincipalEpochStore.class })
+class UserServiceTests {
+  private static final int USER_COUNT = 30;
+
+  @Autowired
+  private UserService userService;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    Role user = newRole("USER");
+    Role sales = newRole("SALES");
+
+    for (int i = 0; i < USER_COUNT; i++) {
+      var account = new User();
+      account.setUsername("user" + i);
+      account.setEmail("user" + i + "@example.com");
+      account.setPassword("secret");
+      account.setFullname("User " + i);
+      account.setPhoneNumber("08120000" + String.format("%04d", i));
+      account.setIsActive(true);
+      account.setRoles(Set.of(user, sales));
+      entityManager.persist(account);
+    }
+
+    entityManager.flush();
+    entityManager.clear();
+
+    statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+  }
+
+  @Test
+  void offsetPageUsesFixedStatementCountRegardlessOfPageSize() {
+    var small = userService.getAllUsers(0, 5, true);
+    long smallStatements = statistics.getPrepareStatementCount();
+
+    entityManager.clear();
+    statistics.clear();
+
+    var large = userService.getAllUsers(0, 25, true);
+
+    assertThat(small.data()).hasSize(5);
+    assertThat(large.data()).hasSize(25).allSatisfy(dto -> assertThat(dto.roles()).containsOnly("USER", "SALES"));
+    assertThat(smallStatements).isEqualTo(3);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+  }
+
+  @Test
+  void keysetPageSkipsCountQuery() {
+    var first = userService.getUsersAfter("", 10);
+
+    entityManager.clear();
+    statistics.clear();
+
+    var second = userService.getUsersAfter(first.nextCursor(), 10);
+
+    assertThat(second.data()).hasSize(10);
+    assertThat(second.totalElements()).isNull();
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+  }
+
+  @Test
+  void rejectsPageSizesOutsideOneToOneHundred() {
+    assertThat(userService.getUsersAfter("", 100).data()).hasSize(USER_COUNT);
+
+    assertThatThrownBy(() -> userService.getUsersAfter("", Integer.MAX_VALUE))
+        .isInstanceOf(BadRequestException.class);
+    assertThatThrownBy(() -> userService.getUsersAfter("", 0)).isInstanceOf(BadRequestException.class);
+    assertThatThrownBy(() -> userService.getAllUsers(0, 101, true)).isInstanceOf(BadRequestException.class);
+  }
+
+  @Test
+  void versionLookupReadsTwoColumnsOnceThenServesFromCache() {
+    User account = entityManager.createQuery("SELECT u FROM User u WHERE u.username = 'user0'", User.class)
+        .getSingleResult();
+    entityManager.clear();
+    statistics.clear();
+
+    var first = userService.getUserVersion(account.getId());
+    var second = userService.getUserVersion(account.getId());
+
+    assertThat(second).isEqualTo(first);
+    assertThat(first.version()).isEqualTo(account.getVersion());
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    assertThat(statistics.getEntityLoadCount()).isZero();
+  }
+
+  @Test
+  void partialUpdateOnlySetsChangedColumnsAndChecksVersion() {
+    String sql = UserService.updateSql(Set.of("phone_number"), true);
+
+    assertThat(sql)
+        .contains("SET phone_number = :phone_number, updated_at = :now, version = version + 1 ")
+        .contains("AND version IN (:versions)")
+        .doesNotContain("fullname =");
+    assertThat(UserService.updateSql(Set.of("fullname"), false)).doesNotContain(":versions");
+  }
+
+  private Role newRole(String name) {
+    var role = new Role();
+    role.setName(name);
+    role.setDescription(name + " role");
+    entityManager.persist(role);
+    return role;
+  }
+}
@@ -0,0 +1,39 @@
+package com.faisal.cardealer.handlers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+class ETagHandlerTests {
+  @Test
+  void roundTripsVersionsThroughIfMatch() {
+    String tag = ETagHandler.format(42, LocalDateTime.of(2026, 1, 2, 3, 4, 5, 6_000));
+
+    assertThat(tag).startsWith("\"42-").endsWith("\"");
+    assertThat(ETagHandler.parseIfMatch(tag)).containsExactly(42L);
+    assertThat(ETagHandler.parseIfMatch("\"3\", " + ETagHandler.format(7, null))).containsExactly(3L, 7L);
+  }
+
+  @Test
+  void distinguishesUpdateTimesWithTheSameVersion() {
+    var updatedAt = LocalDateTime.of(2026, 1, 2, 3, 4, 5);
+
+    assertThat(ETagHandler.format(1, updatedAt)).isEqualTo(ETagHandler.format(1, updatedAt))
+        .isNotEqualTo(ETagHandler.format(1, updatedAt.plusNanos(1_000)));
+  }
+
+  @Test
+  void treatsMissingHeaderAndWildcardAsUnconditional() {
+    assertThat(ETagHandler.parseIfMatch(null)).isNull();
+    assertThat(ETagHandler.parseIfMatch(" ")).isNull();
+    assertThat(ETagHandler.parseIfMatch("*")).isNull();
+  }
+
+  @Test
+  void weakOrForeignTagsNeverMatch() {
+    assertThat(ETagHandler.parseIfMatch("W/\"42\"")).isEmpty();
+    assertThat(ETagHandler.parseIfMatch("\"abc\", 42")).isEmpty();
+  }
+}
@@ -0,0 +1,94 @@
+package com.faisal.cardealer.handlers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.faisal.cardealer.models.User;
+
+class JwtAuthHandlerTests {
+  private JwtAuthHandler jwtAuthHandler;
+  private PrincipalEpochStore principalEpochStore;
+  private User user;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+    generator.initialize(2048);
+    KeyPair keyPair = generator.generateKeyPair();
+
+    principalEpochStore = new PrincipalEpochStore(null, 1_000, Duration.ofMinutes(5));
+    jwtAuthHandler = new JwtAuthHandler(
+        (RSAPrivateKey) keyPair.getPrivate(), (RSAPublicKey) keyPair.getPublic(), 60_000, 120_000,
+        principalEpochStore);
+
+    user = new User();
+    user.setId(UUID.fromString("0190f5c4-7b3a-7000-8000-000000000001"));
+    user.setEmail("jane@example.com");
+    user.setFullname("Jane Doe");
+    user.setRoles(Set.of());
+  }
+
+  @Test
+  void decodeTokenVerifiesSignatureOnlyOnce() {
+    String token = jwtAuthHandler.generateToken(user);
+
+    var first = jwtAuthHandler.decodeToken(token);
+    var second = jwtAuthHandler.decodeToken(token);
+
+    assertThat(second).isSameAs(first);
+    assertThat(jwtAuthHandler.extractUserId(jwtAuthHandler.decodeToken(token))).isEqualTo(user.getId());
+
+    var stats = jwtAuthHandler.getClaimsCache().getCache().stats();
+    assertThat(stats.missCount()).isEqualTo(1);
+    assertThat(stats.hitCount()).isEqualTo(2);
+  }
+
+  @Test
+  void tamperedTokenIsRejectedAndNotCached() {
+    String token = jwtAuthHandler.generateToken(user);
+    String tampered = token.substring(0, token.length() - 4) + "AAAA";
+
+    assertThatThrownBy(() -> jwtAuthHandler.decodeToken(tampered)).isInstanceOf(RuntimeException.class);
+    assertThat(jwtAuthHandler.getClaimsCache().getCache().estimatedSize()).isZero();
+  }
+
+  @Test
+  void accessTokenCarriesStatelessPrincipalUntilEpochIsBumped() {
+    String token = jwtAuthHandler.generateToken(user);
+    var claims = jwtAuthHandler.decodeToken(token);
+
+    assertThat(jwtAuthHandler.isAccessTokenValid(claims)).isTrue();
+    assertThat(JwtPrincipal.fromClaims(claims).email()).isEqualTo(user.getEmail());
+
+    principalEpochStore.bump(user.getId());
+
+    assertThat(jwtAuthHandler.isAccessTokenValid(claims)).isFalse();
+    assertThat(jwtAuthHandler.isAccessTokenValid(jwtAuthHandler.decodeToken(jwtAuthHandler.generateToken(user))))
+        .isTrue();
+  }
+
+  @Test
+  void tokenPairSharesIssueTimeAndUses128BitIds() {
+    var tokenPair = jwtAuthHandler.generateTokenPair(user, "family", 0L);
+    var access = jwtAuthHandler.decodeToken(tokenPair.accessToken());
+    var refresh = jwtAuthHandler.decodeToken(tokenPair.refreshToken());
+
+    assertThat(access.getIssuedAt()).isEqualTo(refresh.getIssuedAt());
+    assertThat(access.getIssuer()).isEqualTo(refresh.getIssuer()).isNotBlank();
+    assertThat(access.getId()).isNotEqualTo(refresh.getId());
+    assertThat(Base64.getUrlDecoder().decode(access.getId())).hasSize(16);
+    assertThat(refresh.getExpiration()).isAfter(access.getExpiration());
+  }
+}
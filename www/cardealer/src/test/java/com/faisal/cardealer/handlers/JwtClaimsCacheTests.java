@@ -0,0 +1,50 @@
+package com.faisal.cardealer.handlers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.PrematureJwtException;
+import io.jsonwebtoken.security.SignatureException;
+
+class JwtClaimsCacheTests {
+  private final JwtClaimsCache cache = new JwtClaimsCache(100, Duration.ofMinutes(1));
+  private final AtomicInteger verifications = new AtomicInteger();
+
+  @Test
+  void rejectedTokenIsVerifiedOnlyOnce() {
+    Function<String, Claims> verifier = failingWith(new SignatureException("bad signature"));
+
+    for (int i = 0; i < 3; i++) {
+      assertThatThrownBy(() -> cache.get("forged", verifier))
+          .isInstanceOf(RuntimeException.class)
+          .hasMessage("Invalid or expired token.");
+    }
+    assertThat(verifications).hasValue(1);
+    assertThat(cache.getCache().estimatedSize()).isZero();
+  }
+
+  @Test
+  void prematureTokenIsVerifiedAgain() {
+    Function<String, Claims> verifier = failingWith(new PrematureJwtException(null, Jwts.claims().build(), "nbf"));
+
+    assertThatThrownBy(() -> cache.get("early", verifier)).isInstanceOf(RuntimeException.class);
+    assertThatThrownBy(() -> cache.get("early", verifier)).isInstanceOf(RuntimeException.class);
+
+    assertThat(verifications).hasValue(2);
+  }
+
+  private Function<String, Claims> failingWith(RuntimeException cause) {
+    return token -> {
+      verifications.incrementAndGet();
+      throw new RuntimeException("Invalid or expired token.", cause);
+    };
+  }
+}
@@ -0,0 +1,67 @@
+package com.faisal.cardealer.handlers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class PrincipalEpochStoreTests {
+  private final UUID userId = UUID.randomUUID();
+
+  @Test
+  void keepsBumpedEpochsWithoutRedisPastTheCacheTtl() throws InterruptedException {
+    var store = new PrincipalEpochStore(null, 1, Duration.ofMillis(1));
+
+    store.bump(userId);
+    store.current(UUID.randomUUID());
+    Thread.sleep(5);
+
+    assertThat(store.isCurrent(userId, 0)).isFalse();
+    assertThat(store.isCurrent(userId, 1)).isTrue();
+  }
+
+  @Test
+  void defersBumpUntilCommitAndDropsItOnRollback() {
+    var store = new PrincipalEpochStore(null, 1_000, Duration.ofMinutes(5));
+
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      store.bump(userId);
+      assertThat(store.isCurrent(userId, 0)).isTrue();
+
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+      assertThat(store.isCurrent(userId, 0)).isTrue();
+
+      store.bump(userId);
+      TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    assertThat(store.isCurrent(userId, 0)).isFalse();
+  }
+
+  @Test
+  void rejectsTokensWhenTheEpochCannotBeRead() {
+    var store = new PrincipalEpochStore(new UnavailableRedis(), 1_000, Duration.ofMinutes(5));
+
+    assertThat(store.isCurrent(userId, 0)).isFalse();
+    assertThat(store.isCurrent(userId, 5)).isFalse();
+    assertThat(store.current(userId)).isZero();
+  }
+
+  private static final class UnavailableRedis extends StringRedisTemplate {
+    @Override
+    public ValueOperations<String, String> opsForValue() {
+      throw new RedisConnectionFailureException("Redis is down.");
+    }
+  }
+}
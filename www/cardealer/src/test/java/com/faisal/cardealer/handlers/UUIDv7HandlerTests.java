@@ -0,0 +1,47 @@
+package com.faisal.cardealer.handlers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class UUIDv7HandlerTests {
+  @Test
+  void setsVersionVariantAndTimestamp() {
+    long before = System.currentTimeMillis();
+    UUID id = UUIDv7Handler.generate();
+
+    assertThat(id.version()).isEqualTo(7);
+    assertThat(id.variant()).isEqualTo(2);
+    assertThat(id.getMostSignificantBits() >>> 16).isGreaterThanOrEqualTo(before);
+  }
+
+  @Test
+  void isStrictlyIncreasingWithinTheSameMillisecond() {
+    List<UUID> ids = new ArrayList<>();
+
+    for (int i = 0; i < 100_000; i++) {
+      ids.add(UUIDv7Handler.generate());
+    }
+
+    for (int i = 1; i < ids.size(); i++) {
+      assertThat(Long.compareUnsigned(ids.get(i).getMostSignificantBits(), ids.get(i - 1).getMostSignificantBits()))
+          .isPositive();
+    }
+  }
+
+  @Test
+  void isUniqueAcrossThreads() {
+    var ids = new ConcurrentLinkedQueue<UUID>();
+
+    IntStream.range(0, 8).parallel()
+        .forEach(thread -> IntStream.range(0, 20_000).forEach(i -> ids.add(UUIDv7Handler.generate())));
+
+    assertThat(ids.stream().map(UUID::getMostSignificantBits).distinct().count()).isEqualTo(ids.size());
+  }
+}
@@ -0,0 +1,54 @@
+package com.faisal.cardealer.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class ClientAddressResolverTests {
+  private final ClientAddressResolver resolver = new ClientAddressResolver("X-Forwarded-For", "10.0.0.0/8, ::1/128");
+
+  @Test
+  void ignoresTheHeaderFromUntrustedPeers() {
+    var request = request("203.0.113.7", "198.51.100.1");
+
+    assertThat(resolver.resolve(request)).isEqualTo("203.0.113.7");
+  }
+
+  @Test
+  void takesTheRightmostUntrustedHop() {
+    var request = request("10.0.0.2", "198.51.100.99, 203.0.113.7, 10.0.0.1");
+
+    assertThat(resolver.resolve(request)).isEqualTo("203.0.113.7");
+  }
+
+  @Test
+  void readsRepeatedHeadersInOrder() {
+    var request = request("::1", "198.51.100.99");
+    request.addHeader("X-Forwarded-For", "203.0.113.7");
+
+    assertThat(resolver.resolve(request)).isEqualTo("203.0.113.7");
+  }
+
+  @Test
+  void fallsBackToTheOutermostHopWhenAllAreTrusted() {
+    assertThat(resolver.resolve(request("10.0.0.2", "10.0.0.1"))).isEqualTo("10.0.0.1");
+    assertThat(resolver.resolve(request("10.0.0.2", null))).isEqualTo("10.0.0.2");
+  }
+
+  @Test
+  void stopsAtHopsThatAreNotAddresses() {
+    var request = request("10.0.0.2", "198.51.100.99, unknown");
+
+    assertThat(resolver.resolve(request)).isEqualTo("unknown");
+  }
+
+  private static MockHttpServletRequest request(String remoteAddress, String forwardedFor) {
+    var request = new MockHttpServletRequest();
+    request.setRemoteAddr(remoteAddress);
+    if (forwardedFor != null) {
+      request.addHeader("X-Forwarded-For", forwardedFor);
+    }
+    return request;
+  }
+}
@@ -0,0 +1,42 @@
+package com.faisal.cardealer.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class LocalRateLimiterTests {
+  private final AtomicLong now = new AtomicLong(1_000_000_000L);
+  private final LocalRateLimiter limiter = new LocalRateLimiter(4, 1_000, Duration.ofMinutes(1), now::get);
+
+  @Test
+  void allowsBurstThenRefillsAtTheSustainedRate() {
+    var rule = new RateLimitRule("/auth/**", RateLimitRule.KeyType.IP, 5, Duration.ofSeconds(5));
+
+    for (int i = 0; i < 5; i++) {
+      assertThat(limiter.tryAcquire(rule, "ip:1")).isZero();
+    }
+
+    long wait = limiter.tryAcquire(rule, "ip:1");
+    assertThat(wait).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+    assertThat(limiter.tryAcquire(rule, "ip:2")).isZero();
+
+    now.addAndGet(wait);
+    assertThat(limiter.tryAcquire(rule, "ip:1")).isZero();
+    assertThat(limiter.tryAcquire(rule, "ip:1")).isPositive();
+  }
+
+  @Test
+  void parsesRuleSpec() {
+    var rules = RateLimitRule.parse("/auth/**=ip:10/PT1M, /users/**=principal:100/PT1S");
+
+    assertThat(rules).containsExactly(
+        new RateLimitRule("/auth/**", RateLimitRule.KeyType.IP, 10, Duration.ofMinutes(1)),
+        new RateLimitRule("/users/**", RateLimitRule.KeyType.PRINCIPAL, 100, Duration.ofSeconds(1)));
+    assertThatThrownBy(() -> RateLimitRule.parse("/auth/**=ip:0/PT1M")).isInstanceOf(IllegalArgumentException.class);
+  }
+}